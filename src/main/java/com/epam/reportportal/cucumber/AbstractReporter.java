@@ -17,6 +17,26 @@ package com.epam.reportportal.cucumber;
 
 import com.epam.reportportal.annotations.TestCaseId;
 import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import com.epam.reportportal.cucumber.history.DurationHistoryCollector;
+import com.epam.reportportal.cucumber.jfr.*;
+import com.epam.reportportal.cucumber.metrics.*;
+import com.epam.reportportal.cucumber.replay.EventRecorder;
+import com.epam.reportportal.cucumber.shard.ShardDurationsCollector;
+import com.epam.reportportal.cucumber.sink.CircuitBreakerReportingSink;
+import com.epam.reportportal.cucumber.sink.DeferredReportingSink;
+import com.epam.reportportal.cucumber.sink.ItemReportingSink;
+import com.epam.reportportal.cucumber.sink.JournalReportingSink;
+import com.epam.reportportal.cucumber.sink.JournalReplay;
+import com.epam.reportportal.cucumber.sink.LaunchReportingSink;
+import com.epam.reportportal.cucumber.sink.MeteredReportingSink;
+import com.epam.reportportal.cucumber.sink.PriorityReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingSink;
+import com.epam.reportportal.cucumber.sink.UploaderReportingSink;
+import com.epam.reportportal.cucumber.summary.RunSummary;
+import com.epam.reportportal.cucumber.summary.RunSummaryCollector;
+import com.epam.reportportal.cucumber.trace.TraceEventRecorder;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ItemType;
 import com.epam.reportportal.listeners.ListenerParameters;
@@ -30,6 +50,7 @@ import com.epam.reportportal.utils.*;
 import com.epam.reportportal.utils.files.ByteSource;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
 import com.epam.reportportal.utils.http.ContentType;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
 import com.epam.reportportal.utils.reflect.Accessible;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
@@ -54,9 +75,12 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -90,10 +114,24 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	protected static final String METHOD_OPENING_BRACKET = "(";
 	protected static final String DOCSTRING_DECORATOR = "\n\"\"\"\n";
 	private static final String ERROR_FORMAT = "Error:\n%s";
+	private static final String SKIPPED_STEPS_NAME_FORMAT = "%d step%s skipped";
+	private static final String PASSED_EXAMPLES_FORMAT = "Passed examples: %d";
+	private static final String BACKGROUND_NAME = "Background";
+	private static final String BACKGROUND_REFERENCE_FORMAT = "Background: %d passed step(s) are reported once in the feature";
 
 	private final Map<URI, FeatureContext> featureContextMap = new ConcurrentHashMap<>();
+	/**
+	 * Feature and Scenario contexts resolved once on Test Case start, to not look them up again on every step and hook event.
+	 */
+	private final Map<TestCase, Pair<FeatureContext, ScenarioContext>> testCaseContextMap = new ConcurrentHashMap<>();
 	private final TestItemTree itemTree = new TestItemTree();
-	private final ReportPortal rp = buildReportPortal();
+	/**
+	 * Properties are loaded once and shared by ReportPortal instance and reporter parameters.
+	 */
+	private final Supplier<PropertiesLoader> properties = new MemoizingSupplier<>(PropertiesLoader::load);
+	private final Supplier<ReporterParameters> reporterParameters = new MemoizingSupplier<>(this::buildReporterParameters);
+	/* lazy to not call overridable methods from the constructor */
+	private final Supplier<ReportPortal> rp = new MemoizingSupplier<>(this::buildReportPortal);
 
 	// There is no event for recognizing end of feature in Cucumber.
 	// This map is used to record the last scenario time and its feature uri.
@@ -109,6 +147,27 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	private final Map<Maybe<String>, Throwable> errorMap = new ConcurrentHashMap<>();
 
+	/**
+	 * Step summaries of scenarios, which steps were not reported as items, to put into scenario descriptions on finish.
+	 */
+	private final Map<Maybe<String>, String> summaryMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Attributes to add to items on finish, e.g. listener attributes of a scenario.
+	 */
+	private final Map<Maybe<String>, Set<ItemAttributesRQ>> finishAttributesMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Steps and hooks of the scenario, which is being executed on the current thread, if they are not reported immediately. Cucumber
+	 * sends all events of a Test Case on the thread which executes it.
+	 */
+	private final ThreadLocal<DeferredReportingSink> deferredSink = new ThreadLocal<>();
+
+	/**
+	 * The hook or step, which is being executed on the current thread, if it's not reported until it's finished.
+	 */
+	private final ThreadLocal<DeferredReportingSink> itemSink = new ThreadLocal<>();
+
 	/**
 	 * A method for creation a Start Launch request which will be sent to Report Portal. You can customize it by overriding the method.
 	 *
@@ -140,18 +199,23 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		return rq;
 	}
 
-	private final Supplier<Launch> launch = new MemoizingSupplier<>(new Supplier<>() {
+	/* should not be lazy */
+	private final Instant launchStartTime = Instant.now();
 
-		/* should not be lazy */
-		private final Instant startTime = Instant.now();
+	private final Supplier<StartLaunchRQ> startLaunchRq = new MemoizingSupplier<>(() -> buildStartLaunchRq(
+			launchStartTime,
+			getReportPortal().getParameters()
+	));
 
-		@Override
-		public Launch get() {
-			StartLaunchRQ rq = buildStartLaunchRq(startTime, getReportPortal().getParameters());
-			Launch myLaunch = getReportPortal().newLaunch(rq);
-			itemTree.setLaunchId(myLaunch.start());
-			return myLaunch;
-		}
+	private final Supplier<Launch> launch = new MemoizingSupplier<>(() -> getReportPortal().newLaunch(startLaunchRq.get()));
+
+	private final Supplier<Optional<ReporterMetrics>> metrics = new MemoizingSupplier<>(this::buildMetrics);
+
+	private final Supplier<List<ReporterListener>> listeners = new MemoizingSupplier<>(this::buildListeners);
+
+	private final Supplier<ReportingSink> reportingSink = new MemoizingSupplier<>(() -> {
+		ReportingSink sink = buildReportingSink();
+		return getMetrics().<ReportingSink>map(m -> new MeteredReportingSink(sink, m)).orElse(sink);
 	});
 
 	public AbstractReporter() {
@@ -181,7 +245,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	public ReportPortal getReportPortal() {
-		return rp;
+		return rp.get();
 	}
 
 	/**
@@ -192,20 +256,258 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		return launch.get();
 	}
 
+	/**
+	 * @return Cucumber agent specific parameters
+	 */
+	@Nonnull
+	public ReporterParameters getReporterParameters() {
+		return reporterParameters.get();
+	}
+
+	/**
+	 * @return a sink which receives all item, log and launch operations of the reporter
+	 */
+	@Nonnull
+	public ReportingSink getReportingSink() {
+		return reportingSink.get();
+	}
+
+	/**
+	 * @return reporter metrics, if they are enabled with {@link ReporterParameters#isMetricsEnabled()}
+	 */
+	@Nonnull
+	public Optional<ReporterMetrics> getMetrics() {
+		return metrics.get();
+	}
+
+	/**
+	 * @return launch reporter overhead, if it is enabled with {@link ReporterParameters#isOverheadEnabled()}
+	 */
+	@Nonnull
+	public Optional<ReporterOverhead> getOverhead() {
+		return getListener(OverheadCollector.class).map(OverheadCollector::getOverhead);
+	}
+
+	/**
+	 * @return duration statistics of step definitions, if they are enabled with {@link ReporterParameters#isStepStatisticsEnabled()}
+	 */
+	@Nonnull
+	public Optional<StepDefinitionStatistics> getStepStatistics() {
+		return getListener(StepStatisticsCollector.class).map(StepStatisticsCollector::getStatistics);
+	}
+
+	/**
+	 * @return results of the run, if their export is enabled with {@link ReporterParameters#getSummaryFile()}
+	 */
+	@Nonnull
+	public Optional<RunSummary> getRunSummary() {
+		return getListener(RunSummaryCollector.class).map(RunSummaryCollector::getSummary);
+	}
+
+	/**
+	 * @return listeners of the reporter
+	 */
+	@Nonnull
+	public List<ReporterListener> getListeners() {
+		return listeners.get();
+	}
+
+	@Nonnull
+	private <T extends ReporterListener> Optional<T> getListener(@Nonnull Class<T> type) {
+		return getListeners().stream().filter(type::isInstance).map(type::cast).findFirst();
+	}
+
+	/**
+	 * Callback reporting works with server-side item IDs, so it is available only if items are reported directly into the launch and
+	 * every step is reported as an item.
+	 *
+	 * @return true if Test Item Tree should be populated for callback reporting
+	 */
+	protected boolean isCallbackReportingEnabled() {
+		ReportingSink sink = getReportingSink();
+		if (sink instanceof MeteredReportingSink) {
+			sink = ((MeteredReportingSink) sink).getDelegate();
+		}
+		if (sink instanceof PriorityReportingSink) {
+			sink = ((PriorityReportingSink) sink).getDelegate();
+		}
+		return getReportPortal().getParameters().isCallbackReportingEnabled() && sink instanceof LaunchReportingSink
+				&& getReporterParameters().getGranularity() == ReportingGranularity.FULL
+				&& getReporterParameters().getOutlineGrouping() == OutlineGrouping.NONE && !getReporterParameters().isBackgroundOnce();
+	}
+
+	/**
+	 * @return sink for steps, hooks and logs of the current thread's scenario: a deferred one, if steps and hooks are not reported
+	 * immediately, or the reporting sink
+	 */
+	@Nonnull
+	protected ItemReportingSink getCurrentSink() {
+		return ofNullable((ItemReportingSink) itemSink.get()).orElseGet(this::getScenarioSink);
+	}
+
+	@Nonnull
+	private ItemReportingSink getScenarioSink() {
+		return ofNullable((ItemReportingSink) deferredSink.get()).orElseGet(this::getReportingSink);
+	}
+
 	/**
 	 * Manipulations before the launch starts
 	 */
 	protected void beforeLaunch() {
-		getLaunch();
+		itemTree.setLaunchId(getReportingSink().startLaunch(startLaunchRq.get()));
 	}
 
 	/**
-	 * Extension point to customize ReportPortal instance
+	 * Extension point to customize ReportPortal instance. Forked JVMs of the same build join one launch through the client's lock and
+	 * sync files (<code>rp.client.join</code>), which are placed into {@link ReporterParameters#getJoinDirectory()} if it is set.
 	 *
 	 * @return ReportPortal
 	 */
 	protected ReportPortal buildReportPortal() {
-		return ReportPortal.builder().build();
+		return ReportPortal.builder().withParameters(buildListenerParameters()).build();
+	}
+
+	/**
+	 * @return client parameters with launch join lock and sync files placed into {@link ReporterParameters#getJoinDirectory()}
+	 */
+	@Nonnull
+	ListenerParameters buildListenerParameters() {
+		ListenerParameters parameters = new ListenerParameters(properties.get());
+		Path joinDirectory = getReporterParameters().getJoinDirectory();
+		if (joinDirectory != null && parameters.isClientJoin()) {
+			try {
+				Files.createDirectories(joinDirectory);
+				parameters.setLockFileName(joinDirectory.resolve(parameters.getLockFileName()).toString());
+				parameters.setSyncFileName(joinDirectory.resolve(parameters.getSyncFileName()).toString());
+			} catch (IOException e) {
+				LOGGER.warn("Unable to create launch join directory: {}, using default lock files location", joinDirectory, e);
+			}
+		}
+		return parameters;
+	}
+
+	/**
+	 * Extension point to customize Cucumber agent specific parameters
+	 *
+	 * @return reporter parameters
+	 */
+	@Nonnull
+	protected ReporterParameters buildReporterParameters() {
+		return new ReporterParameters(properties.get());
+	}
+
+	/**
+	 * Creates reporter metrics, if they are enabled. Override to provide metrics shared between reporters.
+	 *
+	 * @return reporter metrics
+	 */
+	@Nonnull
+	protected Optional<ReporterMetrics> buildMetrics() {
+		return getReporterParameters().isMetricsEnabled() ? Optional.of(new ReporterMetrics()) : Optional.empty();
+	}
+
+	/**
+	 * Extension point to customize reporter features, which are not a part of item reporting. Listeners register their own handlers
+	 * before the reporter does, so they are called first and are not measured as reporter handlers. By default, listeners of enabled
+	 * features are created: reporter overhead, step definition statistics, duration history, trace, shard durations, run summary,
+	 * metrics, Java Flight Recorder events and event recording.
+	 *
+	 * @return reporter listeners
+	 */
+	@Nonnull
+	protected List<ReporterListener> buildListeners() {
+		ReporterParameters parameters = getReporterParameters();
+		List<ReporterListener> result = new ArrayList<>();
+		if (parameters.isOverheadEnabled()) {
+			result.add(new OverheadCollector(parameters.getOverheadScenarioThreshold()));
+		}
+		if (parameters.isStepStatisticsEnabled()) {
+			int top = parameters.getStepStatisticsTop();
+			result.add(new StepStatisticsCollector(this::getCodeRef, top, parameters.getStepStatisticsFile()));
+		}
+		Path historyFile = parameters.getHistoryFile();
+		if (historyFile != null) {
+			Function<TestCase, String> scenarioCodeRefs = t -> getCodeRef(t.getUri(), t.getLocation().getLine());
+			result.add(new DurationHistoryCollector(historyFile, this::getCodeRef, scenarioCodeRefs));
+		}
+		Path traceFile = parameters.getTraceFile();
+		if (traceFile != null) {
+			boolean attach = parameters.isTraceAttach();
+			if (attach && parameters.getReportingMode() != ReportingMode.DIRECT) {
+				String message = "Trace attachment is not supported in {} reporting mode, the trace is kept in file: {}";
+				LOGGER.warn(message, parameters.getReportingMode(), traceFile);
+				attach = false;
+			}
+			try {
+				result.add(new TraceEventRecorder(traceFile, attach, parameters.getTraceAttachLimit()));
+			} catch (IOException e) {
+				LOGGER.error("Unable to create trace file: {}", traceFile, e);
+			}
+		}
+		ofNullable(parameters.getShardFile()).ifPresent(f -> result.add(new ShardDurationsCollector(f)));
+		ofNullable(parameters.getSummaryFile()).ifPresent(f -> result.add(new RunSummaryCollector(f)));
+		getMetrics().ifPresent(m -> result.add(new MetricsCollector(m, parameters.isMetricsDump())));
+		result.add(new FlightRecorderListener());
+		Path recorderFile = parameters.getRecorderFile();
+		if (recorderFile != null) {
+			try {
+				result.add(new EventRecorder(recorderFile, parameters.isRecorderRedact()));
+			} catch (IOException e) {
+				LOGGER.error("Unable to create event recording file: {}", recorderFile, e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Extension point to customize the destination of reporting operations, e.g. to spool or batch them. By default, operations are
+	 * reported directly into the {@link Launch}, optionally with large attachments in a separate lane and protected with a circuit
+	 * breaker, into a local journal in {@link ReportingMode#SPOOL} mode or to a local uploader process in {@link ReportingMode#UPLOADER}
+	 * mode.
+	 *
+	 * @return reporting sink
+	 */
+	@Nonnull
+	protected ReportingSink buildReportingSink() {
+		ReporterParameters parameters = getReporterParameters();
+		if (parameters.getReportingMode() == ReportingMode.SPOOL) {
+			Path journal = parameters.getSpoolDirectory().resolve(launchStartTime.toEpochMilli() + "-" + UUID.randomUUID());
+			try {
+				return new JournalReportingSink(journal, parameters.getSpoolSegmentSize());
+			} catch (IOException e) {
+				LOGGER.error("Unable to create spool journal: {}, reporting directly", journal, e);
+			}
+		} else if (parameters.getReportingMode() == ReportingMode.UPLOADER) {
+			try {
+				return new UploaderReportingSink(parameters.getUploaderPort());
+			} catch (IOException e) {
+				LOGGER.error("Unable to connect to local uploader on port: {}, reporting directly", parameters.getUploaderPort(), e);
+			}
+		}
+		ReportingSink launchSink = new LaunchReportingSink(this::getLaunch);
+		if (parameters.isPriorityEnabled()) {
+			launchSink = new PriorityReportingSink(
+					launchSink,
+					getReportPortal().getClient(),
+					parameters.getPriorityAttachmentThreshold(),
+					parameters.getPriorityAttachmentConcurrency()
+			);
+		}
+		if (parameters.isCircuitBreakerEnabled()) {
+			String backlogName = JournalReplay.BACKLOG_PREFIX + launchStartTime.toEpochMilli() + "-" + UUID.randomUUID();
+			return new CircuitBreakerReportingSink(
+					launchSink,
+					parameters.getSpoolDirectory().resolve(backlogName),
+					parameters.getSpoolSegmentSize(),
+					parameters.getCircuitBreakerLatency(),
+					parameters.getCircuitBreakerErrors(),
+					parameters.getCircuitBreakerErrorPercent(),
+					parameters.getCircuitBreakerWindow(),
+					parameters.getCircuitBreakerInFlight(),
+					parameters.getCircuitBreakerProbeInterval()
+			);
+		}
+		return launchSink;
 	}
 
 	/**
@@ -213,11 +515,75 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	protected void afterLaunch() {
 		FinishExecutionRQ finishLaunchRq = new FinishExecutionRQ();
-		finishLaunchRq.setEndTime(Instant.now());
-		getLaunch().finish(finishLaunchRq);
+		Instant endTime = Instant.now();
+		finishLaunchRq.setEndTime(endTime);
+		Set<ItemAttributesRQ> attributes = new HashSet<>();
+		ReporterListener.LaunchFinish launchFinish = new ReporterListener.LaunchFinish() {
+			@Nonnull
+			@Override
+			public Instant getEndTime() {
+				return endTime;
+			}
+
+			@Override
+			public void addAttributes(@Nonnull Set<ItemAttributesRQ> launchAttributes) {
+				attributes.addAll(launchAttributes);
+			}
+
+			@Override
+			public void sendLog(@Nonnull String message) {
+				sendLaunchLog(message);
+			}
+
+			@Override
+			public void sendAttachment(@Nonnull String message, @Nonnull String mimeType, @Nonnull byte[] data) {
+				sendLaunchAttachment(message, mimeType, data);
+			}
+		};
+		getListeners().forEach(l -> l.finishLaunch(launchFinish));
+		if (!attributes.isEmpty()) {
+			finishLaunchRq.setAttributes(attributes);
+		}
+		getReportingSink().finishLaunch(finishLaunchRq);
+		getListeners().forEach(ReporterListener::afterLaunch);
+	}
+
+	private boolean isLaunchLogSupported(@Nonnull String message) {
+		ReportingMode mode = getReporterParameters().getReportingMode();
+		if (mode != ReportingMode.DIRECT) {
+			LOGGER.warn("Launch logs are not supported in {} reporting mode, skipping: {}", mode, message);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Send a text launch log entry with 'INFO' level. Launch logs are sent with the client directly, bypassing the reporting sink, so
+	 * they are available only in {@link ReportingMode#DIRECT} mode.
+	 *
+	 * @param message log message
+	 */
+	protected void sendLaunchLog(@Nonnull String message) {
+		if (isLaunchLogSupported(message)) {
+			ReportPortal.emitLaunchLog(message, LogLevel.INFO.name(), Instant.now());
+		}
+	}
+
+	/**
+	 * Send a launch log entry with a file attached, see {@link #sendLaunchLog(String)} for limitations.
+	 *
+	 * @param message  log message
+	 * @param mimeType attachment type
+	 * @param data     attachment content
+	 */
+	protected void sendLaunchAttachment(@Nonnull String message, @Nonnull String mimeType, @Nonnull byte[] data) {
+		if (isLaunchLogSupported(message)) {
+			ReportPortalMessage attachment = new ReportPortalMessage(ByteSource.wrap(data), mimeType, message);
+			ReportPortal.emitLaunchLog(attachment, LogLevel.INFO.name(), Instant.now());
+		}
 	}
 
-	private void addToTree(Feature feature, TestCase testCase, Maybe<String> scenarioId) {
+	private void addToTree(FeatureContext feature, TestCase testCase, Maybe<String> scenarioId) {
 		retrieveLeaf(feature.getUri(), itemTree).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
 				.put(createKey(testCase.getLocation().getLine()), TestItemTree.createTestItemLeaf(scenarioId)));
 	}
@@ -297,7 +663,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startScenario(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ startScenarioRq) {
-		return getLaunch().startTestItem(featureId, startScenarioRq);
+		return getCurrentSink().startTestItem(featureId, startScenarioRq);
 	}
 
 	@FunctionalInterface
@@ -307,13 +673,18 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	}
 
 	private void execute(@Nonnull TestCase testCase, @Nonnull ScenarioContextAware context) {
+		Pair<FeatureContext, ScenarioContext> resolved = testCaseContextMap.get(testCase);
+		if (resolved != null) {
+			context.executeWithContext(resolved.getKey(), resolved.getValue());
+			return;
+		}
 		URI uri = testCase.getUri();
 		int line = testCase.getLocation().getLine();
 		execute(
 				uri, f -> {
-					Optional<ScenarioContext> scenario = f.getScenario(line);
-					if (scenario.isPresent()) {
-						context.executeWithContext(f, scenario.get());
+					ScenarioContext scenario = f.findScenario(line);
+					if (scenario != null) {
+						context.executeWithContext(f, scenario);
 					} else {
 						LOGGER.warn("Unable to locate corresponding Feature or Scenario context for URI: {}; line: {}", uri, line);
 					}
@@ -321,7 +692,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		);
 	}
 
-	private void removeFromTree(Feature featureContext, TestCase scenarioContext) {
+	private void removeFromTree(FeatureContext featureContext, TestCase scenarioContext) {
 		retrieveLeaf(featureContext.getUri(), itemTree).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
 				.remove(createKey(scenarioContext.getLocation().getLine())));
 	}
@@ -334,17 +705,209 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	protected void afterScenario(TestCaseFinished event) {
 		TestCase testCase = event.getTestCase();
-		execute(
-				testCase, (f, s) -> {
-					URI featureUri = f.getUri();
-					if (mapItemStatus(event.getResult().getStatus()) == ItemStatus.FAILED) {
-						Optional.ofNullable(event.getResult().getError()).ifPresent(error -> errorMap.put(s.getId(), error));
+		DeferredReportingSink deferred = deferredSink.get();
+		try {
+			execute(
+					testCase, (f, s) -> {
+						URI featureUri = f.getUri();
+						ItemStatus status = mapItemStatus(event.getResult().getStatus());
+						OutlineContext outline = getOutlineGroup(s);
+						foldStepHookOutputs(s, s.getId());
+						reportSkippedSteps(s);
+						if (s.isBackgroundOwner()) {
+							finishBackground(f, s);
+						}
+						if (s.getCollapsedBackgroundSteps() > 0) {
+							String reference = format(BACKGROUND_REFERENCE_FORMAT, s.getCollapsedBackgroundSteps());
+							summaryMap.merge(s.getId(), reference, AbstractReporter::joinDescription);
+						}
+						if (status == ItemStatus.FAILED) {
+							Optional.ofNullable(event.getResult().getError()).ifPresent(error -> errorMap.put(s.getId(), error));
+						}
+						if (deferred != null && outline == null) {
+							completeDeferredItems(deferred, status);
+						}
+						Set<ItemAttributesRQ> attributes = new HashSet<>();
+						getListeners().forEach(l -> attributes.addAll(l.finishScenario(testCase)));
+						if (!attributes.isEmpty()) {
+							finishAttributesMap.put(s.getId(), attributes);
+						}
+						Instant endTime = finishTestItem(s.getId(), status, null);
+						if (deferred != null && outline != null) {
+							completeOutlineRow(f, s, outline, deferred, status);
+						}
+						if (outline != null && outline.finishRow()) {
+							finishOutline(f, outline, endTime);
+						}
+						featureEndTime.put(featureUri, endTime);
+						removeFromTree(f, testCase);
+						s.setTestCase(null);
 					}
-					Instant endTime = finishTestItem(s.getId(), mapItemStatus(event.getResult().getStatus()), null);
-					featureEndTime.put(featureUri, endTime);
-					removeFromTree(f.getFeature(), testCase);
-				}
-		);
+			);
+		} finally {
+			itemSink.remove();
+			deferredSink.remove();
+		}
+		testCaseContextMap.remove(testCase);
+	}
+
+	/**
+	 * Extension point to customize the summary item of steps, which were skipped after a scenario interruption and were not
+	 * reported one by one due to {@link ReporterParameters#isCollapseSkippedSteps()}. The summary item has statistics the same way
+	 * as step items have, so the skipped steps are counted in a launch as one skipped step.
+	 *
+	 * @param stepNames names of skipped steps
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildSkippedStepsRequest(@Nonnull List<String> stepNames) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(String.format(SKIPPED_STEPS_NAME_FORMAT, stepNames.size(), stepNames.size() == 1 ? "" : "s"));
+		rq.setDescription(stepNames.stream().map(n -> "- " + n).collect(Collectors.joining("\n")));
+		rq.setStartTime(Instant.now());
+		rq.setType(ItemType.STEP.name());
+		return rq;
+	}
+
+	private void reportSkippedSteps(@Nonnull ScenarioContext scenario) {
+		List<String> skippedSteps = scenario.getSkippedSteps();
+		if (skippedSteps.isEmpty()) {
+			return;
+		}
+		Maybe<String> summaryId = startStep(scenario.getId(), buildSkippedStepsRequest(skippedSteps));
+		finishTestItem(summaryId, ItemStatus.SKIPPED);
+		skippedSteps.clear();
+	}
+
+	/**
+	 * Report or drop steps and hooks of a finished scenario, which were not reported immediately due to
+	 * {@link ReporterParameters#getGranularity()}.
+	 *
+	 * @param deferred deferred steps and hooks of the scenario
+	 * @param status   scenario status
+	 */
+	protected void completeDeferredItems(@Nonnull DeferredReportingSink deferred, @Nullable ItemStatus status) {
+		ReporterParameters parameters = getReporterParameters();
+		if (parameters.getGranularity() == ReportingGranularity.FAILURES_DETAILED && status == ItemStatus.FAILED) {
+			deferred.materialize(getReportingSink());
+			return;
+		}
+		if (parameters.isGranularitySummary()) {
+			String summary = deferred.getSummary();
+			if (!summary.isEmpty()) {
+				summaryMap.put(deferred.getParentId(), summary);
+			}
+		}
+		deferred.discard(getReportingSink());
+	}
+
+	/**
+	 * Report a finished Scenario Outline row, which was not reported immediately due to
+	 * {@link ReporterParameters#getOutlineGrouping()}. Passed rows are remembered to be summarized on the group item, other rows
+	 * are reported as items with all their steps and hooks.
+	 *
+	 * @param feature  current feature context
+	 * @param scenario row scenario context
+	 * @param outline  the group of the row
+	 * @param deferred deferred scenario item, its steps and hooks
+	 * @param status   scenario status
+	 */
+	protected void completeOutlineRow(@Nonnull FeatureContext feature, @Nonnull ScenarioContext scenario,
+			@Nonnull OutlineContext outline, @Nonnull DeferredReportingSink deferred, @Nullable ItemStatus status) {
+		if (status != ItemStatus.PASSED) {
+			outline.setExpanded(true);
+			deferred.materialize(getReportingSink());
+			return;
+		}
+		outline.addPassedRow(getExamplesHeader(feature, scenario), feature.getTableRow(scenario.getCodeLine()));
+		deferred.discard(getReportingSink());
+	}
+
+	@Nonnull
+	private static List<String> getExamplesHeader(@Nonnull FeatureContext feature, @Nonnull ScenarioContext scenario) {
+		return scenario.getExamples().map(e -> feature.getTableHeader(e.getLine())).orElse(Collections.emptyList());
+	}
+
+	@Nullable
+	private OutlineContext getOutlineGroup(@Nonnull ScenarioContext scenario) {
+		switch (getReporterParameters().getOutlineGrouping()) {
+			case OUTLINE:
+				return scenario.getOutline().orElse(null);
+			case EXAMPLES:
+				return scenario.getExamples().orElse(null);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Extension point to customize the summary log of passed Scenario Outline rows
+	 *
+	 * @param outline the group of rows
+	 * @return log message
+	 */
+	@Nonnull
+	protected String buildPassedExamplesLog(@Nonnull OutlineContext outline) {
+		StringBuilder result = new StringBuilder(format(PASSED_EXAMPLES_FORMAT, outline.getPassedCount()));
+		outline.getPassedRows().forEach((header, rows) -> {
+			if (header.isEmpty()) {
+				return;
+			}
+			List<List<String>> table = new ArrayList<>(rows.size() + 1);
+			table.add(header);
+			table.addAll(rows);
+			result.append("\n\n").append(formatDataTable(table));
+		});
+		return result.toString();
+	}
+
+	/**
+	 * Extension point to customize the group item of Scenario Outline rows
+	 *
+	 * @param outline the group of rows
+	 * @param codeRef the group code reference
+	 * @return start test item request ready to send on RP
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartOutlineRequest(@Nonnull OutlineContext outline, @Nullable String codeRef) {
+		String name = outline.getName().isEmpty() ? NO_NAME : outline.getName();
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(buildName(outline.getKeyword(), AbstractReporter.COLON_INFIX, name));
+		rq.setCodeRef(codeRef);
+		rq.setStartTime(Instant.now());
+		rq.setType("SUITE");
+		return rq;
+	}
+
+	/**
+	 * Start the group item of Scenario Outline rows on Report Portal
+	 *
+	 * @param parentId  parent item id
+	 * @param outlineRq group start request
+	 * @return group item id
+	 */
+	@Nonnull
+	protected Maybe<String> startOutline(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ outlineRq) {
+		return getReportingSink().startTestItem(parentId, outlineRq);
+	}
+
+	/**
+	 * Finish the group item of Scenario Outline rows once its last row is finished, or with the feature if some rows did not run.
+	 * The group is locked, so a rerun of its row can't join it while it's being finished.
+	 */
+	private void finishOutline(@Nonnull FeatureContext feature, @Nonnull OutlineContext outline, @Nullable Instant endTime) {
+		synchronized (outline) {
+			if (!outline.isStarted()) {
+				return;
+			}
+			Instant time = ofNullable(endTime).orElseGet(Instant::now);
+			if (outline.getPassedCount() > 0) {
+				getReportingSink().log(outline.getId(), buildPassedExamplesLog(outline), LogLevel.INFO.name(), time);
+			}
+			finishTestItem(outline.getId(), outline.isExpanded() ? null : ItemStatus.PASSED, time);
+			feature.removeStartedOutline(outline);
+			outline.reset();
+		}
 	}
 
 	/**
@@ -368,9 +931,10 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	@Nullable
 	@SuppressWarnings("unchecked")
 	protected TestCaseIdEntry getTestCaseId(@Nonnull TestStep testStep, @Nullable String codeRef) {
+		ReflectionLookupEvent lookupEvent = ReflectionLookupEvent.start();
 		List<Argument> arguments = ((PickleStepTestStep) testStep).getDefinitionArgument();
 
-		return ofNullable(codeRef).flatMap(r -> {
+		TestCaseIdEntry testCaseId = ofNullable(codeRef).flatMap(r -> {
 			Pair<String, String> splitCodeRef = parseJavaCodeRef(codeRef);
 			Optional<Class<?>> testStepClass = getStepClass(splitCodeRef.getKey(), codeRef);
 			return testStepClass.flatMap(c -> getStepMethod(c, splitCodeRef.getValue()))
@@ -381,6 +945,18 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 							(List<Object>) ARGUMENTS_TRANSFORM.apply(arguments)
 					));
 		}).orElseGet(() -> getTestCaseId(codeRef, arguments));
+		completeLookup(lookupEvent, testStep, ReflectionLookupEvent.TEST_CASE_ID, codeRef);
+		return testCaseId;
+	}
+
+	private static void completeLookup(@Nullable ReflectionLookupEvent event, @Nonnull TestStep testStep, @Nonnull String lookup,
+			@Nullable String codeRef) {
+		if (testStep instanceof PickleStepTestStep) {
+			PickleStepTestStep step = (PickleStepTestStep) testStep;
+			ReflectionLookupEvent.complete(event, step.getUri(), step.getStep().getLine(), lookup, codeRef);
+		} else {
+			ReflectionLookupEvent.complete(event, null, 0, lookup, codeRef);
+		}
 	}
 
 	/**
@@ -416,7 +992,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startStep(@Nonnull Maybe<String> scenarioId, @Nonnull StartTestItemRQ startStepRq) {
-		return getLaunch().startTestItem(scenarioId, startStepRq);
+		return getCurrentSink().startTestItem(scenarioId, startStepRq);
 	}
 
 	private void addToTree(@Nonnull TestCase scenario, @Nullable String text, @Nullable Maybe<String> stepId) {
@@ -433,21 +1009,139 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	protected void beforeStep(@Nonnull TestCase testCase, @Nonnull PickleStepTestStep step) {
 		execute(
 				testCase, (f, s) -> {
-					String stepPrefix = step.getStep().getLocation().getLine() < s.getLine() ? BACKGROUND_PREFIX : null;
-					StartTestItemRQ rq = buildStartStepRequest(step, stepPrefix, step.getStep().getKeyword());
-					Maybe<String> stepId = startStep(s.getId(), rq);
-					if (rq.isHasStats()) {
-						descriptionsMap.put(stepId, ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
+					String stepPrefix = getStepPrefix(s, step);
+					if (stepPrefix == null && s.isBackgroundOwner()) {
+						finishBackground(f, s);
+					}
+					if (s.isInterrupted() && getReporterParameters().isCollapseSkippedSteps()) {
+						// the step is going to be skipped, it will be reported with others in a single summary item
+						return;
 					}
-					s.setStepId(stepId);
-					String stepText = step.getStep().getText();
-					if (getLaunch().getParameters().isCallbackReportingEnabled()) {
-						addToTree(testCase, stepText, stepId);
+					Maybe<String> parentId = s.getId();
+					// Background can't be reported under the feature if the scenario itself is deferred
+					if (stepPrefix != null && getReporterParameters().isBackgroundOnce() && deferredSink.get() == null) {
+						if (f.claimBackground()) {
+							f.setBackgroundId(startBackground(f.getId(), buildStartBackgroundRequest(f)));
+							s.setBackgroundOwner(true);
+						}
+						if (s.isBackgroundOwner()) {
+							parentId = f.getBackgroundId();
+						} else {
+							// the step is reported only if it fails or produces output
+							itemSink.set(new DeferredReportingSink(s.getId()));
+						}
 					}
+					reportStep(testCase, s, step, parentId);
 				}
 		);
 	}
 
+	/**
+	 * Extension point to customize the feature level Background item, which is reported once per feature due to
+	 * {@link ReporterParameters#isBackgroundOnce()}
+	 *
+	 * @param feature current feature context
+	 * @return start test item request ready to send on RP
+	 */
+	@Nonnull
+	@SuppressWarnings("unused")
+	protected StartTestItemRQ buildStartBackgroundRequest(@Nonnull FeatureContext feature) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(BACKGROUND_NAME);
+		rq.setStartTime(Instant.now());
+		rq.setType(getScenarioTestItemType());
+		return rq;
+	}
+
+	/**
+	 * Start the feature level Background item on Report Portal
+	 *
+	 * @param featureId    parent feature item id
+	 * @param backgroundRq Background start request
+	 * @return Background item id
+	 */
+	@Nonnull
+	protected Maybe<String> startBackground(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ backgroundRq) {
+		return getReportingSink().startTestItem(featureId, backgroundRq);
+	}
+
+	private void finishBackground(@Nonnull FeatureContext feature, @Nonnull ScenarioContext scenario) {
+		finishTestItem(feature.getBackgroundId());
+		scenario.setBackgroundOwner(false);
+	}
+
+	/**
+	 * Report or drop a finished Background step of a scenario, which doesn't own the feature level Background item.
+	 *
+	 * @param scenario current scenario context
+	 * @param step     deferred step item and its logs
+	 * @param status   step status
+	 */
+	protected void completeBackgroundStep(@Nonnull ScenarioContext scenario, @Nonnull DeferredReportingSink step,
+			@Nullable ItemStatus status) {
+		if (status == ItemStatus.FAILED || step.hasLogs()) {
+			step.materialize(getScenarioSink());
+		} else {
+			step.discard(getScenarioSink());
+			scenario.setCollapsedBackgroundSteps(scenario.getCollapsedBackgroundSteps() + 1);
+		}
+	}
+
+	/**
+	 * Check if the next step of the test case will not be reported as a separate item, since it's going to be skipped after the
+	 * scenario interruption and {@link ReporterParameters#isCollapseSkippedSteps()} is on.
+	 *
+	 * @param testCase Cucumber's TestCase object
+	 * @return <code>true</code> if the step is collapsed into a summary item
+	 */
+	protected boolean isStepCollapsed(@Nonnull TestCase testCase) {
+		Pair<FeatureContext, ScenarioContext> resolved = testCaseContextMap.get(testCase);
+		return resolved != null && resolved.getValue().isInterrupted() && getReporterParameters().isCollapseSkippedSteps();
+	}
+
+	private void reportStep(@Nonnull TestCase testCase, @Nonnull ScenarioContext scenario, @Nonnull PickleStepTestStep step,
+			@Nonnull Maybe<String> parentId) {
+		StartTestItemRQ rq = buildStartStepRequest(step, getStepPrefix(scenario, step), step.getStep().getKeyword());
+		Maybe<String> stepId = startStep(parentId, rq);
+		foldStepHookOutputs(scenario, stepId);
+		if (rq.isHasStats()) {
+			descriptionsMap.put(stepId, ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
+		}
+		scenario.setStepId(stepId);
+		String stepText = step.getStep().getText();
+		if (isCallbackReportingEnabled()) {
+			addToTree(testCase, stepText, stepId);
+		}
+	}
+
+	private void foldStepHookOutputs(@Nonnull ScenarioContext scenario, @Nonnull Maybe<String> itemId) {
+		List<DeferredReportingSink> outputs = scenario.getStepHookOutputs();
+		outputs.forEach(hook -> hook.discard(getCurrentSink(), itemId));
+		outputs.clear();
+	}
+
+	@Nonnull
+	private static List<ParameterResource> getExampleParameters(@Nonnull FeatureContext feature, @Nonnull ScenarioContext scenario) {
+		List<String> header = getExamplesHeader(feature, scenario);
+		List<String> row = feature.getTableRow(scenario.getCodeLine());
+		if (header.size() != row.size()) {
+			return Collections.emptyList();
+		}
+		List<ParameterResource> parameters = new ArrayList<>(header.size());
+		for (int i = 0; i < header.size(); i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(header.get(i));
+			parameter.setValue(row.get(i));
+			parameters.add(parameter);
+		}
+		return parameters;
+	}
+
+	@Nullable
+	private static String getStepPrefix(@Nonnull ScenarioContext scenario, @Nonnull PickleStepTestStep step) {
+		return step.getStep().getLocation().getLine() < scenario.getLine() ? BACKGROUND_PREFIX : null;
+	}
+
 	/**
 	 * Finish Cucumber step
 	 *
@@ -459,12 +1153,32 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	protected void afterStep(@Nonnull TestCase testCase, @Nonnull PickleStepTestStep testStep, @Nonnull Result result) {
 		execute(
 				testCase, (f, s) -> {
+					if (s.isInterrupted() && getReporterParameters().isCollapseSkippedSteps()) {
+						if (result.getStatus() == Status.SKIPPED) {
+							String keyword = testStep.getStep().getKeyword();
+							s.getSkippedSteps().add(Utils.buildName(getStepPrefix(s, testStep), keyword, getStepName(testStep)));
+							return;
+						}
+						// the step was not skipped despite the interruption, so it's reported as usual
+						reportStep(testCase, s, testStep, s.getId());
+					}
 					reportResult(result);
 					if (mapItemStatus(result.getStatus()) == ItemStatus.FAILED) {
 						Optional.ofNullable(result.getError()).ifPresent(error -> errorMap.put(s.getStepId(), error));
 					}
 					finishTestItem(s.getStepId(), mapItemStatus(result.getStatus()), null);
+					s.setLastStepId(s.getStepId());
 					s.setStepId(Maybe.empty());
+					DeferredReportingSink background = itemSink.get();
+					if (background != null) {
+						itemSink.remove();
+						// the step ID is local to the deferred sink
+						s.setLastStepId(null);
+						completeBackgroundStep(s, background, mapItemStatus(result.getStatus()));
+					}
+					if (result.getStatus() != Status.PASSED) {
+						s.setInterrupted(true);
+					}
 				}
 		);
 	}
@@ -518,7 +1232,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startHook(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return getLaunch().startTestItem(parentId, rq);
+		return getCurrentSink().startTestItem(parentId, rq);
 	}
 
 	/**
@@ -531,6 +1245,9 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		execute(
 				testCase, (f, s) -> {
 					StartTestItemRQ rq = buildStartHookRequest(testCase, testStep);
+					if (getReporterParameters().getHookPolicy() == HookReportingPolicy.FOLDED) {
+						itemSink.set(new DeferredReportingSink(s.getId()));
+					}
 					s.setHookId(startHook(s.getId(), rq));
 				}
 		);
@@ -550,10 +1267,45 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 					reportResult(result);
 					finishTestItem(s.getHookId(), mapItemStatus(result.getStatus()));
 					s.setHookId(Maybe.empty());
+					DeferredReportingSink hook = itemSink.get();
+					if (hook != null) {
+						itemSink.remove();
+						completeHook(s, step, hook, mapItemStatus(result.getStatus()));
+					}
+					if (result.getStatus() != Status.PASSED) {
+						s.setInterrupted(true);
+					}
 				}
 		);
 	}
 
+	/**
+	 * Report or fold a finished hook, which was not reported immediately due to {@link ReporterParameters#getHookPolicy()}. Failed
+	 * hooks are reported as items, output of passed step hooks is reported as logs of their step, other passed hooks are reported
+	 * as items only if they produced output.
+	 *
+	 * @param scenario current scenario context
+	 * @param step     a cucumber hook object
+	 * @param hook     deferred hook item and its logs
+	 * @param status   hook status
+	 */
+	protected void completeHook(@Nonnull ScenarioContext scenario, @Nonnull HookTestStep step, @Nonnull DeferredReportingSink hook,
+			@Nullable ItemStatus status) {
+		ItemReportingSink target = getScenarioSink();
+		if (status == ItemStatus.FAILED) {
+			hook.materialize(target);
+		} else if (!hook.hasLogs()) {
+			hook.discard(target);
+		} else if (step.getHookType() == HookType.BEFORE_STEP) {
+			// the step is not started yet
+			scenario.getStepHookOutputs().add(hook);
+		} else if (step.getHookType() == HookType.AFTER_STEP) {
+			hook.discard(target, ofNullable(scenario.getLastStepId()).orElseGet(scenario::getId));
+		} else {
+			hook.materialize(target);
+		}
+	}
+
 	/**
 	 * Return RP launch test item name mapped to Cucumber feature
 	 *
@@ -576,7 +1328,12 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 * @param result - Cucumber result object
 	 */
 	protected void reportResult(@Nonnull Result result) {
-		ofNullable(result.getError()).ifPresent(ReportPortal::sendStackTraceToRP);
+		ofNullable(result.getError()).ifPresent(error -> getCurrentSink().log(
+				null,
+				formatStackTrace(error),
+				LogLevel.ERROR.name(),
+				Instant.now()
+		));
 	}
 
 	@Nullable
@@ -600,7 +1357,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		String type = ofNullable(mimeType).filter(ContentType::isValidType).orElseGet(() -> getDataType(data, name));
 		String attachmentName = ofNullable(name).filter(m -> !m.isEmpty())
 				.orElseGet(() -> ofNullable(type).map(t -> t.substring(0, t.indexOf("/"))).orElse(""));
-		ReportPortal.emitLog(new ReportPortalMessage(ByteSource.wrap(data), type, attachmentName), LogLevel.INFO.name(), Instant.now());
+		getCurrentSink().attach(null, attachmentName, type, data, LogLevel.INFO.name(), Instant.now());
 	}
 
 	/**
@@ -609,7 +1366,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 * @param message a text message
 	 */
 	protected void sendLog(@Nullable String message) {
-		ReportPortal.emitLog(message, LogLevel.INFO.name(), Instant.now());
+		getCurrentSink().log(null, message, LogLevel.INFO.name(), Instant.now());
 	}
 
 	@Nonnull
@@ -621,8 +1378,11 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 * @param rule    the rule node
 	 * @param codeRef the rule code reference
 	 * @return start test item request ready to send on RP
+	 * @deprecated the reporter does not retain Gherkin nodes and never calls this method, override
+	 * {@link #buildStartRuleRequest(RuleContext, String)} instead
 	 */
 	@Nonnull
+	@Deprecated
 	protected StartTestItemRQ buildStartRuleRequest(@Nonnull Node.Rule rule, @Nullable String codeRef) {
 		String ruleKeyword = rule.getKeyword().orElse("");
 		String ruleName = rule.getName().orElse(NO_NAME);
@@ -634,6 +1394,25 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		return rq;
 	}
 
+	/**
+	 * Extension point to customize scenario creation event/request
+	 *
+	 * @param rule    the rule context
+	 * @param codeRef the rule code reference
+	 * @return start test item request ready to send on RP
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartRuleRequest(@Nonnull RuleContext rule, @Nullable String codeRef) {
+		String ruleKeyword = rule.getKeyword().orElse("");
+		String ruleName = rule.getName().orElse(NO_NAME);
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(buildName(ruleKeyword, AbstractReporter.COLON_INFIX, ruleName));
+		rq.setCodeRef(codeRef);
+		rq.setStartTime(Instant.now());
+		rq.setType("SUITE");
+		return rq;
+	}
+
 	/**
 	 * Start Rule item on Report Portal
 	 *
@@ -643,7 +1422,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startRule(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ ruleRq) {
-		return getLaunch().startTestItem(featureId, ruleRq);
+		return getReportingSink().startTestItem(featureId, ruleRq);
 	}
 
 	/**
@@ -651,55 +1430,86 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 *
 	 * @param feature  current feature object
 	 * @param scenario current scenario object
+	 * @deprecated the reporter does not retain Gherkin Features and never calls this method, override
+	 * {@link #beforeScenario(FeatureContext, TestCase)} instead
 	 */
+	@Deprecated
 	protected void beforeScenario(@Nonnull Feature feature, @Nonnull TestCase scenario) {
+		execute(scenario, (f, s) -> beforeScenario(f, scenario));
+	}
+
+	/**
+	 * Start Cucumber scenario
+	 *
+	 * @param feature  current feature context
+	 * @param scenario current scenario object
+	 */
+	protected void beforeScenario(@Nonnull FeatureContext feature, @Nonnull TestCase scenario) {
 		String scenarioName = Utils.buildName(scenario.getKeyword(), AbstractReporter.COLON_INFIX, scenario.getName());
 		execute(
 				scenario, (f, s) -> {
+					s.setInterrupted(false);
+					s.getSkippedSteps().clear();
+					s.getStepHookOutputs().clear();
+					s.setLastStepId(null);
+					s.setBackgroundOwner(false);
+					s.setCollapsedBackgroundSteps(0);
+					OutlineContext outline = getOutlineGroup(s);
 					Optional<RuleContext> rule = s.getRule();
 					Optional<RuleContext> currentRule = f.getCurrentRule();
 					if (!currentRule.equals(rule)) {
-						if (currentRule.isEmpty()) {
-							rule.ifPresent(r -> {
-								r.setId(startRule(
-										f.getId(),
-										buildStartRuleRequest(r.getRule(), getCodeRef(feature.getUri(), r.getLine()))
-								));
-								f.setCurrentRule(r);
-							});
-						} else {
-							finishTestItem(currentRule.get().getId());
-							rule.ifPresent(r -> {
-								r.setId(startRule(
-										f.getId(),
-										buildStartRuleRequest(r.getRule(), getCodeRef(feature.getUri(), r.getLine()))
-								));
-								f.setCurrentRule(r);
-							});
-						}
+						currentRule.ifPresent(r -> finishRule(f, r, null));
+						rule.ifPresent(r -> {
+							RuleEvent ruleEvent = RuleEvent.start();
+							r.setId(startRule(f.getId(), buildStartRuleRequest(r, getCodeRef(feature.getUri(), r.getLine()))));
+							f.setCurrentRule(r);
+							ItemEvent.complete(ruleEvent, ItemEvent.START, f.getUri(), r.getLine());
+						});
 					}
 					Maybe<String> rootId = rule.map(RuleContext::getId).orElseGet(f::getId);
-
-					// If it's a ScenarioOutline use Example's line number as code reference to detach one Test Item from another
-					int codeLine = s.getExample().map(e -> e.getLocation().getLine()).orElse(s.getLine());
-					StartTestItemRQ startTestItemRQ = buildStartScenarioRequest(scenario, scenarioName, s.getUri(), codeLine);
+					if (outline != null) {
+						Maybe<String> outlineParentId = rootId;
+						rootId = outline.startRow(() -> {
+							f.addStartedOutline(outline);
+							String codeRef = getCodeRef(feature.getUri(), outline.getLine());
+							return startOutline(outlineParentId, buildStartOutlineRequest(outline, codeRef));
+						});
+						// the row is reported only if it doesn't pass, so the scenario itself is deferred
+						deferredSink.set(new DeferredReportingSink(rootId));
+					}
+					StartTestItemRQ startTestItemRQ = buildStartScenarioRequest(scenario, scenarioName, s.getUri(), s.getCodeLine());
+					if (outline != null) {
+						startTestItemRQ.setParameters(getExampleParameters(f, s));
+					}
 					s.setId(startScenario(rootId, startTestItemRQ));
 					descriptionsMap.put(s.getId(), ofNullable(startTestItemRQ.getDescription()).orElse(StringUtils.EMPTY));
-					if (getLaunch().getParameters().isCallbackReportingEnabled()) {
+					if (outline == null && getReporterParameters().getGranularity() != ReportingGranularity.FULL) {
+						deferredSink.set(new DeferredReportingSink(s.getId()));
+					}
+					if (isCallbackReportingEnabled()) {
 						addToTree(feature, scenario, s.getId());
 					}
 				}
 		);
 	}
 
+	private void finishRule(@Nonnull FeatureContext feature, @Nonnull RuleContext rule, @Nullable Instant endTime) {
+		RuleEvent ruleEvent = RuleEvent.start();
+		finishTestItem(rule.getId(), null, endTime);
+		ItemEvent.complete(ruleEvent, ItemEvent.FINISH, feature.getUri(), rule.getLine());
+	}
+
 	/**
 	 * Extension point to customize feature creation event/request
 	 *
 	 * @param feature a Cucumber's Feature object
 	 * @param uri     a path to the feature
 	 * @return Request to ReportPortal
+	 * @deprecated the reporter does not retain Gherkin Features and never calls this method, override
+	 * {@link #buildStartFeatureRequest(FeatureContext, URI)} instead
 	 */
 	@Nonnull
+	@Deprecated
 	protected StartTestItemRQ buildStartFeatureRequest(@Nonnull Feature feature, @Nonnull URI uri) {
 		String featureKeyword = feature.getKeyword().orElse("");
 		String featureName = feature.getName().orElse(NO_NAME);
@@ -707,7 +1517,28 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		startFeatureRq.setDescription(getDescription(feature, uri));
 		startFeatureRq.setCodeRef(getCodeRef(uri, 0));
 		startFeatureRq.setName(buildName(featureKeyword, AbstractReporter.COLON_INFIX, featureName));
-		execute(feature.getUri(), f -> startFeatureRq.setAttributes(extractAttributes(f.getTags())));
+		execute(uri, f -> startFeatureRq.setAttributes(extractAttributes(f.getTags())));
+		startFeatureRq.setStartTime(Instant.now());
+		startFeatureRq.setType(getFeatureTestItemType());
+		return startFeatureRq;
+	}
+
+	/**
+	 * Extension point to customize feature creation event/request
+	 *
+	 * @param feature a feature context
+	 * @param uri     a path to the feature
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartFeatureRequest(@Nonnull FeatureContext feature, @Nonnull URI uri) {
+		String featureKeyword = feature.getKeyword().orElse("");
+		String featureName = feature.getName().orElse(NO_NAME);
+		StartTestItemRQ startFeatureRq = new StartTestItemRQ();
+		startFeatureRq.setDescription(getDescription(feature, uri));
+		startFeatureRq.setCodeRef(getCodeRef(uri, 0));
+		startFeatureRq.setName(buildName(featureKeyword, AbstractReporter.COLON_INFIX, featureName));
+		startFeatureRq.setAttributes(extractAttributes(feature.getTags()));
 		startFeatureRq.setStartTime(Instant.now());
 		startFeatureRq.setType(getFeatureTestItemType());
 		return startFeatureRq;
@@ -722,10 +1553,10 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	@Nonnull
 	protected Maybe<String> startFeature(@Nonnull StartTestItemRQ startFeatureRq) {
 		Optional<Maybe<String>> root = getRootItemId();
-		return root.map(r -> getLaunch().startTestItem(r, startFeatureRq)).orElseGet(() -> getLaunch().startTestItem(startFeatureRq));
+		return getReportingSink().startTestItem(root.orElse(null), startFeatureRq);
 	}
 
-	private void addToTree(Feature feature, Maybe<String> featureId) {
+	private void addToTree(FeatureContext feature, Maybe<String> featureId) {
 		getItemTree().getTestItems().put(createKey(feature.getUri()), TestItemTree.createTestItemLeaf(featureId));
 	}
 
@@ -741,19 +1572,22 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 				uri, f -> {
 					//noinspection ReactiveStreamsUnusedPublisher
 					if (f.getId().equals(Maybe.empty())) {
+						FeatureEvent featureEvent = FeatureEvent.start();
 						getRootItemId(); // trigger root item creation
-						StartTestItemRQ featureRq = buildStartFeatureRequest(f.getFeature(), uri);
+						StartTestItemRQ featureRq = buildStartFeatureRequest(f, uri);
 						f.setId(startFeature(featureRq));
-						if (getLaunch().getParameters().isCallbackReportingEnabled()) {
-							addToTree(f.getFeature(), f.getId());
+						if (isCallbackReportingEnabled()) {
+							addToTree(f, f.getId());
 						}
+						ItemEvent.complete(featureEvent, ItemEvent.START, uri, f.getLine());
 					}
 				}
 		);
 		execute(
 				testCase, (f, s) -> {
+					testCaseContextMap.put(testCase, Pair.of(f, s));
 					s.setTestCase(testCase);
-					beforeScenario(f.getFeature(), testCase);
+					beforeScenario(f, testCase);
 				}
 		);
 	}
@@ -826,6 +1660,14 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Override
 	public void setEventPublisher(EventPublisher publisher) {
+		List<HandlerInterceptor> interceptors = new ArrayList<>();
+		for (ReporterListener listener : getListeners()) {
+			listener.register(publisher);
+			ofNullable(listener.getInterceptor()).ifPresent(interceptors::add);
+		}
+		if (!interceptors.isEmpty()) {
+			publisher = new InterceptingEventPublisher(publisher, interceptors);
+		}
 		publisher.registerHandlerFor(TestRunStarted.class, getTestRunStartedHandler());
 		publisher.registerHandlerFor(TestSourceParsed.class, getTestSourceParsedHandler());
 		publisher.registerHandlerFor(TestCaseStarted.class, getTestCaseStartedHandler());
@@ -837,18 +1679,22 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		publisher.registerHandlerFor(WriteEvent.class, getWriteEventHandler());
 	}
 
-	private void removeFromTree(Feature feature) {
+	private void removeFromTree(FeatureContext feature) {
 		itemTree.getTestItems().remove(createKey(feature.getUri()));
 	}
 
 	protected void handleEndOfFeature() {
 		featureContextMap.values().forEach(f -> {
+			FeatureEvent featureEvent = FeatureEvent.start();
 			Instant featureCompletionDateTime = featureEndTime.get(f.getUri());
-			f.getCurrentRule().ifPresent(r -> finishTestItem(r.getId(), null, featureCompletionDateTime));
+			f.getStartedOutlines().forEach(o -> finishOutline(f, o, featureCompletionDateTime));
+			f.getCurrentRule().ifPresent(r -> finishRule(f, r, featureCompletionDateTime));
 			finishTestItem(f.getId(), null, featureCompletionDateTime);
-			removeFromTree(f.getFeature());
+			removeFromTree(f);
+			ItemEvent.complete(featureEvent, ItemEvent.FINISH, f.getUri(), f.getLine());
 		});
 		featureContextMap.clear();
+		testCaseContextMap.clear();
 	}
 
 	protected void handleTestStepStarted(@Nonnull TestStepStarted event) {
@@ -887,19 +1733,43 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	protected FinishTestItemRQ buildFinishTestItemRequest(@Nonnull Maybe<String> itemId, @Nullable Instant finishTime,
 			@Nullable ItemStatus status) {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
+		// Always clean up, otherwise descriptions of passed items are kept until the end of the launch
+		Optional<String> summary = Optional.ofNullable(summaryMap.remove(itemId));
+		Optional<String> currentDescription = Optional.ofNullable(descriptionsMap.remove(itemId))
+				.map(description -> summary.map(text -> joinDescription(description, text)).orElse(description));
+		Optional<Throwable> currentError = Optional.ofNullable(errorMap.remove(itemId));
 		if (status == ItemStatus.FAILED) {
-			Optional<String> currentDescription = Optional.ofNullable(descriptionsMap.remove(itemId));
-			Optional<Throwable> currentError = Optional.ofNullable(errorMap.remove(itemId));
 			currentDescription.flatMap(description -> currentError.map(errorMessage -> resolveDescriptionErrorMessage(
 					description,
 					errorMessage
 			))).ifPresent(rq::setDescription);
+		} else if (summary.isPresent()) {
+			currentDescription.ifPresent(rq::setDescription);
 		}
 		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
+		ofNullable(finishAttributesMap.remove(itemId)).ifPresent(rq::setAttributes);
 		rq.setEndTime(finishTime);
 		return rq;
 	}
 
+	@Nonnull
+	private static String joinDescription(@Nonnull String description, @Nonnull String text) {
+		return StringUtils.isBlank(description) ? text : MarkdownUtils.asTwoParts(description, text);
+	}
+
+	/**
+	 * Format an error stack trace, truncating framework frames if it's configured.
+	 *
+	 * @param error an error to format
+	 * @return stack trace
+	 */
+	@Nonnull
+	private String formatStackTrace(@Nonnull Throwable error) {
+		return getReportPortal().getParameters().isExceptionTruncate() ?
+				getStackTrace(error, new Throwable()) :
+				ExceptionUtils.getStackTrace(error);
+	}
+
 	/**
 	 * Resolve description
 	 *
@@ -908,9 +1778,7 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 * @return Description with error
 	 */
 	private String resolveDescriptionErrorMessage(String currentDescription, Throwable error) {
-		String errorStr = getReportPortal().getParameters().isExceptionTruncate() ?
-				format(ERROR_FORMAT, getStackTrace(error, new Throwable())) :
-				format(ERROR_FORMAT, ExceptionUtils.getStackTrace(error));
+		String errorStr = format(ERROR_FORMAT, formatStackTrace(error));
 		return Optional.ofNullable(currentDescription)
 				.filter(StringUtils::isNotBlank)
 				.map(description -> MarkdownUtils.asTwoParts(currentDescription, errorStr))
@@ -932,11 +1800,20 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 		}
 		Instant endTime = ofNullable(dateTime).orElse(Instant.now());
 		FinishTestItemRQ rq = buildFinishTestItemRequest(itemId, endTime, status);
-		//noinspection ReactiveStreamsUnusedPublisher
-		getLaunch().finishTestItem(itemId, rq);
+		getItemSink(itemId).finishTestItem(itemId, rq);
 		return endTime;
 	}
 
+	@Nonnull
+	private ItemReportingSink getItemSink(@Nonnull Maybe<String> itemId) {
+		DeferredReportingSink hook = itemSink.get();
+		if (hook != null && hook.isDeferred(itemId)) {
+			return hook;
+		}
+		DeferredReportingSink deferred = deferredSink.get();
+		return deferred != null && deferred.isDeferred(itemId) ? deferred : getReportingSink();
+	}
+
 	/**
 	 * Map Cucumber statuses to RP item statuses
 	 *
@@ -1026,6 +1903,14 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 */
 	@Nullable
 	protected String getCodeRef(@Nonnull TestStep testStep) {
+		ReflectionLookupEvent lookupEvent = ReflectionLookupEvent.start();
+		String codeRef = lookupCodeRef(testStep);
+		completeLookup(lookupEvent, testStep, ReflectionLookupEvent.CODE_REF, codeRef);
+		return codeRef;
+	}
+
+	@Nullable
+	private static String lookupCodeRef(@Nonnull TestStep testStep) {
 		String cucumberLocation = testStep.getCodeLocation();
 		try {
 			Object stepDefinitionMatch = Accessible.on(testStep).field(DEFINITION_MATCH_FIELD_NAME).getValue();
@@ -1145,13 +2030,29 @@ public abstract class AbstractReporter implements ConcurrentEventListener {
 	 * @param feature a Cucumber's Feature object
 	 * @param uri     a feature URI
 	 * @return item description
+	 * @deprecated the reporter does not retain Gherkin Features and never calls this method, override
+	 * {@link #getDescription(FeatureContext, URI)} instead
 	 */
 	@Nonnull
+	@Deprecated
 	@SuppressWarnings("unused")
 	protected String getDescription(Feature feature, @Nonnull URI uri) {
 		return uri.toString();
 	}
 
+	/**
+	 * Build an item description for a feature
+	 *
+	 * @param feature a feature context
+	 * @param uri     a feature URI
+	 * @return item description
+	 */
+	@Nonnull
+	@SuppressWarnings("unused")
+	protected String getDescription(@Nonnull FeatureContext feature, @Nonnull URI uri) {
+		return uri.toString();
+	}
+
 	/**
 	 * Build an item description for a scenario
 	 *
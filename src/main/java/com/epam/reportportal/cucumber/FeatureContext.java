@@ -20,61 +20,153 @@ import io.cucumber.core.gherkin.Feature;
 import io.cucumber.plugin.event.Node;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Optional.ofNullable;
 
+/**
+ * Context of a feature file. The context keeps only the data which the reporter reads: the feature name, tags, scenario lines and
+ * cells of Examples tables, and does not retain the Gherkin {@link Feature} with its source, so a Feature is not kept in memory by the
+ * reporter for the whole run.
+ */
 public class FeatureContext {
 
 	private final URI uri;
-	private final Feature feature;
-	private final Map<Integer, ScenarioContext> scenarios = new HashMap<>();
+	private final int line;
+	private final String keyword;
+	private final String name;
 	private final Set<String> tags;
+	private final WeakReference<Feature> feature;
+
+	// Scenarios sorted by their Test Case line numbers, to look them up with a binary search and without boxing
+	private final int[] scenarioLines;
+	private final ScenarioContext[] scenarios;
+
+	// Cells of Examples table rows by scenario index and of Examples table headers by index of sorted Examples keyword lines
+	private final List<List<String>> tableRows;
+	private int[] tableHeaderLines = new int[0];
+	private final List<List<String>> tableHeaders = new ArrayList<>();
 
 	private Maybe<String> id = Maybe.empty();
 	private RuleContext currentRule;
+	// Started groups of Scenario Outline rows, rows of different groups may run in parallel
+	private final Set<OutlineContext> startedOutlines = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean backgroundClaimed = new AtomicBoolean();
+	private volatile Maybe<String> backgroundId = Maybe.empty();
 
-	private void handleNode(@Nonnull Deque<RuleContext> ruleQueue, @Nonnull URI uri, @Nonnull Node node) {
+	private static void handleNode(@Nonnull List<ScenarioContext> scenarios, @Nonnull Deque<RuleContext> ruleQueue, @Nonnull URI uri,
+			@Nonnull Node node) {
 		if (node instanceof Node.Rule) {
 			Node.Rule rule = (Node.Rule) node;
 			RuleContext ruleContext = new RuleContext(uri, (Node.Rule) node);
 			ruleQueue.add(ruleContext);
-			rule.elements().forEach(n -> handleNode(ruleQueue, uri, n));
+			rule.elements().forEach(n -> handleNode(scenarios, ruleQueue, uri, n));
 		}
 		if (node instanceof Node.Scenario) {
-			Node.Scenario scenario = (Node.Scenario) node;
-			int line = scenario.getLocation().getLine();
-			scenarios.put(line, new ScenarioContext(uri, ruleQueue.peekLast(), scenario));
+			scenarios.add(new ScenarioContext(uri, ruleQueue.peekLast(), (Node.Scenario) node));
 		}
 		if (node instanceof Node.ScenarioOutline) {
 			Node.ScenarioOutline scenarioOutline = (Node.ScenarioOutline) node;
-			scenarioOutline.elements()
-					.stream()
-					.flatMap(e -> e.elements().stream())
-					.forEach(e -> scenarios.put(
-							e.getLocation().getLine(),
-							new ScenarioContext(uri, ruleQueue.peekLast(), scenarioOutline, e)
-					));
+			OutlineContext outlineContext = new OutlineContext(uri, scenarioOutline);
+			RuleContext rule = ruleQueue.peekLast();
+			scenarioOutline.elements().forEach(examples -> {
+				OutlineContext examplesContext = new OutlineContext(uri, scenarioOutline, examples);
+				examples.elements()
+						.forEach(e -> scenarios.add(new ScenarioContext(uri, rule, scenarioOutline, e, outlineContext, examplesContext)));
+			});
 		}
 	}
 
-	private <T extends Node> void handleNodes(@Nonnull URI uri, @Nonnull Collection<T> nodes) {
+	@Nonnull
+	private static <T extends Node> List<ScenarioContext> handleNodes(@Nonnull URI uri, @Nonnull Collection<T> nodes) {
+		List<ScenarioContext> scenarios = new ArrayList<>();
 		Deque<RuleContext> ruleQueue = new LinkedList<>();
-		nodes.forEach(n -> handleNode(ruleQueue, uri, n));
+		nodes.forEach(n -> handleNode(scenarios, ruleQueue, uri, n));
+		// Test Case line is the Scenario line for simple scenarios and the Example row line for Scenario Outlines
+		scenarios.sort(Comparator.comparingInt(ScenarioContext::getCodeLine));
+		return scenarios;
 	}
 
 	public FeatureContext(@Nonnull URI featureUri, @Nonnull Feature featureNode) {
 		uri = featureUri;
-		feature = featureNode;
-		handleNodes(featureUri, featureNode.elements());
+		line = featureNode.getLocation().getLine();
+		keyword = featureNode.getKeyword().orElse(null);
+		name = featureNode.getName().orElse(null);
+		feature = new WeakReference<>(featureNode);
+		List<ScenarioContext> scenarioList = handleNodes(featureUri, featureNode.elements());
+		scenarios = scenarioList.toArray(new ScenarioContext[0]);
+		scenarioLines = new int[scenarios.length];
+		for (int i = 0; i < scenarios.length; i++) {
+			scenarioLines[i] = scenarios[i].getCodeLine();
+		}
 		tags = Utils.getTags(featureNode);
+		tableRows = new ArrayList<>(Collections.nCopies(scenarios.length, Collections.emptyList()));
+		readTables(featureNode.getSource());
 	}
 
-	@Nonnull
+	/**
+	 * Read cells of Examples tables, which are used in Examples row parameters and passed row summaries.
+	 *
+	 * @param source feature source
+	 */
+	private void readTables(@Nonnull String source) {
+		int[] offsets = null;
+		int[] headerLines = new int[4];
+		for (int i = 0; i < scenarios.length; i++) {
+			OutlineContext examples = scenarios[i].getExamples().orElse(null);
+			if (examples == null) {
+				continue;
+			}
+			if (offsets == null) {
+				offsets = getLineOffsets(source);
+			}
+			tableRows.set(i, getTableRow(source, offsets, scenarios[i].getCodeLine()));
+			// rows are sorted by line, so rows of an Examples block follow each other and blocks come in the order of their lines
+			int headerCount = tableHeaders.size();
+			if (headerCount == 0 || headerLines[headerCount - 1] != examples.getLine()) {
+				if (headerCount == headerLines.length) {
+					headerLines = Arrays.copyOf(headerLines, headerCount * 2);
+				}
+				headerLines[headerCount] = examples.getLine();
+				tableHeaders.add(getTableHeader(source, offsets, examples.getLine()));
+			}
+		}
+		tableHeaderLines = Arrays.copyOf(headerLines, tableHeaders.size());
+	}
+
+	/**
+	 * Returns the Gherkin Feature, the context does not retain it, so it is available only while the Cucumber runtime keeps it.
+	 *
+	 * @return Cucumber's Feature object or null if it is already garbage collected
+	 * @deprecated use the context's properties instead
+	 */
+	@Nullable
+	@Deprecated
 	public Feature getFeature() {
-		return feature;
+		return feature.get();
+	}
+
+	/**
+	 * @return line number of the Feature keyword
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	@Nonnull
+	public Optional<String> getKeyword() {
+		return ofNullable(keyword);
+	}
+
+	@Nonnull
+	public Optional<String> getName() {
+		return ofNullable(name);
 	}
 
 	@Nonnull
@@ -96,9 +188,34 @@ public class FeatureContext {
 		this.id = id;
 	}
 
+	/**
+	 * Returns a Scenario context by Test Case line number.
+	 *
+	 * @param line Test Case line number
+	 * @return Scenario context or null if there is no Scenario on the line
+	 */
+	@Nullable
+	public ScenarioContext findScenario(int line) {
+		int index = Arrays.binarySearch(scenarioLines, line);
+		return index >= 0 ? scenarios[index] : null;
+	}
+
+	@Nonnull
+	public Optional<ScenarioContext> getScenario(int line) {
+		return ofNullable(findScenario(line));
+	}
+
+	/**
+	 * Returns a Scenario context by Test Case line number.
+	 *
+	 * @param line Test Case line number
+	 * @return Scenario context or empty if there is no Scenario on the line
+	 * @deprecated use {@link #getScenario(int)}, kept for binary compatibility
+	 */
+	@Deprecated
 	@Nonnull
 	public Optional<ScenarioContext> getScenario(@Nonnull Integer line) {
-		return ofNullable(scenarios.get(line));
+		return getScenario(line.intValue());
 	}
 
 	@Nonnull
@@ -109,4 +226,123 @@ public class FeatureContext {
 	public void setCurrentRule(@Nonnull RuleContext rule) {
 		currentRule = rule;
 	}
+
+	/**
+	 * @return started groups of Scenario Outline rows, which are not finished yet
+	 */
+	@Nonnull
+	public Collection<OutlineContext> getStartedOutlines() {
+		return new ArrayList<>(startedOutlines);
+	}
+
+	public void addStartedOutline(@Nonnull OutlineContext outline) {
+		startedOutlines.add(outline);
+	}
+
+	public void removeStartedOutline(@Nonnull OutlineContext outline) {
+		startedOutlines.remove(outline);
+	}
+
+	/**
+	 * Claim reporting of the feature's Background, only the first caller succeeds.
+	 *
+	 * @return <code>true</code> if the caller should report the Background
+	 */
+	public boolean claimBackground() {
+		return backgroundClaimed.compareAndSet(false, true);
+	}
+
+	@Nonnull
+	public Maybe<String> getBackgroundId() {
+		return backgroundId;
+	}
+
+	public void setBackgroundId(@Nonnull Maybe<String> backgroundId) {
+		this.backgroundId = backgroundId;
+	}
+
+	@Nonnull
+	private static int[] getLineOffsets(@Nonnull String source) {
+		int[] result = new int[64];
+		int count = 1;
+		for (int i = 0; i < source.length(); i++) {
+			if (source.charAt(i) == '\n') {
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count * 2);
+				}
+				result[count++] = i + 1;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	@Nonnull
+	private static String getSourceLine(@Nonnull String source, @Nonnull int[] offsets, int line) {
+		if (line < 1 || line > offsets.length) {
+			return "";
+		}
+		int end = line < offsets.length ? offsets[line] : source.length();
+		return source.substring(offsets[line - 1], end).trim();
+	}
+
+	@Nonnull
+	private static List<String> parseTableRow(@Nonnull String row) {
+		List<String> cells = new ArrayList<>();
+		StringBuilder cell = new StringBuilder();
+		// skip the leading pipe, the trailing one finishes the last cell
+		for (int i = 1; i < row.length(); i++) {
+			char c = row.charAt(i);
+			if (c == '\\' && i + 1 < row.length()) {
+				char next = row.charAt(++i);
+				cell.append(next == 'n' ? '\n' : next);
+			} else if (c == '|') {
+				cells.add(cell.toString().trim());
+				cell.setLength(0);
+			} else {
+				cell.append(c);
+			}
+		}
+		return cells;
+	}
+
+	@Nonnull
+	private static List<String> getTableRow(@Nonnull String source, @Nonnull int[] offsets, int line) {
+		String row = getSourceLine(source, offsets, line);
+		return row.startsWith("|") ? parseTableRow(row) : Collections.emptyList();
+	}
+
+	@Nonnull
+	private static List<String> getTableHeader(@Nonnull String source, @Nonnull int[] offsets, int line) {
+		for (int i = line + 1; i <= offsets.length; i++) {
+			String row = getSourceLine(source, offsets, i);
+			if (row.startsWith("|")) {
+				return parseTableRow(row);
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns cells of an Examples table row.
+	 *
+	 * @param line row line number
+	 * @return row cells or an empty list if there is no Examples row on the line
+	 */
+	@Nonnull
+	public List<String> getTableRow(int line) {
+		int index = Arrays.binarySearch(scenarioLines, line);
+		return index >= 0 ? tableRows.get(index) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns cells of an Examples table header.
+	 *
+	 * @param line Examples keyword line number
+	 * @return header cells or an empty list if there are no Examples on the line
+	 */
+	@Nonnull
+	public List<String> getTableHeader(int line) {
+		int index = Arrays.binarySearch(tableHeaderLines, line);
+		return index >= 0 ? tableHeaders.get(index) : Collections.emptyList();
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import io.cucumber.plugin.event.Node;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Context of a Scenario Outline or one of its Examples blocks, which rows are grouped under a single item. Rows of a group may run
+ * in parallel, so the group state is guarded by the context's monitor.
+ */
+public class OutlineContext {
+
+	private final int line;
+	private final URI uri;
+	private final String keyword;
+	private final String name;
+	private final int rowCount;
+
+	// Passed rows grouped by their table header, since Examples blocks of an Outline may have different columns
+	private final Map<List<String>, List<List<String>>> passedRows = new LinkedHashMap<>();
+	private int passedCount;
+	private int runningRows;
+	private int finishedRows;
+	private boolean expanded;
+	private Maybe<String> id = Maybe.empty();
+	private boolean started;
+
+	public OutlineContext(@Nonnull URI outlineFilePath, @Nonnull Node.ScenarioOutline outlineNode) {
+		uri = outlineFilePath;
+		line = outlineNode.getLocation().getLine();
+		keyword = outlineNode.getKeyword().orElse("");
+		name = outlineNode.getName().orElse("");
+		rowCount = outlineNode.elements().stream().mapToInt(e -> e.elements().size()).sum();
+	}
+
+	public OutlineContext(@Nonnull URI outlineFilePath, @Nonnull Node.ScenarioOutline outlineNode, @Nonnull Node.Examples examplesNode) {
+		uri = outlineFilePath;
+		line = examplesNode.getLocation().getLine();
+		keyword = examplesNode.getKeyword().orElse("");
+		name = examplesNode.getName().filter(n -> !n.trim().isEmpty()).orElseGet(() -> outlineNode.getName().orElse(""));
+		rowCount = examplesNode.elements().size();
+	}
+
+	public int getLine() {
+		return line;
+	}
+
+	@Nonnull
+	public URI getUri() {
+		return uri;
+	}
+
+	@Nonnull
+	public String getKeyword() {
+		return keyword;
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return number of rows of the group in the feature file
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Nonnull
+	public synchronized Maybe<String> getId() {
+		return id;
+	}
+
+	/**
+	 * @return <code>true</code> if the group item is started and not yet finished
+	 */
+	public synchronized boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Count a started row, the first row starts the group item.
+	 *
+	 * @param groupStart starts the group item and returns its ID
+	 * @return the group item ID
+	 */
+	@Nonnull
+	public synchronized Maybe<String> startRow(@Nonnull Supplier<Maybe<String>> groupStart) {
+		if (!started) {
+			id = groupStart.get();
+			started = true;
+		}
+		runningRows++;
+		return id;
+	}
+
+	/**
+	 * Count a finished row.
+	 *
+	 * @return <code>true</code> if it was the last row of the group, so the group item can be finished
+	 */
+	public synchronized boolean finishRow() {
+		runningRows--;
+		finishedRows++;
+		return started && runningRows <= 0 && finishedRows >= rowCount;
+	}
+
+	/**
+	 * Remember a passed row to summarize it on the group item.
+	 *
+	 * @param header table header of the row's Examples block
+	 * @param row    row cells
+	 */
+	public synchronized void addPassedRow(@Nonnull List<String> header, @Nonnull List<String> row) {
+		passedRows.computeIfAbsent(header, h -> new ArrayList<>()).add(row);
+		passedCount++;
+	}
+
+	/**
+	 * @return a copy of passed rows grouped by their table header
+	 */
+	@Nonnull
+	public synchronized Map<List<String>, List<List<String>>> getPassedRows() {
+		Map<List<String>, List<List<String>>> result = new LinkedHashMap<>();
+		passedRows.forEach((header, rows) -> result.put(header, new ArrayList<>(rows)));
+		return result;
+	}
+
+	public synchronized int getPassedCount() {
+		return passedCount;
+	}
+
+	/**
+	 * @return <code>true</code> if any row was reported as a separate item
+	 */
+	public synchronized boolean isExpanded() {
+		return expanded;
+	}
+
+	public synchronized void setExpanded(boolean expanded) {
+		this.expanded = expanded;
+	}
+
+	/**
+	 * Forget the group item and its rows, so the group can be started again, e.g. by a rerun of its rows.
+	 */
+	public synchronized void reset() {
+		id = Maybe.empty();
+		started = false;
+		passedRows.clear();
+		passedCount = 0;
+		runningRows = 0;
+		finishedRows = 0;
+		expanded = false;
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+/**
+ * Grouping of Scenario Outline executions.
+ */
+public enum OutlineGrouping {
+	/**
+	 * Every Examples row is reported as a separate scenario, default grouping
+	 */
+	NONE,
+	/**
+	 * Rows are reported under a parent item per Scenario Outline, passed rows are summarized in a table log of the parent item
+	 */
+	OUTLINE,
+	/**
+	 * Rows are reported under a parent item per Examples block, passed rows are summarized in a table log of the parent item
+	 */
+	EXAMPLES
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A reporter feature, which is not a part of item reporting, e.g. run statistics, local files of the run or instrumentation of the
+ * reporter. A listener collects data with its own handlers of Cucumber events, which are called before reporter handlers of the
+ * same event, and contributes to scenario and launch items once they are finished.
+ */
+public interface ReporterListener {
+
+	/**
+	 * Launch finish, which listeners contribute to.
+	 */
+	interface LaunchFinish {
+		@Nonnull
+		Instant getEndTime();
+
+		/**
+		 * Add attributes to the launch finish request.
+		 *
+		 * @param attributes launch attributes
+		 */
+		void addAttributes(@Nonnull Set<ItemAttributesRQ> attributes);
+
+		/**
+		 * Send a text launch log entry, see {@link AbstractReporter#sendLaunchLog(String)}.
+		 *
+		 * @param message log message
+		 */
+		void sendLog(@Nonnull String message);
+
+		/**
+		 * Send a launch log entry with a file attached, see {@link AbstractReporter#sendLaunchAttachment(String, String, byte[])}.
+		 *
+		 * @param message  log message
+		 * @param mimeType attachment type
+		 * @param data     attachment content
+		 */
+		void sendAttachment(@Nonnull String message, @Nonnull String mimeType, @Nonnull byte[] data);
+	}
+
+	/**
+	 * Register own handlers of Cucumber events. They are neither measured nor recorded as reporter handlers.
+	 *
+	 * @param publisher Cucumber event publisher
+	 */
+	default void register(@Nonnull EventPublisher publisher) {
+	}
+
+	/**
+	 * @return interceptor of reporter handlers, or null if the listener doesn't intercept them
+	 */
+	@Nullable
+	default HandlerInterceptor getInterceptor() {
+		return null;
+	}
+
+	/**
+	 * Called right before a scenario item is finished.
+	 *
+	 * @param testCase finished Test Case
+	 * @return attributes to add to the scenario item
+	 */
+	@Nonnull
+	default Set<ItemAttributesRQ> finishScenario(@Nonnull TestCase testCase) {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Called right before the launch finish request is sent.
+	 *
+	 * @param launch launch finish
+	 */
+	default void finishLaunch(@Nonnull LaunchFinish launch) {
+	}
+
+	/**
+	 * Called right after the launch finish request is sent.
+	 */
+	default void afterLaunch() {
+	}
+}
@@ -0,0 +1,672 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.sink.JournalWriter;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Cucumber agent specific parameters, which are not a part of ReportPortal client's
+ * {@link com.epam.reportportal.listeners.ListenerParameters}. The parameters are read the same way as client's ones: from
+ * <code>reportportal.properties</code> file, JVM system properties and environment variables.
+ */
+public class ReporterParameters {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReporterParameters.class);
+
+	public static final String REPORTING_MODE = "rp.cucumber.reporting.mode";
+	public static final String SPOOL_DIRECTORY = "rp.cucumber.spool.directory";
+	public static final String SPOOL_SEGMENT_SIZE = "rp.cucumber.spool.segment.size";
+	public static final String CIRCUIT_BREAKER_ENABLED = "rp.cucumber.circuit.enabled";
+	public static final String CIRCUIT_BREAKER_LATENCY = "rp.cucumber.circuit.latency";
+	public static final String CIRCUIT_BREAKER_ERRORS = "rp.cucumber.circuit.errors";
+	public static final String CIRCUIT_BREAKER_ERROR_PERCENT = "rp.cucumber.circuit.errors.percent";
+	public static final String CIRCUIT_BREAKER_WINDOW = "rp.cucumber.circuit.window";
+	public static final String CIRCUIT_BREAKER_IN_FLIGHT = "rp.cucumber.circuit.inflight";
+	public static final String CIRCUIT_BREAKER_PROBE_INTERVAL = "rp.cucumber.circuit.probe.interval";
+	public static final String RECORDER_FILE = "rp.cucumber.recorder.file";
+	public static final String RECORDER_REDACT = "rp.cucumber.recorder.redact";
+	public static final String JOIN_DIRECTORY = "rp.cucumber.join.directory";
+	public static final String UPLOADER_PORT = "rp.cucumber.uploader.port";
+	public static final String UPLOADER_LINGER = "rp.cucumber.uploader.linger";
+	public static final String UPLOADER_QUEUE = "rp.cucumber.uploader.queue";
+	public static final String GRANULARITY = "rp.cucumber.granularity";
+	public static final String GRANULARITY_SUMMARY = "rp.cucumber.granularity.summary";
+	public static final String COLLAPSE_SKIPPED_STEPS = "rp.cucumber.skipped.collapse";
+	public static final String HOOK_POLICY = "rp.cucumber.hook.policy";
+	public static final String OUTLINE_GROUPING = "rp.cucumber.outline.grouping";
+	public static final String BACKGROUND_ONCE = "rp.cucumber.background.once";
+	public static final String METRICS_ENABLED = "rp.cucumber.metrics.enabled";
+	public static final String METRICS_DUMP = "rp.cucumber.metrics.dump";
+	public static final String OVERHEAD_ENABLED = "rp.cucumber.overhead.enabled";
+	public static final String OVERHEAD_SCENARIO_THRESHOLD = "rp.cucumber.overhead.scenario.threshold";
+	public static final String TRACE_FILE = "rp.cucumber.trace.file";
+	public static final String TRACE_ATTACH = "rp.cucumber.trace.attach";
+	public static final String TRACE_ATTACH_LIMIT = "rp.cucumber.trace.attach.limit";
+	public static final String STEP_STATISTICS_ENABLED = "rp.cucumber.step.statistics.enabled";
+	public static final String STEP_STATISTICS_FILE = "rp.cucumber.step.statistics.file";
+	public static final String STEP_STATISTICS_TOP = "rp.cucumber.step.statistics.top";
+	public static final String HISTORY_FILE = "rp.cucumber.history.file";
+	public static final String SHARD_FILE = "rp.cucumber.shard.file";
+	public static final String SUMMARY_FILE = "rp.cucumber.summary.file";
+	public static final String PRIORITY_ENABLED = "rp.cucumber.priority.enabled";
+	public static final String PRIORITY_ATTACHMENT_THRESHOLD = "rp.cucumber.priority.attachment.threshold";
+	public static final String PRIORITY_ATTACHMENT_CONCURRENCY = "rp.cucumber.priority.attachment.concurrency";
+
+	public static final String DEFAULT_SPOOL_DIRECTORY = "reportportal-spool";
+	public static final int DEFAULT_UPLOADER_PORT = 52381;
+	public static final int DEFAULT_UPLOADER_QUEUE = 1024;
+
+	private ReportingMode reportingMode = ReportingMode.DIRECT;
+	private Path spoolDirectory = Paths.get(DEFAULT_SPOOL_DIRECTORY);
+	private int spoolSegmentSize = JournalWriter.DEFAULT_SEGMENT_SIZE;
+	private boolean circuitBreakerEnabled;
+	private Duration circuitBreakerLatency = Duration.ofSeconds(5);
+	private int circuitBreakerErrors = 5;
+	private int circuitBreakerErrorPercent = 50;
+	private int circuitBreakerWindow = 20;
+	private int circuitBreakerInFlight = 1000;
+	private Duration circuitBreakerProbeInterval = Duration.ofSeconds(5);
+	private Path recorderFile;
+	private boolean recorderRedact;
+	private Path joinDirectory;
+	private int uploaderPort = DEFAULT_UPLOADER_PORT;
+	private Duration uploaderLinger = Duration.ofSeconds(10);
+	private int uploaderQueue = DEFAULT_UPLOADER_QUEUE;
+	private ReportingGranularity granularity = ReportingGranularity.FULL;
+	private boolean granularitySummary;
+	private boolean collapseSkippedSteps;
+	private HookReportingPolicy hookPolicy = HookReportingPolicy.ALL;
+	private OutlineGrouping outlineGrouping = OutlineGrouping.NONE;
+	private boolean backgroundOnce;
+	private boolean metricsEnabled;
+	private boolean metricsDump;
+	private boolean overheadEnabled;
+	private Duration overheadScenarioThreshold = Duration.ZERO;
+	private Path traceFile;
+	private boolean traceAttach;
+	private int traceAttachLimit = 10 * 1024 * 1024;
+	private boolean stepStatisticsEnabled;
+	private Path stepStatisticsFile;
+	private int stepStatisticsTop = 20;
+	private Path historyFile;
+	private Path shardFile;
+	private Path summaryFile;
+	private boolean priorityEnabled;
+	private int priorityAttachmentThreshold = 64 * 1024;
+	private int priorityAttachmentConcurrency = 2;
+
+	public ReporterParameters() {
+	}
+
+	public ReporterParameters(@Nonnull PropertiesLoader properties) {
+		reportingMode = getEnum(properties, REPORTING_MODE, ReportingMode.class, reportingMode);
+		String directory = properties.getProperty(SPOOL_DIRECTORY);
+		if (directory != null && !directory.trim().isEmpty()) {
+			spoolDirectory = Paths.get(directory.trim());
+		}
+		spoolSegmentSize = getInt(properties, SPOOL_SEGMENT_SIZE, spoolSegmentSize);
+		circuitBreakerEnabled = getBoolean(properties, CIRCUIT_BREAKER_ENABLED, circuitBreakerEnabled);
+		circuitBreakerLatency = Duration.ofMillis(getInt(properties, CIRCUIT_BREAKER_LATENCY, (int) circuitBreakerLatency.toMillis()));
+		circuitBreakerErrors = getInt(properties, CIRCUIT_BREAKER_ERRORS, circuitBreakerErrors);
+		circuitBreakerErrorPercent = getInt(properties, CIRCUIT_BREAKER_ERROR_PERCENT, circuitBreakerErrorPercent);
+		circuitBreakerWindow = getInt(properties, CIRCUIT_BREAKER_WINDOW, circuitBreakerWindow);
+		circuitBreakerInFlight = getInt(properties, CIRCUIT_BREAKER_IN_FLIGHT, circuitBreakerInFlight);
+		circuitBreakerProbeInterval = Duration.ofMillis(getInt(
+				properties,
+				CIRCUIT_BREAKER_PROBE_INTERVAL,
+				(int) circuitBreakerProbeInterval.toMillis()
+		));
+		String recorder = getValue(properties, RECORDER_FILE);
+		if (recorder != null) {
+			recorderFile = Paths.get(recorder);
+		}
+		recorderRedact = getBoolean(properties, RECORDER_REDACT, recorderRedact);
+		String join = getValue(properties, JOIN_DIRECTORY);
+		if (join != null) {
+			joinDirectory = Paths.get(join);
+		}
+		uploaderPort = getInt(properties, UPLOADER_PORT, uploaderPort);
+		uploaderLinger = Duration.ofMillis(getInt(properties, UPLOADER_LINGER, (int) uploaderLinger.toMillis()));
+		uploaderQueue = getInt(properties, UPLOADER_QUEUE, uploaderQueue);
+		granularity = getEnum(properties, GRANULARITY, ReportingGranularity.class, granularity);
+		granularitySummary = getBoolean(properties, GRANULARITY_SUMMARY, granularitySummary);
+		collapseSkippedSteps = getBoolean(properties, COLLAPSE_SKIPPED_STEPS, collapseSkippedSteps);
+		hookPolicy = getEnum(properties, HOOK_POLICY, HookReportingPolicy.class, hookPolicy);
+		outlineGrouping = getEnum(properties, OUTLINE_GROUPING, OutlineGrouping.class, outlineGrouping);
+		backgroundOnce = getBoolean(properties, BACKGROUND_ONCE, backgroundOnce);
+		metricsEnabled = getBoolean(properties, METRICS_ENABLED, metricsEnabled);
+		metricsDump = getBoolean(properties, METRICS_DUMP, metricsDump);
+		overheadEnabled = getBoolean(properties, OVERHEAD_ENABLED, overheadEnabled);
+		overheadScenarioThreshold = Duration.ofMillis(getInt(
+				properties,
+				OVERHEAD_SCENARIO_THRESHOLD,
+				(int) overheadScenarioThreshold.toMillis()
+		));
+		String trace = getValue(properties, TRACE_FILE);
+		if (trace != null) {
+			traceFile = Paths.get(trace);
+		}
+		traceAttach = getBoolean(properties, TRACE_ATTACH, traceAttach);
+		traceAttachLimit = getInt(properties, TRACE_ATTACH_LIMIT, traceAttachLimit);
+		stepStatisticsEnabled = getBoolean(properties, STEP_STATISTICS_ENABLED, stepStatisticsEnabled);
+		String statistics = getValue(properties, STEP_STATISTICS_FILE);
+		if (statistics != null) {
+			stepStatisticsFile = Paths.get(statistics);
+		}
+		stepStatisticsTop = getInt(properties, STEP_STATISTICS_TOP, stepStatisticsTop);
+		String history = getValue(properties, HISTORY_FILE);
+		if (history != null) {
+			historyFile = Paths.get(history);
+		}
+		String shard = getValue(properties, SHARD_FILE);
+		if (shard != null) {
+			shardFile = Paths.get(shard);
+		}
+		String summary = getValue(properties, SUMMARY_FILE);
+		if (summary != null) {
+			summaryFile = Paths.get(summary);
+		}
+		priorityEnabled = getBoolean(properties, PRIORITY_ENABLED, priorityEnabled);
+		priorityAttachmentThreshold = getInt(properties, PRIORITY_ATTACHMENT_THRESHOLD, priorityAttachmentThreshold);
+		priorityAttachmentConcurrency = getInt(properties, PRIORITY_ATTACHMENT_CONCURRENCY, priorityAttachmentConcurrency);
+	}
+
+	@Nullable
+	private static String getValue(@Nonnull PropertiesLoader properties, @Nonnull String key) {
+		String value = properties.getProperty(key);
+		return value == null || value.trim().isEmpty() ? null : value.trim();
+	}
+
+	static boolean getBoolean(@Nonnull PropertiesLoader properties, @Nonnull String key, boolean defaultValue) {
+		String value = getValue(properties, key);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+	static int getInt(@Nonnull PropertiesLoader properties, @Nonnull String key, int defaultValue) {
+		String value = getValue(properties, key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Unable to parse '{}' property value: '{}', using default: {}", key, value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	static <T extends Enum<T>> T getEnum(@Nonnull PropertiesLoader properties, @Nonnull String key, @Nonnull Class<T> type,
+			@Nonnull T defaultValue) {
+		String value = getValue(properties, key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			LOGGER.warn("Unknown '{}' property value: '{}', using default: {}", key, value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	@Nonnull
+	public ReportingMode getReportingMode() {
+		return reportingMode;
+	}
+
+	public void setReportingMode(@Nonnull ReportingMode reportingMode) {
+		this.reportingMode = reportingMode;
+	}
+
+	/**
+	 * @return base directory of spool journals, every launch is written into its own subdirectory
+	 */
+	@Nonnull
+	public Path getSpoolDirectory() {
+		return spoolDirectory;
+	}
+
+	public void setSpoolDirectory(@Nonnull Path spoolDirectory) {
+		this.spoolDirectory = spoolDirectory;
+	}
+
+	/**
+	 * @return size of a memory-mapped journal segment in bytes
+	 */
+	public int getSpoolSegmentSize() {
+		return spoolSegmentSize;
+	}
+
+	public void setSpoolSegmentSize(int spoolSegmentSize) {
+		this.spoolSegmentSize = spoolSegmentSize;
+	}
+
+	/**
+	 * @return true if reporting into the launch should be protected with a circuit breaker, which spools operations locally while the
+	 * server is slow or unreachable
+	 */
+	public boolean isCircuitBreakerEnabled() {
+		return circuitBreakerEnabled;
+	}
+
+	public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+		this.circuitBreakerEnabled = circuitBreakerEnabled;
+	}
+
+	/**
+	 * @return maximum smoothed latency of start requests before the circuit opens
+	 */
+	@Nonnull
+	public Duration getCircuitBreakerLatency() {
+		return circuitBreakerLatency;
+	}
+
+	public void setCircuitBreakerLatency(@Nonnull Duration circuitBreakerLatency) {
+		this.circuitBreakerLatency = circuitBreakerLatency;
+	}
+
+	/**
+	 * @return minimum number of failed start requests in the window which opens the circuit
+	 */
+	public int getCircuitBreakerErrors() {
+		return circuitBreakerErrors;
+	}
+
+	public void setCircuitBreakerErrors(int circuitBreakerErrors) {
+		this.circuitBreakerErrors = circuitBreakerErrors;
+	}
+
+	/**
+	 * @return percentage of failed start requests in the window which opens the circuit
+	 */
+	public int getCircuitBreakerErrorPercent() {
+		return circuitBreakerErrorPercent;
+	}
+
+	public void setCircuitBreakerErrorPercent(int circuitBreakerErrorPercent) {
+		this.circuitBreakerErrorPercent = circuitBreakerErrorPercent;
+	}
+
+	/**
+	 * @return number of last completed start requests the error percentage is calculated for
+	 */
+	public int getCircuitBreakerWindow() {
+		return circuitBreakerWindow;
+	}
+
+	public void setCircuitBreakerWindow(int circuitBreakerWindow) {
+		this.circuitBreakerWindow = circuitBreakerWindow;
+	}
+
+	/**
+	 * @return maximum number of requests in flight before the circuit opens
+	 */
+	public int getCircuitBreakerInFlight() {
+		return circuitBreakerInFlight;
+	}
+
+	public void setCircuitBreakerInFlight(int circuitBreakerInFlight) {
+		this.circuitBreakerInFlight = circuitBreakerInFlight;
+	}
+
+	/**
+	 * @return interval of recovery probes while the circuit is open
+	 */
+	@Nonnull
+	public Duration getCircuitBreakerProbeInterval() {
+		return circuitBreakerProbeInterval;
+	}
+
+	public void setCircuitBreakerProbeInterval(@Nonnull Duration circuitBreakerProbeInterval) {
+		this.circuitBreakerProbeInterval = circuitBreakerProbeInterval;
+	}
+
+	/**
+	 * @return file to record Cucumber events to, or <code>null</code> if recording is disabled
+	 */
+	@Nullable
+	public Path getRecorderFile() {
+		return recorderFile;
+	}
+
+	public void setRecorderFile(@Nullable Path recorderFile) {
+		this.recorderFile = recorderFile;
+	}
+
+	/**
+	 * @return <code>true</code> if texts and attachments should be redacted in event recordings
+	 */
+	public boolean isRecorderRedact() {
+		return recorderRedact;
+	}
+
+	public void setRecorderRedact(boolean recorderRedact) {
+		this.recorderRedact = recorderRedact;
+	}
+
+	/**
+	 * @return directory for the launch join lock and sync files shared by forked JVMs of one build, e.g. the build directory, or
+	 * <code>null</code> to keep the client's default location
+	 */
+	@Nullable
+	public Path getJoinDirectory() {
+		return joinDirectory;
+	}
+
+	public void setJoinDirectory(@Nullable Path joinDirectory) {
+		this.joinDirectory = joinDirectory;
+	}
+
+	/**
+	 * @return loopback port of the local uploader in {@link ReportingMode#UPLOADER} mode
+	 */
+	public int getUploaderPort() {
+		return uploaderPort;
+	}
+
+	public void setUploaderPort(int uploaderPort) {
+		this.uploaderPort = uploaderPort;
+	}
+
+	/**
+	 * @return time the uploader waits for other processes to join a launch after the last one has left
+	 */
+	@Nonnull
+	public Duration getUploaderLinger() {
+		return uploaderLinger;
+	}
+
+	public void setUploaderLinger(@Nonnull Duration uploaderLinger) {
+		this.uploaderLinger = uploaderLinger;
+	}
+
+	/**
+	 * @return maximum number of received operations waiting for upload in the local uploader, the uploader stops reading from test
+	 * processes once it's reached
+	 */
+	public int getUploaderQueue() {
+		return uploaderQueue;
+	}
+
+	public void setUploaderQueue(int uploaderQueue) {
+		this.uploaderQueue = uploaderQueue;
+	}
+
+	/**
+	 * @return level of detail of reported scenarios
+	 */
+	@Nonnull
+	public ReportingGranularity getGranularity() {
+		return granularity;
+	}
+
+	public void setGranularity(@Nonnull ReportingGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	/**
+	 * @return <code>true</code> if a scenario, which steps are not reported as items, should get a step summary in its description
+	 */
+	public boolean isGranularitySummary() {
+		return granularitySummary;
+	}
+
+	public void setGranularitySummary(boolean granularitySummary) {
+		this.granularitySummary = granularitySummary;
+	}
+
+	/**
+	 * @return <code>true</code> if steps skipped after a scenario failure should be reported as a single summary item
+	 */
+	public boolean isCollapseSkippedSteps() {
+		return collapseSkippedSteps;
+	}
+
+	public void setCollapseSkippedSteps(boolean collapseSkippedSteps) {
+		this.collapseSkippedSteps = collapseSkippedSteps;
+	}
+
+	/**
+	 * @return policy of reporting Cucumber hooks
+	 */
+	@Nonnull
+	public HookReportingPolicy getHookPolicy() {
+		return hookPolicy;
+	}
+
+	public void setHookPolicy(@Nonnull HookReportingPolicy hookPolicy) {
+		this.hookPolicy = hookPolicy;
+	}
+
+	/**
+	 * @return grouping of Scenario Outline executions
+	 */
+	@Nonnull
+	public OutlineGrouping getOutlineGrouping() {
+		return outlineGrouping;
+	}
+
+	public void setOutlineGrouping(@Nonnull OutlineGrouping outlineGrouping) {
+		this.outlineGrouping = outlineGrouping;
+	}
+
+	/**
+	 * @return <code>true</code> if passed Background steps should be reported once per feature instead of in every scenario
+	 */
+	public boolean isBackgroundOnce() {
+		return backgroundOnce;
+	}
+
+	public void setBackgroundOnce(boolean backgroundOnce) {
+		this.backgroundOnce = backgroundOnce;
+	}
+
+	/**
+	 * @return <code>true</code> if handler latencies and reporting counters should be collected and exposed over JMX
+	 */
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	/**
+	 * @return <code>true</code> if collected metrics should be logged at the end of the run
+	 */
+	public boolean isMetricsDump() {
+		return metricsDump;
+	}
+
+	public void setMetricsDump(boolean metricsDump) {
+		this.metricsDump = metricsDump;
+	}
+
+	/**
+	 * @return <code>true</code> if time spent in reporter handlers should be attached to the launch as <code>rp.overhead.ms</code> and
+	 * <code>rp.overhead.pct</code> system attributes
+	 */
+	public boolean isOverheadEnabled() {
+		return overheadEnabled;
+	}
+
+	public void setOverheadEnabled(boolean overheadEnabled) {
+		this.overheadEnabled = overheadEnabled;
+	}
+
+	/**
+	 * @return reporter overhead of a scenario above which the overhead attributes are also attached to the scenario, zero disables them
+	 */
+	@Nonnull
+	public Duration getOverheadScenarioThreshold() {
+		return overheadScenarioThreshold;
+	}
+
+	public void setOverheadScenarioThreshold(@Nonnull Duration overheadScenarioThreshold) {
+		this.overheadScenarioThreshold = overheadScenarioThreshold;
+	}
+
+	/**
+	 * @return a file to stream Chrome / Perfetto trace events of scenarios, steps and hooks into, or null if tracing is disabled
+	 */
+	@Nullable
+	public Path getTraceFile() {
+		return traceFile;
+	}
+
+	public void setTraceFile(@Nullable Path traceFile) {
+		this.traceFile = traceFile;
+	}
+
+	/**
+	 * @return <code>true</code> if the trace file should be attached to the launch as a launch log, compressed with gzip
+	 */
+	public boolean isTraceAttach() {
+		return traceAttach;
+	}
+
+	public void setTraceAttach(boolean traceAttach) {
+		this.traceAttach = traceAttach;
+	}
+
+	/**
+	 * @return maximum size of the compressed trace attachment in bytes, a bigger trace is kept only in the trace file
+	 */
+	public int getTraceAttachLimit() {
+		return traceAttachLimit;
+	}
+
+	public void setTraceAttachLimit(int traceAttachLimit) {
+		this.traceAttachLimit = traceAttachLimit;
+	}
+
+	/**
+	 * @return <code>true</code> if durations should be aggregated per step definition and the slowest definitions reported as a launch
+	 * log
+	 */
+	public boolean isStepStatisticsEnabled() {
+		return stepStatisticsEnabled;
+	}
+
+	public void setStepStatisticsEnabled(boolean stepStatisticsEnabled) {
+		this.stepStatisticsEnabled = stepStatisticsEnabled;
+	}
+
+	/**
+	 * @return a JSON file to write the slowest step definitions into, or null
+	 */
+	@Nullable
+	public Path getStepStatisticsFile() {
+		return stepStatisticsFile;
+	}
+
+	public void setStepStatisticsFile(@Nullable Path stepStatisticsFile) {
+		this.stepStatisticsFile = stepStatisticsFile;
+	}
+
+	/**
+	 * @return number of the slowest step definitions to report
+	 */
+	public int getStepStatisticsTop() {
+		return stepStatisticsTop;
+	}
+
+	public void setStepStatisticsTop(int stepStatisticsTop) {
+		this.stepStatisticsTop = stepStatisticsTop;
+	}
+
+	/**
+	 * @return a local file to keep durations of scenarios and step definitions from previous runs in and to detect slowdowns with, or
+	 * null
+	 */
+	@Nullable
+	public Path getHistoryFile() {
+		return historyFile;
+	}
+
+	public void setHistoryFile(@Nullable Path historyFile) {
+		this.historyFile = historyFile;
+	}
+
+	/**
+	 * @return a local file to merge scenario durations of the run into for shard planning with
+	 * {@link com.epam.reportportal.cucumber.shard.ShardPlanner}, or null
+	 */
+	@Nullable
+	public Path getShardFile() {
+		return shardFile;
+	}
+
+	public void setShardFile(@Nullable Path shardFile) {
+		this.shardFile = shardFile;
+	}
+
+	/**
+	 * @return a local file to write a JSON summary of the run results into for CI gating, or null
+	 */
+	@Nullable
+	public Path getSummaryFile() {
+		return summaryFile;
+	}
+
+	public void setSummaryFile(@Nullable Path summaryFile) {
+		this.summaryFile = summaryFile;
+	}
+
+	/**
+	 * @return true if large attachments should be uploaded in a separate lane, so they do not delay item lifecycle requests
+	 */
+	public boolean isPriorityEnabled() {
+		return priorityEnabled;
+	}
+
+	public void setPriorityEnabled(boolean priorityEnabled) {
+		this.priorityEnabled = priorityEnabled;
+	}
+
+	/**
+	 * @return minimum size of an attachment in bytes to upload it in the separate lane
+	 */
+	public int getPriorityAttachmentThreshold() {
+		return priorityAttachmentThreshold;
+	}
+
+	public void setPriorityAttachmentThreshold(int priorityAttachmentThreshold) {
+		this.priorityAttachmentThreshold = priorityAttachmentThreshold;
+	}
+
+	/**
+	 * @return maximum number of attachments uploaded in the separate lane at once
+	 */
+	public int getPriorityAttachmentConcurrency() {
+		return priorityAttachmentConcurrency;
+	}
+
+	public void setPriorityAttachmentConcurrency(int priorityAttachmentConcurrency) {
+		this.priorityAttachmentConcurrency = priorityAttachmentConcurrency;
+	}
+}
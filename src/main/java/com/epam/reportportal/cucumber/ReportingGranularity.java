@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+/**
+ * Level of detail of reported scenarios.
+ */
+public enum ReportingGranularity {
+	/**
+	 * Every step and hook is reported as an item, default granularity
+	 */
+	FULL,
+	/**
+	 * Steps and hooks are reported as items only if their scenario fails, logs of passed scenarios are reported on scenario items
+	 */
+	FAILURES_DETAILED,
+	/**
+	 * Steps and hooks are never reported as items, their logs are reported on scenario items
+	 */
+	SCENARIO_ONLY
+}
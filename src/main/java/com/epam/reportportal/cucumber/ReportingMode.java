@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+/**
+ * Destination of reporting operations of the agent.
+ */
+public enum ReportingMode {
+	/**
+	 * Report into a ReportPortal launch directly, default mode
+	 */
+	DIRECT,
+	/**
+	 * Write all operations into a local binary journal, which can be uploaded later with
+	 * {@link com.epam.reportportal.cucumber.sink.JournalReplay}
+	 */
+	SPOOL,
+	/**
+	 * Stream all operations over a loopback socket to a local {@link com.epam.reportportal.cucumber.sink.UploaderDaemon}, which
+	 * uploads operations of all test processes into one launch
+	 */
+	UPLOADER
+}
@@ -19,20 +19,30 @@ package com.epam.reportportal.cucumber;
 import io.cucumber.plugin.event.Node;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.net.URI;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
 
 public class RuleContext {
 
 	private final int line;
 	private final URI uri;
-	private final Node.Rule rule;
+	private final String keyword;
+	private final String name;
+	// Gherkin nodes reference their feature, so the context does not retain the node
+	private final WeakReference<Node.Rule> rule;
 
 	private Maybe<String> id = Maybe.empty();
 
 	public RuleContext(@Nonnull URI ruleFilePath, @Nonnull Node.Rule ruleNode) {
 		uri = ruleFilePath;
-		rule = ruleNode;
+		keyword = ruleNode.getKeyword().orElse(null);
+		name = ruleNode.getName().orElse(null);
+		rule = new WeakReference<>(ruleNode);
 		line = ruleNode.getLocation().getLine();
 	}
 
@@ -50,8 +60,25 @@ public class RuleContext {
 	}
 
 	@Nonnull
+	public Optional<String> getKeyword() {
+		return ofNullable(keyword);
+	}
+
+	@Nonnull
+	public Optional<String> getName() {
+		return ofNullable(name);
+	}
+
+	/**
+	 * Returns the Gherkin Rule, the context does not retain it, so it is available only while the Cucumber runtime keeps the feature.
+	 *
+	 * @return Cucumber's Rule node or null if it is already garbage collected
+	 * @deprecated use the context's properties instead
+	 */
+	@Nullable
+	@Deprecated
 	public Node.Rule getRule() {
-		return rule;
+		return rule.get();
 	}
 
 	@SuppressWarnings("unused")
@@ -16,13 +16,17 @@
 
 package com.epam.reportportal.cucumber;
 
+import com.epam.reportportal.cucumber.sink.DeferredReportingSink;
 import io.cucumber.plugin.event.Node;
 import io.cucumber.plugin.event.TestCase;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -30,40 +34,65 @@ import static java.util.Optional.ofNullable;
 public class ScenarioContext {
 
 	private final int line;
+	private final int codeLine;
 	private final URI uri;
 	private final RuleContext rule;
-	private final Node.Scenario scenario;
-	private final Node.ScenarioOutline scenarioOutline;
-	private final Node.Example example;
+	private final OutlineContext outline;
+	private final OutlineContext examples;
+	// Gherkin nodes reference their feature, so the context does not retain the node
+	private final WeakReference<Node.Example> example;
 
 	private TestCase testCase;
 	private Maybe<String> id = Maybe.empty();
 	private Maybe<String> hookId = Maybe.empty();
 	private Maybe<String> stepId = Maybe.empty();
+	private Maybe<String> lastStepId;
+	private boolean interrupted;
+	private boolean backgroundOwner;
+	private int collapsedBackgroundSteps;
+	private final List<String> skippedSteps = new ArrayList<>();
+	private final List<DeferredReportingSink> stepHookOutputs = new ArrayList<>();
 
 	public ScenarioContext(@Nonnull URI scenarioFilePath, @Nullable RuleContext ruleNode, @Nonnull Node.Scenario scenarioNode) {
 		uri = scenarioFilePath;
 		rule = ruleNode;
-		scenario = scenarioNode;
-		scenarioOutline = null;
+		outline = null;
+		examples = null;
 		example = null;
-		line = scenario.getLocation().getLine();
+		line = scenarioNode.getLocation().getLine();
+		codeLine = line;
 	}
 
 	public ScenarioContext(@Nonnull URI scenarioFilePath, @Nullable RuleContext ruleNode, @Nonnull Node.ScenarioOutline scenarioOutlineNode,
 			@Nonnull Node.Example exampleNode) {
+		this(scenarioFilePath, ruleNode, scenarioOutlineNode, exampleNode, null, null);
+	}
+
+	public ScenarioContext(@Nonnull URI scenarioFilePath, @Nullable RuleContext ruleNode, @Nonnull Node.ScenarioOutline scenarioOutlineNode,
+			@Nonnull Node.Example exampleNode, @Nullable OutlineContext outlineContext, @Nullable OutlineContext examplesContext) {
 		uri = scenarioFilePath;
 		rule = ruleNode;
-		scenario = null;
-		scenarioOutline = scenarioOutlineNode;
-		example = exampleNode;
-		line = scenarioOutline.getLocation().getLine();
+		outline = outlineContext;
+		examples = examplesContext;
+		example = new WeakReference<>(exampleNode);
+		line = scenarioOutlineNode.getLocation().getLine();
+		codeLine = exampleNode.getLocation().getLine();
 	}
 
 	public int getLine() {
 		return line;
 	}
 
+	/**
+	 * Returns a line number which is used in the scenario code reference. For Scenario Outlines it's Example's line number, to
+	 * detach one Test Item from another, for simple Scenarios it's the same as {@link #getLine()}.
+	 *
+	 * @return code reference line number
+	 */
+	public int getCodeLine() {
+		return codeLine;
+	}
+
 	@Nonnull
 	@SuppressWarnings("unused")
 	public Optional<TestCase> getTestCase() {
@@ -79,6 +108,35 @@ public class ScenarioContext {
 		return ofNullable(rule);
 	}
 
+	/**
+	 * @return context of the Scenario Outline, if the scenario is an Examples row
+	 */
+	@Nonnull
+	public Optional<OutlineContext> getOutline() {
+		return ofNullable(outline);
+	}
+
+	/**
+	 * @return context of the Examples block, if the scenario is an Examples row
+	 */
+	@Nonnull
+	public Optional<OutlineContext> getExamples() {
+		return ofNullable(examples);
+	}
+
+	/**
+	 * Returns the Gherkin Example of a Scenario Outline row, the context does not retain it, so it is available only while the Cucumber
+	 * runtime keeps the feature.
+	 *
+	 * @return Cucumber's Example node, or an empty optional for a simple Scenario or if the node is already garbage collected
+	 * @deprecated use {@link #getCodeLine()} and {@link #getExamples()} instead
+	 */
+	@Nonnull
+	@Deprecated
+	public Optional<Node.Example> getExample() {
+		return ofNullable(example).map(WeakReference::get);
+	}
+
 	@Nonnull
 	public URI getUri() {
 		return uri;
@@ -111,8 +169,76 @@ public class ScenarioContext {
 		return stepId;
 	}
 
+	public void setLastStepId(@Nullable Maybe<String> lastStepId) {
+		this.lastStepId = lastStepId;
+	}
+
+	/**
+	 * Returns ID of the last finished step item of the scenario.
+	 *
+	 * @return step item ID or null if no step was reported yet
+	 */
+	@Nullable
+	public Maybe<String> getLastStepId() {
+		return lastStepId;
+	}
+
+	/**
+	 * Returns <code>true</code> if a step or a hook of the scenario has not passed, so Cucumber skips all remaining steps.
+	 *
+	 * @return scenario interruption flag
+	 */
+	public boolean isInterrupted() {
+		return interrupted;
+	}
+
+	public void setInterrupted(boolean interrupted) {
+		this.interrupted = interrupted;
+	}
+
+	/**
+	 * Returns <code>true</code> if the scenario reports Background steps of its feature under a feature level Background item.
+	 *
+	 * @return Background owner flag
+	 */
+	public boolean isBackgroundOwner() {
+		return backgroundOwner;
+	}
+
+	public void setBackgroundOwner(boolean backgroundOwner) {
+		this.backgroundOwner = backgroundOwner;
+	}
+
+	/**
+	 * Returns number of passed Background steps, which were not reported since the Background was reported once per feature.
+	 *
+	 * @return collapsed Background step number
+	 */
+	public int getCollapsedBackgroundSteps() {
+		return collapsedBackgroundSteps;
+	}
+
+	public void setCollapsedBackgroundSteps(int collapsedBackgroundSteps) {
+		this.collapsedBackgroundSteps = collapsedBackgroundSteps;
+	}
+
+	/**
+	 * Returns names of steps, which were skipped after the scenario interruption and were not reported as separate items.
+	 *
+	 * @return skipped step names
+	 */
 	@Nonnull
-	public Optional<Node.Example> getExample() {
-		return ofNullable(example);
+	public List<String> getSkippedSteps() {
+		return skippedSteps;
+	}
+
+	/**
+	 * Returns output of passed before-step hooks, which is folded into the next reported step.
+	 *
+	 * @return buffered hooks
+	 */
+	@Nonnull
+	public List<DeferredReportingSink> getStepHookOutputs() {
+		return stepHookOutputs;
 	}
 }
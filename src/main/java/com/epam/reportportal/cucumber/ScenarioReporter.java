@@ -26,6 +26,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -70,9 +71,20 @@ public class ScenarioReporter extends AbstractReporter {
 		return rq;
 	}
 
+	@Override
+	@Nonnull
+	protected StartTestItemRQ buildSkippedStepsRequest(@Nonnull List<String> stepNames) {
+		StartTestItemRQ rq = super.buildSkippedStepsRequest(stepNames);
+		rq.setHasStats(false);
+		return rq;
+	}
+
 	@Override
 	protected void beforeStep(@Nonnull TestCase testCase, @Nonnull PickleStepTestStep testStep) {
 		super.beforeStep(testCase, testStep);
+		if (isStepCollapsed(testCase)) {
+			return;
+		}
 		String description = buildMultilineArgument(testStep).trim();
 		if (!description.isEmpty()) {
 			sendLog(description);
@@ -130,7 +142,7 @@ public class ScenarioReporter extends AbstractReporter {
 			rq.setName(DUMMY_ROOT_SUITE_NAME);
 			rq.setStartTime(Instant.now());
 			rq.setType(RP_STORY_TYPE);
-			return getLaunch().startTestItem(rq);
+			return getReportingSink().startTestItem(null, rq);
 		});
 	}
 }
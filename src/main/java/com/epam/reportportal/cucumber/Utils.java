@@ -22,6 +22,7 @@ import io.cucumber.plugin.event.Status;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.net.URI;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,6 +36,7 @@ import static java.util.Optional.ofNullable;
 public class Utils {
 	private static final String EMPTY = "";
 	public static final String TAG_KEY = "@";
+	private static final char COMMENT_KEY = '#';
 
 	private Utils() {
 		throw new AssertionError("No instances should exist for the class!");
@@ -67,6 +69,28 @@ public class Utils {
 	public static final java.util.function.Function<List<Argument>, List<?>> ARGUMENTS_TRANSFORM = arguments -> ofNullable(arguments).map(
 			args -> args.stream().map(Argument::getValue).collect(Collectors.toList())).orElse(null);
 
+	/**
+	 * Returns a feature file path relative to the working directory, the same way as it is used in code references.
+	 *
+	 * @param uri a feature URI
+	 * @return relative path
+	 */
+	@Nonnull
+	public static String getRelativePath(@Nonnull URI uri) {
+		return AbstractReporter.WORKING_DIRECTORY.relativize(uri).toString();
+	}
+
+	/**
+	 * Formats a duration in milliseconds for launch logs.
+	 *
+	 * @param nanos duration in nanoseconds
+	 * @return milliseconds with three decimals
+	 */
+	@Nonnull
+	public static String formatMillis(double nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+	}
+
 	/**
 	 * Parses a feature source and return all declared tags before the feature.
 	 *
@@ -75,19 +99,64 @@ public class Utils {
 	 */
 	@Nonnull
 	public static Set<String> getTags(@Nonnull Feature feature) {
-		return feature.getKeyword().map(k -> {
-			Set<String> tags = new HashSet<>();
-			for (String line : feature.getSource().split("\\r?\\n")) {
-				String bareLine = line.trim();
-				if (bareLine.startsWith(k)) {
-					return tags;
+		return feature.getKeyword().map(k -> getTags(feature.getSource(), k)).orElse(Collections.emptySet());
+	}
+
+	/**
+	 * Scans a feature source forward line by line and collects all tags declared before the line which starts with the given
+	 * keyword. The scan stops at the keyword line and does not split the source, so only tag strings are allocated. Tag lines can be
+	 * indented, a comment after tags is ignored.
+	 *
+	 * @param source  feature file source
+	 * @param keyword feature keyword to stop at
+	 * @return tags set
+	 */
+	@Nonnull
+	public static Set<String> getTags(@Nonnull String source, @Nonnull String keyword) {
+		Set<String> tags = new HashSet<>();
+		int length = source.length();
+		int lineStart = 0;
+		while (lineStart < length) {
+			int lineEnd = source.indexOf('\n', lineStart);
+			if (lineEnd < 0) {
+				lineEnd = length;
+			}
+			int contentStart = lineStart;
+			while (contentStart < lineEnd && source.charAt(contentStart) <= ' ') {
+				contentStart++;
+			}
+			if (source.startsWith(keyword, contentStart)) {
+				return tags;
+			}
+			if (source.startsWith(TAG_KEY, contentStart)) {
+				addTokens(tags, source, contentStart, lineEnd);
+			}
+			lineStart = lineEnd + 1;
+		}
+		return tags;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+	}
+
+	private static void addTokens(@Nonnull Set<String> tokens, @Nonnull String source, int start, int end) {
+		int tokenStart = -1;
+		for (int i = start; i < end; i++) {
+			if (isWhitespace(source.charAt(i))) {
+				if (tokenStart >= 0) {
+					tokens.add(source.substring(tokenStart, i));
+					tokenStart = -1;
 				}
-				if (!line.startsWith(TAG_KEY)) {
-					continue;
+			} else if (tokenStart < 0) {
+				if (source.charAt(i) == COMMENT_KEY) {
+					return;
 				}
-				tags.addAll(Arrays.asList(line.split("\\s+")));
+				tokenStart = i;
 			}
-			return tags;
-		}).orElse(Collections.emptySet());
+		}
+		if (tokenStart >= 0) {
+			tokens.add(source.substring(tokenStart, end));
+		}
 	}
 }
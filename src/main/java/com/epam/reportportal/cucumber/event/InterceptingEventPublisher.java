@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.EventPublisher;
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event publisher decorator which wraps every registered handler once and calls {@link HandlerInterceptor}s around it, e.g. to
+ * measure handler latency or to record handled events. The handler is timed once for all interceptors, and handlers registered on
+ * the delegate directly are not intercepted.
+ */
+public class InterceptingEventPublisher implements EventPublisher {
+	private final EventPublisher delegate;
+	private final List<HandlerInterceptor> interceptors;
+	private final Map<EventHandler<?>, EventHandler<?>> handlers = new ConcurrentHashMap<>();
+
+	/**
+	 * Hooks called on the handler thread around every handler invocation.
+	 */
+	@FunctionalInterface
+	public interface HandlerInterceptor {
+		/**
+		 * Called right before the handler.
+		 *
+		 * @param eventType type the handler was registered for
+		 * @param event     event to handle
+		 */
+		default void before(@Nonnull Class<?> eventType, @Nonnull Object event) {
+		}
+
+		/**
+		 * Called right after the handler returns, or throws.
+		 *
+		 * @param eventType  type the handler was registered for
+		 * @param event      handled event
+		 * @param startNanos {@link System#nanoTime()} before the handler
+		 * @param nanos      time spent in the handler
+		 */
+		void after(@Nonnull Class<?> eventType, @Nonnull Object event, long startNanos, long nanos);
+	}
+
+	public InterceptingEventPublisher(@Nonnull EventPublisher delegate, @Nonnull List<HandlerInterceptor> interceptors) {
+		this.delegate = delegate;
+		this.interceptors = new ArrayList<>(interceptors);
+	}
+
+	@Override
+	public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		EventHandler<T> interceptedHandler = event -> {
+			interceptors.forEach(i -> i.before(eventType, event));
+			long start = System.nanoTime();
+			try {
+				handler.receive(event);
+			} finally {
+				long nanos = System.nanoTime() - start;
+				interceptors.forEach(i -> i.after(eventType, event, start, nanos));
+			}
+		};
+		handlers.put(handler, interceptedHandler);
+		delegate.registerHandlerFor(eventType, interceptedHandler);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		EventHandler<?> interceptedHandler = handlers.remove(handler);
+		if (interceptedHandler != null) {
+			delegate.removeHandlerFor(eventType, (EventHandler<T>) interceptedHandler);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.EventPublisher;
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synchronous publisher which passes replayed events to handlers registered by a reporter, on the thread which publishes them.
+ */
+public class ReplayEventPublisher implements EventPublisher {
+	private final Map<Class<?>, List<EventHandler<?>>> handlers = new HashMap<>();
+
+	@Override
+	public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		handlers.computeIfAbsent(eventType, k -> new ArrayList<>()).add(handler);
+	}
+
+	@Override
+	public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		List<EventHandler<?>> eventHandlers = handlers.get(eventType);
+		if (eventHandlers != null) {
+			eventHandlers.remove(handler);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> void publish(@Nonnull T event) {
+		List<EventHandler<?>> eventHandlers = handlers.get(event.getClass());
+		if (eventHandlers == null) {
+			return;
+		}
+		for (EventHandler<?> handler : eventHandlers) {
+			((EventHandler<T>) handler).receive(event);
+		}
+	}
+}
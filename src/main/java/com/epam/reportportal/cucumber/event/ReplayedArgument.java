@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.Group;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Step definition argument of a replayed step.
+ */
+public class ReplayedArgument implements Argument {
+	private final String parameterTypeName;
+	private final String value;
+	private final int start;
+
+	public ReplayedArgument(@Nonnull String parameterTypeName, @Nullable String value, int start) {
+		this.parameterTypeName = parameterTypeName;
+		this.value = value;
+		this.start = start;
+	}
+
+	@Override
+	public String getParameterTypeName() {
+		return parameterTypeName;
+	}
+
+	@Override
+	public String getValue() {
+		return value;
+	}
+
+	@Override
+	public int getStart() {
+		return start;
+	}
+
+	@Override
+	public int getEnd() {
+		return value == null ? -1 : start + value.length();
+	}
+
+	@Override
+	public Group getGroup() {
+		return null;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Error of a replayed result. The original stack trace is a part of the message, so the exception has no stack trace of its own and
+ * is printed as the message only.
+ */
+public class ReplayedException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public ReplayedException(@Nullable String message) {
+		super(message, null, false, false);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(getMessage());
+	}
+}
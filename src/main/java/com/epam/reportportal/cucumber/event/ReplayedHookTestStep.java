@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Hook step restored from a run record.
+ */
+public class ReplayedHookTestStep implements HookTestStep {
+	private final UUID id;
+	private final String codeLocation;
+	private final HookType hookType;
+
+	public ReplayedHookTestStep(@Nonnull UUID id, @Nullable String codeLocation, @Nonnull HookType hookType) {
+		this.id = id;
+		this.codeLocation = codeLocation;
+		this.hookType = hookType;
+	}
+
+	@Override
+	public HookType getHookType() {
+		return hookType;
+	}
+
+	@Override
+	public String getCodeLocation() {
+		return codeLocation;
+	}
+
+	@Override
+	public UUID getId() {
+		return id;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Gherkin step restored from a run record.
+ */
+public class ReplayedPickleStepTestStep implements PickleStepTestStep {
+	private final UUID id;
+	private final String codeLocation;
+	private final String pattern;
+	private final URI uri;
+	private final Step step;
+	private final List<Argument> definitionArgument;
+
+	// Looked up reflectively by AbstractReporter#getCodeRef, replayed code location is already a method reference
+	@SuppressWarnings({ "unused", "FieldCanBeLocal" })
+	private final Object definitionMatch = null;
+
+	public ReplayedPickleStepTestStep(@Nonnull UUID id, @Nullable String codeLocation, @Nullable String pattern,
+			@Nonnull URI uri, @Nonnull Step step, @Nonnull List<Argument> definitionArgument) {
+		this.id = id;
+		this.codeLocation = codeLocation;
+		this.pattern = pattern;
+		this.uri = uri;
+		this.step = step;
+		this.definitionArgument = definitionArgument;
+	}
+
+	@Override
+	public String getPattern() {
+		return pattern;
+	}
+
+	@Override
+	public Step getStep() {
+		return step;
+	}
+
+	@Override
+	public List<Argument> getDefinitionArgument() {
+		return definitionArgument;
+	}
+
+	@Override
+	public StepArgument getStepArgument() {
+		return step.getArgument();
+	}
+
+	@Override
+	public int getStepLine() {
+		return step.getLine();
+	}
+
+	@Override
+	public URI getUri() {
+		return uri;
+	}
+
+	@Override
+	public String getStepText() {
+		return step.getText();
+	}
+
+	@Override
+	public String getCodeLocation() {
+		return codeLocation;
+	}
+
+	@Override
+	public UUID getId() {
+		return id;
+	}
+}
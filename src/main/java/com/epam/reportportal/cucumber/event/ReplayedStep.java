@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Pickle step restored from a run record.
+ */
+public class ReplayedStep implements Step {
+	private final String keyword;
+	private final String text;
+	private final Location location;
+	private final StepArgument argument;
+
+	public ReplayedStep(@Nonnull String keyword, @Nonnull String text, @Nonnull Location location,
+			@Nullable StepArgument argument) {
+		this.keyword = keyword;
+		this.text = text;
+		this.location = location;
+		this.argument = argument;
+	}
+
+	@Override
+	public StepArgument getArgument() {
+		return argument;
+	}
+
+	@Override
+	public String getKeyword() {
+		return keyword;
+	}
+
+	@Override
+	public String getText() {
+		return text;
+	}
+
+	@Override
+	public int getLine() {
+		return location.getLine();
+	}
+
+	@Override
+	public Location getLocation() {
+		return location;
+	}
+
+	public static class ReplayedDocStringArgument implements DocStringArgument {
+		private final String content;
+		private final String mediaType;
+		private final int line;
+
+		public ReplayedDocStringArgument(@Nonnull String content, @Nullable String mediaType, int line) {
+			this.content = content;
+			this.mediaType = mediaType;
+			this.line = line;
+		}
+
+		@Override
+		public String getContent() {
+			return content;
+		}
+
+		@Override
+		public String getContentType() {
+			return mediaType;
+		}
+
+		@Override
+		public String getMediaType() {
+			return mediaType;
+		}
+
+		@Override
+		public int getLine() {
+			return line;
+		}
+	}
+
+	public static class ReplayedDataTableArgument implements DataTableArgument {
+		private final List<List<String>> cells;
+		private final int line;
+
+		public ReplayedDataTableArgument(@Nonnull List<List<String>> cells, int line) {
+			this.cells = cells;
+			this.line = line;
+		}
+
+		@Override
+		public List<List<String>> cells() {
+			return cells;
+		}
+
+		@Override
+		public int getLine() {
+			return line;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.event;
+
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestStep;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Test Case restored from a run record, e.g. Cucumber Messages or an event recording.
+ */
+public class ReplayedTestCase implements TestCase {
+	private final UUID id;
+	private final URI uri;
+	private final String keyword;
+	private final String name;
+	private final Location location;
+	private final List<String> tags;
+	private final List<TestStep> testSteps = new ArrayList<>();
+	private final Map<String, TestStep> testStepsById = new HashMap<>();
+
+	public ReplayedTestCase(@Nonnull UUID id, @Nonnull URI uri, @Nonnull String keyword, @Nonnull String name,
+			@Nonnull Location location, @Nonnull List<String> tags) {
+		this.id = id;
+		this.uri = uri;
+		this.keyword = keyword;
+		this.name = name;
+		this.location = location;
+		this.tags = tags;
+	}
+
+	public void addTestStep(@Nonnull String stepId, @Nonnull TestStep testStep) {
+		testSteps.add(testStep);
+		testStepsById.put(stepId, testStep);
+	}
+
+	@Nullable
+	public TestStep getTestStep(@Nonnull String stepId) {
+		return testStepsById.get(stepId);
+	}
+
+	@Override
+	public Integer getLine() {
+		return location.getLine();
+	}
+
+	@Override
+	public Location getLocation() {
+		return location;
+	}
+
+	@Override
+	public String getKeyword() {
+		return keyword;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getScenarioDesignation() {
+		return uri + ":" + location.getLine() + " # " + name;
+	}
+
+	@Override
+	public List<String> getTags() {
+		return tags;
+	}
+
+	@Override
+	public List<TestStep> getTestSteps() {
+		return testSteps;
+	}
+
+	@Override
+	public URI getUri() {
+		return uri;
+	}
+
+	@Override
+	public UUID getId() {
+		return id;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.history;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local history of item durations from previous runs, keyed by item kind and code reference. The history is a memory-mapped file of a
+ * fixed size: a header and an open addressing table of slots, each slot keeps a 64-bit hash of a kind and a code reference and a ring
+ * buffer of the last {@link #RING_SIZE} durations. Keys which do not fit into the table are not tracked, so the file never grows.
+ * <p>
+ * A current duration is a slowdown if it exceeds the mean of at least {@link #MIN_SAMPLES} previous durations by
+ * {@link #SIGMA_FACTOR} standard deviations, by {@link #MIN_RELATIVE_INCREASE} of the mean and by
+ * {@link #MIN_ABSOLUTE_INCREASE_NANOS}, so fluctuations of very fast items are ignored.
+ * <p>
+ * The file is locked while it is open, so parallel processes of one build update it one after another. The class is not
+ * thread-safe.
+ */
+public class DurationHistory implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(DurationHistory.class);
+
+	public static final int SLOT_COUNT = 8192;
+	public static final int RING_SIZE = 16;
+	public static final int MIN_SAMPLES = 5;
+	public static final double SIGMA_FACTOR = 3;
+	public static final double MIN_RELATIVE_INCREASE = 0.2;
+	public static final long MIN_ABSOLUTE_INCREASE_NANOS = 10_000_000L;
+
+	private static final int MAGIC = 0x52504448;
+	private static final int VERSION = 2;
+	private static final int HEADER_SIZE = 4 * Integer.BYTES;
+	// Slot: key hash, number of recorded durations, padding, durations ring
+	private static final int HASH_OFFSET = 0;
+	private static final int WRITTEN_OFFSET = Long.BYTES;
+	private static final int RING_OFFSET = 2 * Long.BYTES;
+	private static final int SLOT_SIZE = RING_OFFSET + RING_SIZE * Long.BYTES;
+	private static final long FILE_SIZE = HEADER_SIZE + (long) SLOT_COUNT * SLOT_SIZE;
+
+	private final Path file;
+	private final FileChannel channel;
+	private final FileLock lock;
+	private final MappedByteBuffer buffer;
+	private boolean closed;
+
+	/**
+	 * Kind of items a duration belongs to, each kind has its own history.
+	 */
+	public enum Kind {
+		SCENARIO,
+		STEP
+	}
+
+	public DurationHistory(@Nonnull Path file) throws IOException {
+		this.file = file;
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			lock = channel.lock();
+			long size = channel.size();
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+			if (size != FILE_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+				if (size > 0) {
+					LOGGER.warn("Unknown duration history format: {}, starting a new history", file);
+				}
+				for (int i = 0; i < FILE_SIZE; i += Long.BYTES) {
+					buffer.putLong(i, 0L);
+				}
+				buffer.putInt(0, MAGIC);
+				buffer.putInt(Integer.BYTES, VERSION);
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Nonnull
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of an item kind and a code reference, zero is reserved for empty slots.
+	 */
+	static long hash(@Nonnull Kind kind, @Nonnull String key) {
+		long hash = (0xcbf29ce484222325L ^ kind.ordinal()) * 0x100000001b3L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash == 0 ? 1 : hash;
+	}
+
+	/**
+	 * Finds a slot of the key, or an empty slot for it.
+	 *
+	 * @return slot offset, or -1 if the table is full
+	 */
+	private int findSlot(long hash) {
+		int index = (int) (hash ^ (hash >>> 32)) & (SLOT_COUNT - 1);
+		for (int probe = 0; probe < SLOT_COUNT; probe++) {
+			int offset = HEADER_SIZE + ((index + probe) & (SLOT_COUNT - 1)) * SLOT_SIZE;
+			long slotHash = buffer.getLong(offset + HASH_OFFSET);
+			if (slotHash == hash || slotHash == 0) {
+				return offset;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Compare durations of the current run with the history of the same kind and add them to the history.
+	 *
+	 * @param kind      kind of the items
+	 * @param durations current durations by code reference, in nanoseconds
+	 * @return items which are significantly slower than in the previous runs
+	 * @throws IOException if the history is already closed
+	 */
+	@Nonnull
+	public List<Slowdown> update(@Nonnull Kind kind, @Nonnull Map<String, Long> durations) throws IOException {
+		if (closed) {
+			throw new IOException("Duration history is already closed: " + file);
+		}
+		List<Slowdown> result = new ArrayList<>();
+		long[] samples = new long[RING_SIZE];
+		durations.forEach((codeRef, current) -> {
+			long hash = hash(kind, codeRef);
+			int offset = findSlot(hash);
+			if (offset < 0) {
+				return;
+			}
+			buffer.putLong(offset + HASH_OFFSET, hash);
+			int written = buffer.getInt(offset + WRITTEN_OFFSET);
+			int count = Math.min(written, RING_SIZE);
+			for (int i = 0; i < count; i++) {
+				samples[i] = buffer.getLong(offset + RING_OFFSET + i * Long.BYTES);
+			}
+			if (count >= MIN_SAMPLES) {
+				double mean = 0;
+				for (int i = 0; i < count; i++) {
+					mean += samples[i];
+				}
+				mean /= count;
+				double variance = 0;
+				for (int i = 0; i < count; i++) {
+					variance += (samples[i] - mean) * (samples[i] - mean);
+				}
+				double stdDev = Math.sqrt(variance / (count - 1));
+				double increase = current - mean;
+				if (increase > SIGMA_FACTOR * stdDev && increase > MIN_RELATIVE_INCREASE * mean
+						&& increase >= MIN_ABSOLUTE_INCREASE_NANOS) {
+					result.add(new Slowdown(kind, codeRef, current, mean, stdDev, count));
+				}
+			}
+			buffer.putLong(offset + RING_OFFSET + (written % RING_SIZE) * Long.BYTES, current);
+			// keep the counter positive and in the same ring position once it would overflow
+			buffer.putInt(offset + WRITTEN_OFFSET, written == Integer.MAX_VALUE ? RING_SIZE : written + 1);
+		});
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			buffer.force();
+			lock.release();
+		} finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.history;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+
+import static com.epam.reportportal.cucumber.Utils.formatMillis;
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Collects durations of passed scenarios and steps, updates the {@link DurationHistory} with them once the launch is finished and
+ * reports items, which are significantly slower than in previous runs, into a launch log and a launch attribute.
+ */
+public class DurationHistoryCollector implements ReporterListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(DurationHistoryCollector.class);
+	private static final String SLOWDOWNS_FORMAT = "%d item(s) are significantly slower than in previous runs, ms";
+	private static final String SLOWDOWNS_ATTRIBUTE_KEY = "rp.slowdowns";
+
+	private final RunDurations runDurations = new RunDurations();
+	private final Path historyFile;
+	private final Function<TestStep, String> stepCodeRefs;
+	private final Function<TestCase, String> scenarioCodeRefs;
+
+	/**
+	 * @param historyFile      duration history file
+	 * @param stepCodeRefs     code references of step definitions
+	 * @param scenarioCodeRefs code references of scenarios
+	 */
+	public DurationHistoryCollector(@Nonnull Path historyFile, @Nonnull Function<TestStep, String> stepCodeRefs,
+			@Nonnull Function<TestCase, String> scenarioCodeRefs) {
+		this.historyFile = historyFile;
+		this.stepCodeRefs = stepCodeRefs;
+		this.scenarioCodeRefs = scenarioCodeRefs;
+	}
+
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+	}
+
+	private void handleTestStepFinished(@Nonnull TestStepFinished event) {
+		TestStep step = event.getTestStep();
+		String codeLocation = step.getCodeLocation();
+		// the history compares passed executions only, as scenario history does
+		if (step instanceof PickleStepTestStep && codeLocation != null && event.getResult().getStatus() == Status.PASSED) {
+			long nanos = event.getResult().getDuration().toNanos();
+			runDurations.recordStep(codeLocation, () -> ofNullable(stepCodeRefs.apply(step)).orElse(codeLocation), nanos);
+		}
+	}
+
+	private void handleTestCaseFinished(@Nonnull TestCaseFinished event) {
+		if (event.getResult().getStatus() == Status.PASSED) {
+			runDurations.recordScenario(scenarioCodeRefs.apply(event.getTestCase()), event.getResult().getDuration().toNanos());
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		List<Slowdown> slowdowns = new ArrayList<>();
+		try (DurationHistory history = new DurationHistory(historyFile)) {
+			for (DurationHistory.Kind kind : DurationHistory.Kind.values()) {
+				slowdowns.addAll(history.update(kind, runDurations.getMeans(kind)));
+			}
+		} catch (IOException e) {
+			LOGGER.error("Unable to update duration history: {}", historyFile, e);
+			return;
+		}
+		if (slowdowns.isEmpty()) {
+			return;
+		}
+		slowdowns.sort(Comparator.comparingDouble((Slowdown s) -> s.getCurrentNanos() - s.getMeanNanos()).reversed());
+		launch.sendLog(buildSlowdownsLog(slowdowns));
+		launch.addAttributes(Collections.singleton(new ItemAttributesRQ(SLOWDOWNS_ATTRIBUTE_KEY, String.valueOf(slowdowns.size()))));
+	}
+
+	/**
+	 * Extension point to customize the launch log of items, which are significantly slower than in previous runs
+	 *
+	 * @param slowdowns slow items ordered by duration increase
+	 * @return log message
+	 */
+	@Nonnull
+	protected String buildSlowdownsLog(@Nonnull List<Slowdown> slowdowns) {
+		List<List<String>> table = new ArrayList<>(slowdowns.size() + 1);
+		table.add(Arrays.asList("Item", "Kind", "Current", "Mean", "Std dev", "Previous runs"));
+		slowdowns.forEach(s -> table.add(Arrays.asList(
+				s.getCodeRef(),
+				s.getKind().name(),
+				formatMillis(s.getCurrentNanos()),
+				formatMillis(s.getMeanNanos()),
+				formatMillis(s.getStdDevNanos()),
+				String.valueOf(s.getSamples())
+		)));
+		return format(SLOWDOWNS_FORMAT, slowdowns.size()) + "\n\n" + MarkdownUtils.formatDataTable(table);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.history;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Durations of passed scenarios and steps of the current run, which are added to {@link DurationHistory}. Every run stores the same
+ * statistic for both kinds: the mean duration of passed executions per code reference. Scenarios and step definitions are kept apart,
+ * so their histories never mix even if their code references match.
+ * <p>
+ * The class is thread-safe, durations are accumulated in striped adders.
+ */
+public class RunDurations {
+	private final Map<String, Mean> scenarios = new ConcurrentHashMap<>();
+	private final Map<String, Mean> steps = new ConcurrentHashMap<>();
+
+	private static final class Mean {
+		private final String codeRef;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sum = new LongAdder();
+
+		private Mean(@Nonnull String codeRef) {
+			this.codeRef = codeRef;
+		}
+
+		private void record(long nanos) {
+			count.increment();
+			sum.add(nanos);
+		}
+
+		private long get() {
+			long total = count.sum();
+			return total == 0 ? 0 : sum.sum() / total;
+		}
+	}
+
+	private static void record(@Nonnull Map<String, Mean> means, @Nonnull String key, @Nonnull Supplier<String> codeRef, long nanos) {
+		Mean mean = means.get(key);
+		if (mean == null) {
+			mean = means.computeIfAbsent(key, k -> new Mean(codeRef.get()));
+		}
+		mean.record(nanos);
+	}
+
+	/**
+	 * Record duration of a passed scenario.
+	 *
+	 * @param codeRef code reference of the scenario
+	 * @param nanos   scenario duration
+	 */
+	public void recordScenario(@Nonnull String codeRef, long nanos) {
+		record(scenarios, codeRef, () -> codeRef, nanos);
+	}
+
+	/**
+	 * Record duration of a passed step.
+	 *
+	 * @param codeLocation location of the step definition reported by Cucumber, used as a cheap key
+	 * @param codeRef      code reference of the step definition, resolved only on the first step of the definition
+	 * @param nanos        step duration
+	 */
+	public void recordStep(@Nonnull String codeLocation, @Nonnull Supplier<String> codeRef, long nanos) {
+		record(steps, codeLocation, codeRef, nanos);
+	}
+
+	/**
+	 * @param kind scenarios or step definitions
+	 * @return mean durations by code reference, in nanoseconds
+	 */
+	@Nonnull
+	public Map<String, Long> getMeans(@Nonnull DurationHistory.Kind kind) {
+		Map<String, Mean> means = kind == DurationHistory.Kind.SCENARIO ? scenarios : steps;
+		return means.values().stream().collect(Collectors.toMap(m -> m.codeRef, Mean::get, Math::max));
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.history;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * An item which was significantly slower in the current run than in the previous runs kept by {@link DurationHistory}. Durations
+ * are in nanoseconds.
+ */
+public class Slowdown {
+	private final DurationHistory.Kind kind;
+	private final String codeRef;
+	private final long currentNanos;
+	private final double meanNanos;
+	private final double stdDevNanos;
+	private final int samples;
+
+	public Slowdown(@Nonnull DurationHistory.Kind kind, @Nonnull String codeRef, long currentNanos, double meanNanos, double stdDevNanos,
+			int samples) {
+		this.kind = kind;
+		this.codeRef = codeRef;
+		this.currentNanos = currentNanos;
+		this.meanNanos = meanNanos;
+		this.stdDevNanos = stdDevNanos;
+		this.samples = samples;
+	}
+
+	@Nonnull
+	public DurationHistory.Kind getKind() {
+		return kind;
+	}
+
+	@Nonnull
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	public long getCurrentNanos() {
+		return currentNanos;
+	}
+
+	public double getMeanNanos() {
+		return meanNanos;
+	}
+
+	public double getStdDevNanos() {
+		return stdDevNanos;
+	}
+
+	/**
+	 * @return number of previous runs the current duration was compared with
+	 */
+	public int getSamples() {
+		return samples;
+	}
+}
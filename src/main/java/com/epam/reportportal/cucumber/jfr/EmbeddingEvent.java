@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nullable;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.net.URI;
+
+/**
+ * Time spent by the reporter to send an embedding (attachment).
+ */
+@Name("com.epam.reportportal.cucumber.Embedding")
+@Label("Embedding")
+@Description("Time spent by the reporter to send an embedding")
+public class EmbeddingEvent extends ReporterEvent {
+	private static final EventType TYPE = EventType.getEventType(EmbeddingEvent.class);
+
+	@Label("MIME Type")
+	protected String mimeType;
+
+	@Label("Size")
+	@DataAmount
+	protected long size;
+
+	/**
+	 * @return begun event, or null if the event is disabled
+	 */
+	@Nullable
+	public static EmbeddingEvent start() {
+		return start(TYPE, EmbeddingEvent::new);
+	}
+
+	/**
+	 * End the event and commit it with the given attachment type and size.
+	 *
+	 * @param event    an event returned by {@link #start()}, or null
+	 * @param uri      feature file URI
+	 * @param line     line number in the feature file
+	 * @param mimeType attachment MIME type
+	 * @param size     attachment size in bytes
+	 */
+	public static void complete(@Nullable EmbeddingEvent event, @Nullable URI uri, int line, @Nullable String mimeType, long size) {
+		if (event != null) {
+			event.mimeType = mimeType;
+			event.size = size;
+			event.complete(uri, line);
+		}
+	}
+}
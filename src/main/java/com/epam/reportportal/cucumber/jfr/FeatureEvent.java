@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nullable;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Time spent by the reporter to handle start or finish of a Cucumber feature.
+ */
+@Name("com.epam.reportportal.cucumber.Feature")
+@Label("Feature Handling")
+@Description("Time spent by the reporter to handle start or finish of a Cucumber feature")
+public class FeatureEvent extends ItemEvent {
+	private static final EventType TYPE = EventType.getEventType(FeatureEvent.class);
+
+	/**
+	 * @return begun event, or null if the event is disabled
+	 */
+	@Nullable
+	public static FeatureEvent start() {
+		return start(TYPE, FeatureEvent::new);
+	}
+}
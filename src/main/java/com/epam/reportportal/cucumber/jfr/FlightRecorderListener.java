@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.jfr;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Records reporter handlers of scenarios, steps, hooks, embeddings, logs and the launch finish as Java Flight Recorder events. An
+ * event is created only if its type is enabled in a running recording. Cucumber sends all events of a Test Case on the thread which
+ * executes it and handlers don't nest, so the current event is kept per thread.
+ */
+public class FlightRecorderListener implements ReporterListener, HandlerInterceptor {
+	private final ThreadLocal<ReporterEvent> current = new ThreadLocal<>();
+
+	@Nullable
+	private static ReporterEvent start(@Nonnull Object event) {
+		if (event instanceof TestCaseStarted || event instanceof TestCaseFinished) {
+			return ScenarioEvent.start();
+		}
+		if (event instanceof TestStepStarted || event instanceof TestStepFinished) {
+			TestStep step = event instanceof TestStepStarted ?
+					((TestStepStarted) event).getTestStep() :
+					((TestStepFinished) event).getTestStep();
+			if (step instanceof HookTestStep) {
+				return HookEvent.start();
+			}
+			return step instanceof PickleStepTestStep ? StepEvent.start() : null;
+		}
+		if (event instanceof TestRunFinished) {
+			return LaunchFinishEvent.start();
+		}
+		if (event instanceof EmbedEvent) {
+			return EmbeddingEvent.start();
+		}
+		return event instanceof WriteEvent ? LogEvent.start() : null;
+	}
+
+	private static int getLine(@Nonnull TestCase testCase, @Nonnull TestStep step) {
+		return step instanceof PickleStepTestStep ? ((PickleStepTestStep) step).getStep().getLine() : testCase.getLocation().getLine();
+	}
+
+	private static void complete(@Nonnull ReporterEvent reporterEvent, @Nonnull Object event) {
+		if (event instanceof TestRunFinished) {
+			ReporterEvent.complete(reporterEvent, null, 0);
+			return;
+		}
+		TestCase testCase = ((TestCaseEvent) event).getTestCase();
+		int line = testCase.getLocation().getLine();
+		if (event instanceof TestCaseStarted) {
+			ItemEvent.complete((ItemEvent) reporterEvent, ItemEvent.START, testCase.getUri(), line);
+		} else if (event instanceof TestCaseFinished) {
+			ItemEvent.complete((ItemEvent) reporterEvent, ItemEvent.FINISH, testCase.getUri(), line);
+		} else if (event instanceof TestStepStarted) {
+			TestStep step = ((TestStepStarted) event).getTestStep();
+			ItemEvent.complete((ItemEvent) reporterEvent, ItemEvent.START, testCase.getUri(), getLine(testCase, step));
+		} else if (event instanceof TestStepFinished) {
+			TestStep step = ((TestStepFinished) event).getTestStep();
+			ItemEvent.complete((ItemEvent) reporterEvent, ItemEvent.FINISH, testCase.getUri(), getLine(testCase, step));
+		} else if (event instanceof EmbedEvent) {
+			EmbedEvent embedEvent = (EmbedEvent) event;
+			EmbeddingEvent.complete(
+					(EmbeddingEvent) reporterEvent,
+					testCase.getUri(),
+					line,
+					embedEvent.getMediaType(),
+					embedEvent.getData().length
+			);
+		} else if (event instanceof WriteEvent) {
+			int length = ofNullable(((WriteEvent) event).getText()).map(String::length).orElse(0);
+			LogEvent.complete((LogEvent) reporterEvent, testCase.getUri(), line, length);
+		}
+	}
+
+	@Nonnull
+	@Override
+	public HandlerInterceptor getInterceptor() {
+		return this;
+	}
+
+	@Override
+	public void before(@Nonnull Class<?> eventType, @Nonnull Object event) {
+		ReporterEvent reporterEvent = start(event);
+		if (reporterEvent != null) {
+			current.set(reporterEvent);
+		}
+	}
+
+	@Override
+	public void after(@Nonnull Class<?> eventType, @Nonnull Object event, long startNanos, long nanos) {
+		ReporterEvent reporterEvent = current.get();
+		if (reporterEvent != null) {
+			current.remove();
+			complete(reporterEvent, event);
+		}
+	}
+}
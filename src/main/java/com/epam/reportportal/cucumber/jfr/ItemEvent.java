@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Label;
+
+import java.net.URI;
+
+/**
+ * Base event for start and finish handling of a test item.
+ */
+public abstract class ItemEvent extends ReporterEvent {
+	public static final String START = "START";
+	public static final String FINISH = "FINISH";
+
+	@Label("Phase")
+	protected String phase;
+
+	/**
+	 * End the event and commit it with the given handling phase and location.
+	 *
+	 * @param event an event returned by {@code start()}, or null
+	 * @param phase {@link #START} or {@link #FINISH}
+	 * @param uri   feature file URI
+	 * @param line  line number in the feature file
+	 */
+	public static void complete(@Nullable ItemEvent event, @Nonnull String phase, @Nullable URI uri, int line) {
+		if (event != null) {
+			event.phase = phase;
+			event.complete(uri, line);
+		}
+	}
+}
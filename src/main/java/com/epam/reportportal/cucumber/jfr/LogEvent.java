@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nullable;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.net.URI;
+
+/**
+ * Time spent by the reporter to send a text log entry.
+ */
+@Name("com.epam.reportportal.cucumber.Log")
+@Label("Log Emission")
+@Description("Time spent by the reporter to send a text log entry")
+public class LogEvent extends ReporterEvent {
+	private static final EventType TYPE = EventType.getEventType(LogEvent.class);
+
+	@Label("Length")
+	protected int length;
+
+	/**
+	 * @return begun event, or null if the event is disabled
+	 */
+	@Nullable
+	public static LogEvent start() {
+		return start(TYPE, LogEvent::new);
+	}
+
+	/**
+	 * End the event and commit it with the given message length.
+	 *
+	 * @param event  an event returned by {@link #start()}, or null
+	 * @param uri    feature file URI
+	 * @param line   line number in the feature file
+	 * @param length message length in characters
+	 */
+	public static void complete(@Nullable LogEvent event, @Nullable URI uri, int line, int length) {
+		if (event != null) {
+			event.length = length;
+			event.complete(uri, line);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.net.URI;
+
+/**
+ * Time spent on a reflection lookup of step definition data: its code reference or Test Case ID.
+ */
+@Name("com.epam.reportportal.cucumber.ReflectionLookup")
+@Label("Reflection Lookup")
+@Description("Time spent on a reflection lookup of step definition data")
+public class ReflectionLookupEvent extends ReporterEvent {
+	public static final String CODE_REF = "CODE_REF";
+	public static final String TEST_CASE_ID = "TEST_CASE_ID";
+	private static final EventType TYPE = EventType.getEventType(ReflectionLookupEvent.class);
+
+	@Label("Lookup")
+	protected String lookup;
+
+	@Label("Code Reference")
+	protected String codeRef;
+
+	/**
+	 * @return begun event, or null if the event is disabled
+	 */
+	@Nullable
+	public static ReflectionLookupEvent start() {
+		return start(TYPE, ReflectionLookupEvent::new);
+	}
+
+	/**
+	 * End the event and commit it with the given lookup type and its result.
+	 *
+	 * @param event   an event returned by {@link #start()}, or null
+	 * @param uri     feature file URI
+	 * @param line    line number in the feature file
+	 * @param lookup  {@link #CODE_REF} or {@link #TEST_CASE_ID}
+	 * @param codeRef a code reference of the step definition
+	 */
+	public static void complete(@Nullable ReflectionLookupEvent event, @Nullable URI uri, int line, @Nonnull String lookup,
+			@Nullable String codeRef) {
+		if (event != null) {
+			event.lookup = lookup;
+			event.codeRef = codeRef;
+			event.complete(uri, line);
+		}
+	}
+}
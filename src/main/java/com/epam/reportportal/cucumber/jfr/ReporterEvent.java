@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.net.URI;
+import java.util.function.Supplier;
+
+/**
+ * Base Java Flight Recorder event of the reporter. Every event carries a location in a feature file, if there is one.
+ * <p>
+ * Events are started with {@link #start(EventType, Supplier)}, which checks the event type once and returns null if no recording
+ * enables it, so nothing is allocated, and completed with static {@code complete} methods, which accept such null events. The
+ * fields are set only after {@link #shouldCommit()} check.
+ */
+@Category({ "ReportPortal", "Cucumber" })
+@StackTrace(false)
+public abstract class ReporterEvent extends Event {
+	@Label("Feature URI")
+	protected String featureUri;
+
+	@Label("Line")
+	protected int line;
+
+	/**
+	 * Begin an event of the given type, if it is enabled in any running recording.
+	 *
+	 * @param type    event type
+	 * @param factory event constructor
+	 * @param <T>     event class
+	 * @return begun event, or null if the event type is disabled
+	 */
+	@Nullable
+	protected static <T extends ReporterEvent> T start(@Nonnull EventType type, @Nonnull Supplier<T> factory) {
+		if (!type.isEnabled()) {
+			return null;
+		}
+		T event = factory.get();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the event and commit it with the given location, if the event is enabled and its duration passes the threshold.
+	 *
+	 * @param event an event returned by {@code start()}, or null
+	 * @param uri   feature file URI
+	 * @param line  line number in the feature file
+	 */
+	public static void complete(@Nullable ReporterEvent event, @Nullable URI uri, int line) {
+		if (event != null) {
+			event.complete(uri, line);
+		}
+	}
+
+	protected void complete(@Nullable URI uri, int line) {
+		end();
+		if (shouldCommit()) {
+			featureUri = uri == null ? null : uri.toString();
+			this.line = line;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,668 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.messages;
+
+import com.epam.reportportal.cucumber.AbstractReporter;
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.cucumber.event.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.core.gherkin.FeatureParser;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Imports a run recorded by Cucumber's <code>message</code> formatter (NDJSON file of Cucumber Messages envelopes) and replays it
+ * through a reporter's feature, scenario, step and hook lifecycle, the same way as the reporter would report the run live.
+ * <p>
+ * The file is read envelope by envelope with a streaming parser, so memory consumption does not depend on the number of results:
+ * positions and keywords of Gherkin document nodes are kept only until the pickles of the document are read, since Gherkin emits
+ * pickles right after their document, pickles are reduced to the fields the reporter needs and released once their Test Case is built,
+ * and Test Case runs are released as soon as they are finished. Attachment bodies are read whole, one attachment at a time.
+ * <p>
+ * Usage: <code>java -cp &lt;classpath&gt; com.epam.reportportal.cucumber.messages.MessagesImporter &lt;file.ndjson&gt;
+ * [reporter class]</code>, the default reporter is {@link ScenarioReporter}.
+ */
+public class MessagesImporter {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MessagesImporter.class);
+
+	public static final String LOG_MEDIA_TYPE = "text/x.cucumber.log+plain";
+	private static final String BASE64_ENCODING = "BASE64";
+
+	public static final int EXIT_SUCCESS = 0;
+	public static final int EXIT_FAILURE = 1;
+	public static final int EXIT_USAGE = 2;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final ReplayEventPublisher publisher = new ReplayEventPublisher();
+	private final FeatureParser featureParser;
+
+	private final Map<String, AstNode> astNodes = new HashMap<>();
+	private final Map<String, Pickle> pickles = new HashMap<>();
+	private final Map<String, Definition> stepDefinitions = new HashMap<>();
+	private final Map<String, Definition> hooks = new HashMap<>();
+	private final Map<String, ReplayedTestCase> testCases = new HashMap<>();
+	private final Map<String, TestCaseRun> testCaseRuns = new HashMap<>();
+
+	private Instant runStartTime;
+	private Instant lastTime = Instant.now();
+
+	/**
+	 * Gherkin document node position, the only thing which is not available in pickles.
+	 */
+	private static class AstNode {
+		private final Location location;
+		private final String keyword;
+
+		private AstNode(@Nonnull Location location, @Nullable String keyword) {
+			this.location = location;
+			this.keyword = keyword;
+		}
+	}
+
+	/**
+	 * Pickle fields used to build its Test Case, with Gherkin document positions and keywords resolved.
+	 */
+	private static class Pickle {
+		private final URI uri;
+		private final String keyword;
+		private final String name;
+		private final Location location;
+		private final List<String> tags;
+		private final Map<String, ReplayedStep> steps;
+
+		private Pickle(@Nonnull URI uri, @Nonnull String keyword, @Nonnull String name, @Nonnull Location location,
+				@Nonnull List<String> tags, @Nonnull Map<String, ReplayedStep> steps) {
+			this.uri = uri;
+			this.keyword = keyword;
+			this.name = name;
+			this.location = location;
+			this.tags = tags;
+			this.steps = steps;
+		}
+	}
+
+	/**
+	 * Step definition or hook.
+	 */
+	private static class Definition {
+		private final String codeLocation;
+		private final String patternOrType;
+
+		private Definition(@Nullable String codeLocation, @Nullable String patternOrType) {
+			this.codeLocation = codeLocation;
+			this.patternOrType = patternOrType;
+		}
+	}
+
+	/**
+	 * A started Test Case and its the most severe step result.
+	 */
+	private static class TestCaseRun {
+		private final String testCaseId;
+		private final ReplayedTestCase testCase;
+		private final Instant startTime;
+		private Result result;
+
+		private TestCaseRun(@Nonnull String testCaseId, @Nonnull ReplayedTestCase testCase, @Nonnull Instant startTime) {
+			this.testCaseId = testCaseId;
+			this.testCase = testCase;
+			this.startTime = startTime;
+		}
+
+		private void update(@Nonnull Result stepResult) {
+			if (stepResult.getStatus() == Status.UNUSED) {
+				return;
+			}
+			if (result == null || stepResult.getStatus().ordinal() > result.getStatus().ordinal()) {
+				result = stepResult;
+			}
+		}
+
+		@Nonnull
+		private Result getResult(@Nonnull Instant endTime) {
+			Duration duration = Duration.between(startTime, endTime);
+			return result == null ?
+					new Result(Status.PASSED, duration, null) :
+					new Result(result.getStatus(), duration, result.getError());
+		}
+	}
+
+	/**
+	 * @param reporter reporter to replay the run through, should not be subscribed to any other event publisher
+	 */
+	public MessagesImporter(@Nonnull AbstractReporter reporter) {
+		Iterator<FeatureParser> parsers = ServiceLoader.load(FeatureParser.class, MessagesImporter.class.getClassLoader()).iterator();
+		if (!parsers.hasNext()) {
+			throw new IllegalStateException("Unable to find Gherkin feature parser implementation on the classpath");
+		}
+		featureParser = parsers.next();
+		reporter.setEventPublisher(publisher);
+	}
+
+	/**
+	 * Import a messages file.
+	 *
+	 * @param file NDJSON file with Cucumber Messages
+	 * @throws IOException if the file can't be read or is malformed
+	 */
+	public void importMessages(@Nonnull Path file) throws IOException {
+		try (InputStream stream = Files.newInputStream(file)) {
+			importMessages(stream);
+		}
+	}
+
+	/**
+	 * Import a stream of Cucumber Messages envelopes.
+	 *
+	 * @param stream NDJSON stream with Cucumber Messages
+	 * @throws IOException if the stream can't be read or is malformed
+	 */
+	public void importMessages(@Nonnull InputStream stream) throws IOException {
+		try (JsonParser parser = mapper.getFactory().createParser(stream)) {
+			while (parser.nextToken() != null) {
+				if (parser.currentToken() != JsonToken.START_OBJECT) {
+					throw new IOException("Envelope object expected at " + parser.getCurrentLocation());
+				}
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String type = parser.getCurrentName();
+					parser.nextToken();
+					if ("attachment".equals(type)) {
+						handleAttachment(parser);
+					} else {
+						handleMessage(type, mapper.readTree(parser));
+					}
+				}
+			}
+		}
+	}
+
+	private void handleMessage(@Nonnull String type, @Nonnull JsonNode message) {
+		switch (type) {
+			case "source":
+				handleSource(message);
+				break;
+			case "gherkinDocument":
+				// pickles of the previous document are already read
+				astNodes.clear();
+				collectAstNodes(message.path("feature"));
+				break;
+			case "pickle":
+				pickles.put(message.path("id").asText(), buildPickle(message));
+				break;
+			case "stepDefinition":
+				String pattern = text(message.path("pattern").path("source"));
+				stepDefinitions.put(
+						message.path("id").asText(),
+						new Definition(getCodeLocation(message.path("sourceReference"), false), pattern)
+				);
+				break;
+			case "hook":
+				hooks.put(
+						message.path("id").asText(),
+						new Definition(getCodeLocation(message.path("sourceReference"), true), text(message.path("type")))
+				);
+				break;
+			case "testRunStarted":
+				runStartTime = toInstant(message.path("timestamp"));
+				publisher.publish(new TestRunStarted(runStartTime));
+				break;
+			case "testCase":
+				handleTestCase(message);
+				break;
+			case "testCaseStarted":
+				handleTestCaseStarted(message);
+				break;
+			case "testStepStarted":
+			case "testStepFinished":
+				handleTestStep(type, message);
+				break;
+			case "testCaseFinished":
+				handleTestCaseFinished(message);
+				break;
+			case "testRunFinished":
+				astNodes.clear();
+				handleTestRunFinished(message);
+				break;
+			default:
+				// meta, parameterType, undefinedParameterType, etc. are not used by the reporter
+		}
+	}
+
+	@Nullable
+	private static String text(@Nonnull JsonNode node) {
+		return node.isMissingNode() || node.isNull() ? null : node.asText();
+	}
+
+	@Nonnull
+	private Instant toInstant(@Nonnull JsonNode timestamp) {
+		if (!timestamp.isMissingNode()) {
+			lastTime = Instant.ofEpochSecond(timestamp.path("seconds").asLong(), timestamp.path("nanos").asLong());
+		}
+		return lastTime;
+	}
+
+	@Nonnull
+	private static Duration toDuration(@Nonnull JsonNode duration) {
+		return Duration.ofSeconds(duration.path("seconds").asLong(), duration.path("nanos").asLong());
+	}
+
+	@Nullable
+	private static String getCodeLocation(@Nonnull JsonNode sourceReference, boolean withParameters) {
+		JsonNode method = sourceReference.path("javaMethod");
+		if (!method.isMissingNode()) {
+			String location = method.path("className").asText() + "." + method.path("methodName").asText();
+			if (!withParameters) {
+				return location;
+			}
+			return location + StreamSupport.stream(method.path("methodParameterTypes").spliterator(), false)
+					.map(JsonNode::asText)
+					.collect(Collectors.joining(",", "(", ")"));
+		}
+		JsonNode stackTraceElement = sourceReference.path("javaStackTraceElement");
+		if (!stackTraceElement.isMissingNode()) {
+			return stackTraceElement.path("className").asText() + "." + stackTraceElement.path("methodName").asText();
+		}
+		String uri = text(sourceReference.path("uri"));
+		if (uri != null) {
+			return uri + ":" + sourceReference.path("location").path("line").asInt();
+		}
+		return null;
+	}
+
+	private void handleSource(@Nonnull JsonNode message) {
+		URI uri = URI.create(message.path("uri").asText());
+		String source = message.path("data").asText();
+		publisher.publish(new TestSourceRead(lastTime, uri, source));
+		Optional<io.cucumber.core.gherkin.Feature> feature = featureParser.parse(uri, source, UUID::randomUUID);
+		if (feature.isPresent()) {
+			publisher.publish(new TestSourceParsed(lastTime, uri, Collections.singletonList(feature.get())));
+		} else {
+			LOGGER.warn("Unable to parse imported feature: {}", uri);
+		}
+	}
+
+	private void putAstNode(@Nonnull JsonNode node) {
+		JsonNode location = node.path("location");
+		astNodes.put(
+				node.path("id").asText(),
+				new AstNode(new Location(location.path("line").asInt(), location.path("column").asInt()), text(node.path("keyword")))
+		);
+	}
+
+	/**
+	 * Collect the nodes pickles refer to: scenarios, background and scenario steps, and Examples rows.
+	 */
+	private void collectAstNodes(@Nonnull JsonNode feature) {
+		feature.path("children").forEach(child -> {
+			JsonNode rule = child.path("rule");
+			if (rule.isMissingNode()) {
+				collectChildAstNodes(child);
+			} else {
+				rule.path("children").forEach(this::collectChildAstNodes);
+			}
+		});
+	}
+
+	private void collectChildAstNodes(@Nonnull JsonNode child) {
+		child.path("background").path("steps").forEach(this::putAstNode);
+		JsonNode scenario = child.path("scenario");
+		if (!scenario.isMissingNode()) {
+			putAstNode(scenario);
+			scenario.path("steps").forEach(this::putAstNode);
+			scenario.path("examples").forEach(examples -> examples.path("tableBody").forEach(this::putAstNode));
+		}
+	}
+
+	@Nonnull
+	private Location getLocation(@Nonnull JsonNode astNodeIds, int index) {
+		AstNode node = astNodes.get(astNodeIds.path(index).asText());
+		return node == null ? new Location(0, 0) : node.location;
+	}
+
+	@Nullable
+	private static StepArgument buildStepArgument(@Nonnull JsonNode argument, int line) {
+		JsonNode docString = argument.path("docString");
+		if (!docString.isMissingNode()) {
+			return new ReplayedStep.ReplayedDocStringArgument(
+					docString.path("content").asText(),
+					text(docString.path("mediaType")),
+					line + 1
+			);
+		}
+		JsonNode dataTable = argument.path("dataTable");
+		if (!dataTable.isMissingNode()) {
+			List<List<String>> cells = new ArrayList<>();
+			dataTable.path("rows")
+					.forEach(row -> cells.add(StreamSupport.stream(row.path("cells").spliterator(), false)
+							.map(c -> c.path("value").asText())
+							.collect(Collectors.toList())));
+			return new ReplayedStep.ReplayedDataTableArgument(cells, line + 1);
+		}
+		return null;
+	}
+
+	@Nonnull
+	private static List<Argument> buildArguments(@Nonnull JsonNode stepMatchArgumentsLists) {
+		if (stepMatchArgumentsLists.size() != 1) {
+			return Collections.emptyList();
+		}
+		List<Argument> arguments = new ArrayList<>();
+		stepMatchArgumentsLists.path(0).path("stepMatchArguments").forEach(a -> {
+			JsonNode group = a.path("group");
+			arguments.add(new ReplayedArgument(
+					a.path("parameterTypeName").asText(),
+					text(group.path("value")),
+					group.path("start").asInt()
+			));
+		});
+		return arguments;
+	}
+
+	@Nonnull
+	private static UUID toUuid(@Nonnull String messageId) {
+		return UUID.nameUUIDFromBytes(messageId.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nonnull
+	private static HookType getHookType(@Nullable String type, boolean beforeSteps, boolean afterSteps) {
+		if (type != null) {
+			switch (type) {
+				case "BEFORE_TEST_CASE":
+					return HookType.BEFORE;
+				case "AFTER_TEST_CASE":
+					return HookType.AFTER;
+				case "BEFORE_TEST_STEP":
+					return HookType.BEFORE_STEP;
+				case "AFTER_TEST_STEP":
+					return HookType.AFTER_STEP;
+				default:
+					// fall back to the position of the hook
+			}
+		}
+		// older messages do not have hook type, hooks between steps are considered as after step hooks
+		return beforeSteps ? HookType.BEFORE : afterSteps ? HookType.AFTER : HookType.AFTER_STEP;
+	}
+
+	@Nonnull
+	private Pickle buildPickle(@Nonnull JsonNode message) {
+		URI uri = URI.create(message.path("uri").asText());
+		JsonNode astNodeIds = message.path("astNodeIds");
+		AstNode scenario = astNodes.get(astNodeIds.path(0).asText());
+		String keyword = scenario == null || scenario.keyword == null ? "Scenario" : scenario.keyword;
+		List<String> tags = StreamSupport.stream(message.path("tags").spliterator(), false)
+				.map(t -> t.path("name").asText())
+				.collect(Collectors.toList());
+		Map<String, ReplayedStep> steps = new HashMap<>();
+		message.path("steps").forEach(s -> {
+			JsonNode stepAstNodeIds = s.path("astNodeIds");
+			AstNode stepNode = astNodes.get(stepAstNodeIds.path(0).asText());
+			Location location = getLocation(stepAstNodeIds, 0);
+			steps.put(
+					s.path("id").asText(), new ReplayedStep(
+							stepNode == null || stepNode.keyword == null ? "" : stepNode.keyword,
+							s.path("text").asText(),
+							location,
+							buildStepArgument(s.path("argument"), location.getLine())
+					)
+			);
+		});
+		return new Pickle(uri, keyword, message.path("name").asText(), getLocation(astNodeIds, astNodeIds.size() - 1), tags, steps);
+	}
+
+	private void handleTestCase(@Nonnull JsonNode message) {
+		String testCaseId = message.path("id").asText();
+		Pickle pickle = pickles.remove(message.path("pickleId").asText());
+		if (pickle == null) {
+			LOGGER.warn("Unable to find pickle of imported Test Case: {}", testCaseId);
+			return;
+		}
+		URI uri = pickle.uri;
+		ReplayedTestCase testCase = new ReplayedTestCase(
+				toUuid(testCaseId),
+				uri,
+				pickle.keyword,
+				pickle.name,
+				pickle.location,
+				pickle.tags
+		);
+
+		JsonNode testSteps = message.path("testSteps");
+		int firstStep = -1;
+		int lastStep = -1;
+		for (int i = 0; i < testSteps.size(); i++) {
+			if (testSteps.path(i).has("pickleStepId")) {
+				firstStep = firstStep < 0 ? i : firstStep;
+				lastStep = i;
+			}
+		}
+		for (int i = 0; i < testSteps.size(); i++) {
+			JsonNode testStep = testSteps.path(i);
+			String testStepId = testStep.path("id").asText();
+			ReplayedStep step = pickle.steps.get(testStep.path("pickleStepId").asText());
+			if (step != null) {
+				JsonNode definitionIds = testStep.path("stepDefinitionIds");
+				Definition definition = definitionIds.size() == 1 ? stepDefinitions.get(definitionIds.path(0).asText()) : null;
+				testCase.addTestStep(
+						testStepId, new ReplayedPickleStepTestStep(
+								toUuid(testStepId),
+								definition == null ? null : definition.codeLocation,
+								definition == null ? null : definition.patternOrType,
+								uri,
+								step,
+								buildArguments(testStep.path("stepMatchArgumentsLists"))
+						)
+				);
+			} else {
+				Definition hook = hooks.get(testStep.path("hookId").asText());
+				testCase.addTestStep(
+						testStepId, new ReplayedHookTestStep(
+								toUuid(testStepId),
+								hook == null ? null : hook.codeLocation,
+								getHookType(hook == null ? null : hook.patternOrType, firstStep < 0 || i < firstStep, i > lastStep)
+						)
+				);
+			}
+		}
+		testCases.put(testCaseId, testCase);
+	}
+
+	private void handleTestCaseStarted(@Nonnull JsonNode message) {
+		Instant time = toInstant(message.path("timestamp"));
+		String testCaseId = message.path("testCaseId").asText();
+		ReplayedTestCase testCase = testCases.get(testCaseId);
+		if (testCase == null) {
+			LOGGER.warn("Unable to find imported Test Case: {}", testCaseId);
+			return;
+		}
+		testCaseRuns.put(message.path("id").asText(), new TestCaseRun(testCaseId, testCase, time));
+		publisher.publish(new TestCaseStarted(time, testCase));
+	}
+
+	@Nonnull
+	private static Status toStatus(@Nonnull String status) {
+		switch (status) {
+			case "PASSED":
+				return Status.PASSED;
+			case "SKIPPED":
+				return Status.SKIPPED;
+			case "PENDING":
+				return Status.PENDING;
+			case "UNDEFINED":
+				return Status.UNDEFINED;
+			case "AMBIGUOUS":
+				return Status.AMBIGUOUS;
+			case "FAILED":
+				return Status.FAILED;
+			default:
+				return Status.UNUSED;
+		}
+	}
+
+	@Nonnull
+	private static Result toResult(@Nonnull JsonNode result) {
+		String message = text(result.path("message"));
+		Throwable error = message == null ? null : new ReplayedException(message);
+		return new Result(toStatus(result.path("status").asText()), toDuration(result.path("duration")), error);
+	}
+
+	private void handleTestStep(@Nonnull String type, @Nonnull JsonNode message) {
+		Instant time = toInstant(message.path("timestamp"));
+		TestCaseRun run = testCaseRuns.get(message.path("testCaseStartedId").asText());
+		TestStep testStep = run == null ? null : run.testCase.getTestStep(message.path("testStepId").asText());
+		if (testStep == null) {
+			LOGGER.warn("Unable to find imported Test Step: {}", message.path("testStepId").asText());
+			return;
+		}
+		if ("testStepStarted".equals(type)) {
+			publisher.publish(new TestStepStarted(time, run.testCase, testStep));
+		} else {
+			Result result = toResult(message.path("testStepResult"));
+			run.update(result);
+			publisher.publish(new TestStepFinished(time, run.testCase, testStep, result));
+		}
+	}
+
+	private void handleTestCaseFinished(@Nonnull JsonNode message) {
+		Instant time = toInstant(message.path("timestamp"));
+		TestCaseRun run = testCaseRuns.remove(message.path("testCaseStartedId").asText());
+		if (run == null) {
+			LOGGER.warn("Unable to find imported Test Case run: {}", message.path("testCaseStartedId").asText());
+			return;
+		}
+		if (!message.path("willBeRetried").asBoolean(false)) {
+			testCases.remove(run.testCaseId);
+		}
+		publisher.publish(new TestCaseFinished(time, run.testCase, run.getResult(time)));
+	}
+
+	private void handleTestRunFinished(@Nonnull JsonNode message) {
+		Instant time = toInstant(message.path("timestamp"));
+		Duration duration = runStartTime == null ? Duration.ZERO : Duration.between(runStartTime, time);
+		String error = text(message.path("message"));
+		Status status = message.path("success").asBoolean(true) ? Status.PASSED : Status.FAILED;
+		publisher.publish(new TestRunFinished(time, new Result(status, duration, error == null ? null : new ReplayedException(error))));
+	}
+
+	private void handleAttachment(@Nonnull JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return;
+		}
+		String body = "";
+		String encoding = null;
+		String mediaType = null;
+		String fileName = null;
+		String testCaseStartedId = null;
+		Instant time = lastTime;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			parser.nextToken();
+			switch (field) {
+				case "body":
+					body = parser.getText();
+					break;
+				case "contentEncoding":
+					encoding = parser.getText();
+					break;
+				case "mediaType":
+					mediaType = parser.getText();
+					break;
+				case "fileName":
+					fileName = parser.getText();
+					break;
+				case "testCaseStartedId":
+					testCaseStartedId = parser.getText();
+					break;
+				case "timestamp":
+					time = toInstant(mapper.readTree(parser));
+					break;
+				default:
+					parser.skipChildren();
+			}
+		}
+		TestCaseRun run = testCaseStartedId == null ? null : testCaseRuns.get(testCaseStartedId);
+		if (run == null) {
+			LOGGER.debug("Skipping imported attachment outside of a Test Case");
+			return;
+		}
+		if (BASE64_ENCODING.equals(encoding)) {
+			byte[] data;
+			try {
+				data = Base64.getDecoder().decode(body);
+			} catch (IllegalArgumentException e) {
+				LOGGER.warn("Skipping imported attachment with malformed Base64 body: {}", fileName);
+				return;
+			}
+			publisher.publish(new EmbedEvent(time, run.testCase, data, mediaType, fileName));
+		} else if (LOG_MEDIA_TYPE.equals(mediaType)) {
+			publisher.publish(new WriteEvent(time, run.testCase, body));
+		} else {
+			publisher.publish(new EmbedEvent(time, run.testCase, body.getBytes(StandardCharsets.UTF_8), mediaType, fileName));
+		}
+	}
+
+	/**
+	 * Import a messages file through a new instance of the given reporter.
+	 *
+	 * @param args NDJSON file with Cucumber Messages and an optional reporter class name
+	 * @return {@link #EXIT_SUCCESS} if the file was imported, {@link #EXIT_FAILURE} if the import failed, {@link #EXIT_USAGE} if no
+	 * file was given
+	 */
+	public static int run(@Nonnull String... args) {
+		if (args.length == 0) {
+			LOGGER.error("Usage: {} <file.ndjson> [reporter class]", MessagesImporter.class.getName());
+			return EXIT_USAGE;
+		}
+		try {
+			Class<? extends AbstractReporter> reporterClass = args.length > 1 ?
+					Class.forName(args[1]).asSubclass(AbstractReporter.class) :
+					ScenarioReporter.class;
+			AbstractReporter reporter = reporterClass.getDeclaredConstructor().newInstance();
+			new MessagesImporter(reporter).importMessages(Paths.get(args[0]));
+			return EXIT_SUCCESS;
+		} catch (IOException | ReflectiveOperationException | RuntimeException e) {
+			LOGGER.error("Unable to import messages file: {}", args[0], e);
+			return EXIT_FAILURE;
+		}
+	}
+
+	public static void main(String[] args) {
+		int exitCode = run(args);
+		if (exitCode != EXIT_SUCCESS) {
+			System.exit(exitCode);
+		}
+	}
+}
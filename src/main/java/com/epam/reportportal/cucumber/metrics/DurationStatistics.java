@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free duration statistics of a single step definition. Count, sum, minimum and maximum are kept in striped accumulators, so
+ * parallel threads do not contend on a single memory cell. Quantiles are estimated with a fixed size sketch of the same
+ * logarithmic buckets as {@link LatencyHistogram} over microseconds, values above ~19 hours share the last bucket.
+ */
+public class DurationStatistics {
+	private static final int SKETCH_BUCKET_COUNT = LatencyHistogram.bucketIndex(1L << 36);
+
+	private final String codeRef;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	private final AtomicLongArray sketch = new AtomicLongArray(SKETCH_BUCKET_COUNT);
+
+	public DurationStatistics(@Nonnull String codeRef) {
+		this.codeRef = codeRef;
+	}
+
+	@Nonnull
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * Record a step duration.
+	 *
+	 * @param nanos a non-negative duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		count.increment();
+		sum.add(nanos);
+		min.accumulate(nanos);
+		max.accumulate(nanos);
+		int index = Math.min(LatencyHistogram.bucketIndex(TimeUnit.NANOSECONDS.toMicros(nanos)), SKETCH_BUCKET_COUNT - 1);
+		sketch.incrementAndGet(index);
+	}
+
+	/**
+	 * @return current statistics, quantiles are accurate to the sketch bucket precision
+	 */
+	@Nonnull
+	public StepDefinitionSummary summarize() {
+		long[] counts = new long[SKETCH_BUCKET_COUNT];
+		for (int i = 0; i < SKETCH_BUCKET_COUNT; i++) {
+			counts[i] = sketch.get(i);
+		}
+		long maxNanos = max.get();
+		LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot(counts, 0, TimeUnit.NANOSECONDS.toMicros(maxNanos));
+		long total = count.sum();
+		return new StepDefinitionSummary(
+				codeRef,
+				total,
+				sum.sum(),
+				total == 0 ? 0 : min.get(),
+				maxNanos,
+				TimeUnit.MICROSECONDS.toNanos(snapshot.getValueAtQuantile(0.5)),
+				TimeUnit.MICROSECONDS.toNanos(snapshot.getValueAtQuantile(0.95)),
+				TimeUnit.MICROSECONDS.toNanos(snapshot.getValueAtQuantile(0.99))
+		);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Latency statistics of a Cucumber event handler, exposed through {@link ReporterMetricsMXBean}.
+ */
+public class HandlerStatistics {
+	private final String name;
+	private final long count;
+	private final double meanNanos;
+	private final long p50Nanos;
+	private final long p95Nanos;
+	private final long p99Nanos;
+	private final long maxNanos;
+
+	public HandlerStatistics(@Nonnull String handlerName, @Nonnull LatencyHistogram.Snapshot snapshot) {
+		name = handlerName;
+		count = snapshot.getCount();
+		meanNanos = snapshot.getMean();
+		p50Nanos = snapshot.getValueAtQuantile(0.5);
+		p95Nanos = snapshot.getValueAtQuantile(0.95);
+		p99Nanos = snapshot.getValueAtQuantile(0.99);
+		maxNanos = snapshot.getMax();
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMeanNanos() {
+		return meanNanos;
+	}
+
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	public long getP95Nanos() {
+		return p95Nanos;
+	}
+
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+}
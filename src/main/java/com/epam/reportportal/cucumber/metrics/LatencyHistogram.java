@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets, each power of two range is split into 16 linear sub-buckets, so recorded
+ * values are kept with a relative error below 7%. Like {@link java.util.concurrent.atomic.LongAdder}, values are recorded into a
+ * fixed number of stripes of bucket arrays, selected by thread, so concurrent threads rarely contend, and the histogram does not grow
+ * with the number of threads which ever recorded into it. Stripes are allocated on first use and merged when a {@link Snapshot} is
+ * taken.
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+	// Two extra slots of a stripe array hold sum and maximum of recorded values
+	private static final int SUM_INDEX = BUCKET_COUNT;
+	private static final int MAX_INDEX = BUCKET_COUNT + 1;
+
+	// Power of two not less than the number of processors, to select a stripe with a mask
+	private static final int STRIPE_COUNT = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+	private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) Math.max(value, 0);
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKET_COUNT;
+		return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * Record a value, e.g. a duration in nanoseconds.
+	 *
+	 * @param value a non-negative value
+	 */
+	public void record(long value) {
+		AtomicLongArray buckets = getStripe();
+		buckets.incrementAndGet(bucketIndex(value));
+		buckets.addAndGet(SUM_INDEX, value);
+		long max;
+		while (value > (max = buckets.get(MAX_INDEX)) && !buckets.compareAndSet(MAX_INDEX, max, value)) {
+			// retry until the maximum is updated or another thread recorded a greater value
+		}
+	}
+
+	@Nonnull
+	private AtomicLongArray getStripe() {
+		long threadId = Thread.currentThread().getId();
+		// spread sequential thread IDs over stripes
+		int index = (int) (threadId ^ threadId >>> 16) * 0x9E3779B9 >>> 16 & (STRIPE_COUNT - 1);
+		AtomicLongArray stripe = stripes.get(index);
+		if (stripe == null) {
+			stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT + 2));
+			stripe = stripes.get(index);
+		}
+		return stripe;
+	}
+
+	/**
+	 * @return merged values of all stripes
+	 */
+	@Nonnull
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKET_COUNT];
+		long sum = 0;
+		long max = 0;
+		for (int s = 0; s < STRIPE_COUNT; s++) {
+			AtomicLongArray buckets = stripes.get(s);
+			if (buckets == null) {
+				continue;
+			}
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				counts[i] += buckets.get(i);
+			}
+			sum += buckets.get(SUM_INDEX);
+			max = Math.max(max, buckets.get(MAX_INDEX));
+		}
+		return new Snapshot(counts, sum, max);
+	}
+
+	/**
+	 * Immutable state of a histogram.
+	 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		Snapshot(@Nonnull long[] bucketCounts, long valueSum, long maxValue) {
+			counts = bucketCounts;
+			long total = 0;
+			for (long c : bucketCounts) {
+				total += c;
+			}
+			count = total;
+			sum = valueSum;
+			max = maxValue;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getSum() {
+			return sum;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * Returns the lowest value of the bucket, which contains the value at the given quantile.
+		 *
+		 * @param quantile a quantile from 0 to 1
+		 * @return the value at the quantile, or 0 if nothing was recorded
+		 */
+		public long getValueAtQuantile(double quantile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(quantile * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(bucketValue(i), max);
+				}
+			}
+			return max;
+		}
+	}
+}
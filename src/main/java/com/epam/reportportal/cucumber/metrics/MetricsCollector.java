@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunStarted;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures latency of reporter handlers per event type into {@link ReporterMetrics}, which are exposed over JMX while the launch is
+ * running.
+ */
+public class MetricsCollector implements ReporterListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MetricsCollector.class);
+
+	private final ReporterMetrics metrics;
+	private final boolean dump;
+
+	/**
+	 * @param metrics reporter metrics
+	 * @param dump    whether to log the metrics once the launch is finished
+	 */
+	public MetricsCollector(@Nonnull ReporterMetrics metrics, boolean dump) {
+		this.metrics = metrics;
+		this.dump = dump;
+	}
+
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestRunStarted.class, event -> metrics.register());
+	}
+
+	@Nonnull
+	@Override
+	public HandlerInterceptor getInterceptor() {
+		return (type, event, start, nanos) -> metrics.getHistogram(type.getSimpleName()).record(nanos);
+	}
+
+	@Override
+	public void afterLaunch() {
+		if (dump) {
+			LOGGER.info(metrics.dump());
+		}
+		metrics.unregister();
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accounts wall time spent in reporter handlers for the launch and, if a threshold is set, for every scenario. The overhead is added
+ * to the launch and to scenarios above the threshold as system attributes.
+ */
+public class OverheadCollector implements ReporterListener, HandlerInterceptor {
+	private final ReporterOverhead overhead = new ReporterOverhead();
+	private final Duration scenarioThreshold;
+	private final Map<TestCase, ReporterOverhead> scenarios = new ConcurrentHashMap<>();
+
+	/**
+	 * @param scenarioThreshold minimal overhead of a scenario to report, zero to report the launch overhead only
+	 */
+	public OverheadCollector(@Nonnull Duration scenarioThreshold) {
+		this.scenarioThreshold = scenarioThreshold;
+	}
+
+	/**
+	 * @return launch reporter overhead
+	 */
+	@Nonnull
+	public ReporterOverhead getOverhead() {
+		return overhead;
+	}
+
+	@Nonnull
+	@Override
+	public HandlerInterceptor getInterceptor() {
+		return this;
+	}
+
+	@Override
+	public void before(@Nonnull Class<?> eventType, @Nonnull Object event) {
+		if (event instanceof TestCaseStarted && !scenarioThreshold.isZero()) {
+			scenarios.put(((TestCaseStarted) event).getTestCase(), new ReporterOverhead());
+		}
+	}
+
+	@Override
+	public void after(@Nonnull Class<?> eventType, @Nonnull Object event, long startNanos, long nanos) {
+		long executionNanos = event instanceof TestStepFinished ? ((TestStepFinished) event).getResult().getDuration().toNanos() : 0;
+		overhead.add(nanos, executionNanos);
+		if (event instanceof TestCaseFinished) {
+			// the scenario item is finished by this handler, so the handler is accounted for the launch only
+			scenarios.remove(((TestCaseFinished) event).getTestCase());
+		} else if (event instanceof TestCaseEvent) {
+			ReporterOverhead scenario = scenarios.get(((TestCaseEvent) event).getTestCase());
+			if (scenario != null) {
+				scenario.add(nanos, executionNanos);
+			}
+		}
+	}
+
+	@Nonnull
+	@Override
+	public Set<ItemAttributesRQ> finishScenario(@Nonnull TestCase testCase) {
+		ReporterOverhead scenario = scenarios.remove(testCase);
+		if (scenario == null || scenario.getOverheadNanos() <= scenarioThreshold.toNanos()) {
+			return Collections.emptySet();
+		}
+		return ReporterOverhead.buildAttributes(scenario.getOverheadNanos(), scenario.getExecutionNanos());
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		launch.addAttributes(ReporterOverhead.buildAttributes(overhead.getOverheadNanos(), overhead.getExecutionNanos()));
+	}
+}
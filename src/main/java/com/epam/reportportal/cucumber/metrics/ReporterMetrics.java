@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Counters and per-handler latency histograms of a reporter, which can be exposed over JMX as
+ * <code>com.epam.reportportal.cucumber:type=ReporterMetrics,name=&lt;id&gt;</code>.
+ */
+public class ReporterMetrics implements ReporterMetricsMXBean {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReporterMetrics.class);
+	private static final String OBJECT_NAME_FORMAT = "com.epam.reportportal.cucumber:type=ReporterMetrics,name=%s";
+	private static final double NANOS_IN_MICRO = 1_000d;
+
+	private final Map<String, LatencyHistogram> handlers = new ConcurrentHashMap<>();
+	private final LongAdder itemsStarted = new LongAdder();
+	private final LongAdder itemsFinished = new LongAdder();
+	private final LongAdder logsEmitted = new LongAdder();
+	private final LongAdder bytesEmitted = new LongAdder();
+
+	private volatile ObjectName objectName;
+
+	/**
+	 * @param handlerName a handler name, e.g. handled event type
+	 * @return latency histogram of the handler
+	 */
+	@Nonnull
+	public LatencyHistogram getHistogram(@Nonnull String handlerName) {
+		LatencyHistogram histogram = handlers.get(handlerName);
+		return histogram != null ? histogram : handlers.computeIfAbsent(handlerName, n -> new LatencyHistogram());
+	}
+
+	public void itemStarted() {
+		itemsStarted.increment();
+	}
+
+	public void itemFinished() {
+		itemsFinished.increment();
+	}
+
+	/**
+	 * @param size log message length or attachment size
+	 */
+	public void logEmitted(long size) {
+		logsEmitted.increment();
+		bytesEmitted.add(size);
+	}
+
+	@Override
+	public long getItemsStarted() {
+		return itemsStarted.sum();
+	}
+
+	@Override
+	public long getItemsFinished() {
+		return itemsFinished.sum();
+	}
+
+	@Override
+	public long getLogsEmitted() {
+		return logsEmitted.sum();
+	}
+
+	@Override
+	public long getBytesEmitted() {
+		return bytesEmitted.sum();
+	}
+
+	@Override
+	public List<HandlerStatistics> getHandlers() {
+		return handlers.entrySet()
+				.stream()
+				.map(e -> new HandlerStatistics(e.getKey(), e.getValue().snapshot()))
+				.sorted(Comparator.comparing(HandlerStatistics::getName))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public String dump() {
+		StringBuilder result = new StringBuilder(format(
+				"Reporter metrics: items started %d, items finished %d, logs %d, bytes %d",
+				getItemsStarted(),
+				getItemsFinished(),
+				getLogsEmitted(),
+				getBytesEmitted()
+		));
+		getHandlers().forEach(h -> result.append(format(
+				"%n  %-20s count %8d, mean %10.1f us, p50 %10.1f us, p95 %10.1f us, p99 %10.1f us, max %10.1f us",
+				h.getName(),
+				h.getCount(),
+				h.getMeanNanos() / NANOS_IN_MICRO,
+				h.getP50Nanos() / NANOS_IN_MICRO,
+				h.getP95Nanos() / NANOS_IN_MICRO,
+				h.getP99Nanos() / NANOS_IN_MICRO,
+				h.getMaxNanos() / NANOS_IN_MICRO
+		)));
+		return result.toString();
+	}
+
+	/**
+	 * Register the metrics in the platform MBean server.
+	 */
+	public void register() {
+		try {
+			ObjectName name = new ObjectName(format(OBJECT_NAME_FORMAT, Integer.toHexString(System.identityHashCode(this))));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			objectName = name;
+		} catch (JMException e) {
+			LOGGER.warn("Unable to register reporter metrics MBean", e);
+		}
+	}
+
+	/**
+	 * Unregister the metrics from the platform MBean server, if they were registered.
+	 */
+	public void unregister() {
+		ObjectName name = objectName;
+		if (name == null) {
+			return;
+		}
+		objectName = null;
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.unregisterMBean(name);
+		} catch (JMException e) {
+			LOGGER.warn("Unable to unregister reporter metrics MBean", e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import java.util.List;
+
+/**
+ * Management interface of reporter metrics.
+ */
+public interface ReporterMetricsMXBean {
+
+	/**
+	 * @return number of started test items
+	 */
+	long getItemsStarted();
+
+	/**
+	 * @return number of finished test items
+	 */
+	long getItemsFinished();
+
+	/**
+	 * @return number of emitted logs and attachments
+	 */
+	long getLogsEmitted();
+
+	/**
+	 * @return characters of log messages plus bytes of attachments
+	 */
+	long getBytesEmitted();
+
+	/**
+	 * @return latency statistics per Cucumber event handler
+	 */
+	List<HandlerStatistics> getHandlers();
+
+	/**
+	 * @return human-readable report of all metrics
+	 */
+	String dump();
+}
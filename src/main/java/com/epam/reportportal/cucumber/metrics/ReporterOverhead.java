@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.metrics;
+
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Launch-wide account of the reporter overhead: wall time spent in reporter handlers compared to execution time of steps and
+ * hooks, as reported by Cucumber. Execution time of parallel scenarios is summed, the same way as the overhead of their handlers.
+ */
+public class ReporterOverhead {
+	public static final String OVERHEAD_MS_KEY = "rp.overhead.ms";
+	public static final String OVERHEAD_PCT_KEY = "rp.overhead.pct";
+
+	private final LongAdder overheadNanos = new LongAdder();
+	private final LongAdder executionNanos = new LongAdder();
+
+	/**
+	 * Account time spent in a reporter handler.
+	 *
+	 * @param overheadNanos  time spent in the handler
+	 * @param executionNanos execution time of a finished step, reported with the handled event
+	 */
+	public void add(long overheadNanos, long executionNanos) {
+		this.overheadNanos.add(overheadNanos);
+		this.executionNanos.add(executionNanos);
+	}
+
+	public long getOverheadNanos() {
+		return overheadNanos.sum();
+	}
+
+	public long getExecutionNanos() {
+		return executionNanos.sum();
+	}
+
+	/**
+	 * Build overhead system attributes: overhead in milliseconds and, if anything was executed, its percentage of execution time.
+	 *
+	 * @param overheadNanos  time spent in reporter handlers
+	 * @param executionNanos execution time of steps and hooks
+	 * @return system attributes
+	 */
+	@Nonnull
+	public static Set<ItemAttributesRQ> buildAttributes(long overheadNanos, long executionNanos) {
+		Set<ItemAttributesRQ> attributes = new HashSet<>();
+		attributes.add(systemAttribute(OVERHEAD_MS_KEY, String.valueOf(TimeUnit.NANOSECONDS.toMillis(overheadNanos))));
+		if (executionNanos > 0) {
+			attributes.add(systemAttribute(OVERHEAD_PCT_KEY, format(Locale.ROOT, "%.2f", overheadNanos * 100d / executionNanos)));
+		}
+		return attributes;
+	}
+
+	@Nonnull
+	private static ItemAttributesRQ systemAttribute(@Nonnull String key, @Nonnull String value) {
+		ItemAttributesRQ attribute = new ItemAttributesRQ(key, value);
+		attribute.setSystem(true);
+		return attribute;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.Nonnull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Duration statistics of all step definitions of the run. Memory usage is bounded: every definition takes a fixed amount of memory,
+ * and definitions above {@link #MAX_DEFINITIONS} are accounted together under {@link #OTHER_DEFINITIONS} name.
+ */
+public class StepDefinitionStatistics {
+	public static final int MAX_DEFINITIONS = 2048;
+	public static final String OTHER_DEFINITIONS = "<other>";
+
+	private final Map<String, DurationStatistics> definitions = new ConcurrentHashMap<>();
+
+	/**
+	 * Record duration of a step.
+	 *
+	 * @param codeLocation location of the step definition reported by Cucumber, used as a cheap key
+	 * @param codeRef      code reference of the step definition, resolved only on the first step of the definition
+	 * @param nanos        step duration
+	 */
+	public void record(@Nonnull String codeLocation, @Nonnull Supplier<String> codeRef, long nanos) {
+		DurationStatistics statistics = definitions.get(codeLocation);
+		if (statistics == null) {
+			statistics = definitions.size() < MAX_DEFINITIONS ?
+					definitions.computeIfAbsent(codeLocation, l -> new DurationStatistics(codeRef.get())) :
+					definitions.computeIfAbsent(OTHER_DEFINITIONS, DurationStatistics::new);
+		}
+		statistics.record(nanos);
+	}
+
+	/**
+	 * Returns step definitions which consumed the most time, ordered by their total duration.
+	 *
+	 * @param limit maximum number of definitions to return
+	 * @return the slowest step definitions
+	 */
+	@Nonnull
+	public List<StepDefinitionSummary> getSlowest(int limit) {
+		return definitions.values()
+				.stream()
+				.map(DurationStatistics::summarize)
+				.sorted(Comparator.comparingLong(StepDefinitionSummary::getTotalNanos).reversed())
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Write the slowest step definitions into a JSON file.
+	 *
+	 * @param file  target file
+	 * @param limit maximum number of definitions to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(@Nonnull Path file, int limit) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), getSlowest(limit));
+	}
+}
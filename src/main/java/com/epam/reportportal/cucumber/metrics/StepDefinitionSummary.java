@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Duration statistics of a step definition, durations are in nanoseconds.
+ */
+public class StepDefinitionSummary {
+	private final String codeRef;
+	private final long count;
+	private final long totalNanos;
+	private final long minNanos;
+	private final long maxNanos;
+	private final long p50Nanos;
+	private final long p95Nanos;
+	private final long p99Nanos;
+
+	public StepDefinitionSummary(@Nonnull String codeRef, long count, long totalNanos, long minNanos, long maxNanos, long p50Nanos,
+			long p95Nanos, long p99Nanos) {
+		this.codeRef = codeRef;
+		this.count = count;
+		this.totalNanos = totalNanos;
+		this.minNanos = minNanos;
+		this.maxNanos = maxNanos;
+		this.p50Nanos = p50Nanos;
+		this.p95Nanos = p95Nanos;
+		this.p99Nanos = p99Nanos;
+	}
+
+	@Nonnull
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	public double getMeanNanos() {
+		return count == 0 ? 0 : (double) totalNanos / count;
+	}
+
+	public long getMinNanos() {
+		return minNanos;
+	}
+
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	public long getP95Nanos() {
+		return p95Nanos;
+	}
+
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+}
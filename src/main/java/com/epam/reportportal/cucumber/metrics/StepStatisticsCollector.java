@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.epam.reportportal.cucumber.Utils.formatMillis;
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Collects {@link StepDefinitionStatistics} of executed steps and reports the slowest step definitions into a launch log and,
+ * optionally, into a JSON file once the launch is finished.
+ */
+public class StepStatisticsCollector implements ReporterListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(StepStatisticsCollector.class);
+	private static final String SLOWEST_STEPS_FORMAT = "Top %d slowest step definitions by total duration, ms";
+
+	private final StepDefinitionStatistics statistics = new StepDefinitionStatistics();
+	private final Function<TestStep, String> codeRefs;
+	private final int top;
+	private final Path file;
+
+	/**
+	 * @param codeRefs code references of step definitions
+	 * @param top      number of the slowest step definitions to report
+	 * @param file     file to write the slowest step definitions into, or null to report the launch log only
+	 */
+	public StepStatisticsCollector(@Nonnull Function<TestStep, String> codeRefs, int top, @Nullable Path file) {
+		this.codeRefs = codeRefs;
+		this.top = top;
+		this.file = file;
+	}
+
+	/**
+	 * @return duration statistics of step definitions
+	 */
+	@Nonnull
+	public StepDefinitionStatistics getStatistics() {
+		return statistics;
+	}
+
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+	}
+
+	private void handleTestStepFinished(@Nonnull TestStepFinished event) {
+		TestStep step = event.getTestStep();
+		String codeLocation = step.getCodeLocation();
+		Status status = event.getResult().getStatus();
+		// only steps which were actually executed by a definition
+		if (step instanceof PickleStepTestStep && codeLocation != null && (status == Status.PASSED || status == Status.FAILED)) {
+			long nanos = event.getResult().getDuration().toNanos();
+			statistics.record(codeLocation, () -> ofNullable(codeRefs.apply(step)).orElse(codeLocation), nanos);
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		List<StepDefinitionSummary> slowest = statistics.getSlowest(top);
+		if (slowest.isEmpty()) {
+			return;
+		}
+		launch.sendLog(buildStepStatisticsLog(slowest));
+		if (file != null) {
+			try {
+				statistics.write(file, top);
+			} catch (IOException e) {
+				LOGGER.error("Unable to write step definition statistics: {}", file, e);
+			}
+		}
+	}
+
+	/**
+	 * Extension point to customize the launch log of the slowest step definitions
+	 *
+	 * @param slowest step definitions ordered by total duration
+	 * @return log message
+	 */
+	@Nonnull
+	protected String buildStepStatisticsLog(@Nonnull List<StepDefinitionSummary> slowest) {
+		List<List<String>> table = new ArrayList<>(slowest.size() + 1);
+		table.add(Arrays.asList("Step definition", "Count", "Total", "Mean", "Min", "p50", "p95", "p99", "Max"));
+		slowest.forEach(s -> table.add(Arrays.asList(
+				s.getCodeRef(),
+				String.valueOf(s.getCount()),
+				formatMillis(s.getTotalNanos()),
+				formatMillis(s.getMeanNanos()),
+				formatMillis(s.getMinNanos()),
+				formatMillis(s.getP50Nanos()),
+				formatMillis(s.getP95Nanos()),
+				formatMillis(s.getP99Nanos()),
+				formatMillis(s.getMaxNanos())
+		)));
+		return format(SLOWEST_STEPS_FORMAT, slowest.size()) + "\n\n" + MarkdownUtils.formatDataTable(table);
+	}
+}
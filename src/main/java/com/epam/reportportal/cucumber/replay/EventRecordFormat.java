@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.replay;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary format of event recordings: a GZIP stream with a header and a sequence of records. Every record starts with event type,
+ * thread ID, offset from the recording start, handler duration and body size, followed by the body.
+ */
+final class EventRecordFormat {
+	static final int MAGIC = 0x52504552;
+	static final byte VERSION = 1;
+
+	static final byte OTHER = 0;
+	static final byte TEST_RUN_STARTED = 1;
+	static final byte TEST_SOURCE_PARSED = 2;
+	static final byte TEST_CASE_STARTED = 3;
+	static final byte TEST_STEP_STARTED = 4;
+	static final byte TEST_STEP_FINISHED = 5;
+	static final byte TEST_CASE_FINISHED = 6;
+	static final byte TEST_RUN_FINISHED = 7;
+	static final byte EMBED = 8;
+	static final byte WRITE = 9;
+
+	static final byte PICKLE_STEP = 1;
+	static final byte HOOK_STEP = 2;
+
+	static final byte NO_ARGUMENT = 0;
+	static final byte DOC_STRING = 1;
+	static final byte DATA_TABLE = 2;
+
+	private EventRecordFormat() {
+		throw new AssertionError("No instances should exist for the class!");
+	}
+
+	static void writeString(@Nonnull DataOutput out, @Nullable String value) throws IOException {
+		writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nullable
+	static String readString(@Nonnull DataInput in) throws IOException {
+		byte[] bytes = readBytes(in);
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static void writeBytes(@Nonnull DataOutput out, @Nullable byte[] value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(value.length);
+		out.write(value);
+	}
+
+	@Nullable
+	static byte[] readBytes(@Nonnull DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] value = new byte[length];
+		in.readFully(value);
+		return value;
+	}
+
+	static void writeUuid(@Nonnull DataOutput out, @Nonnull UUID value) throws IOException {
+		out.writeLong(value.getMostSignificantBits());
+		out.writeLong(value.getLeastSignificantBits());
+	}
+
+	@Nonnull
+	static UUID readUuid(@Nonnull DataInput in) throws IOException {
+		return new UUID(in.readLong(), in.readLong());
+	}
+}
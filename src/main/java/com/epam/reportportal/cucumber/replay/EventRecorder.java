@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.replay;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.cucumber.event.InterceptingEventPublisher.HandlerInterceptor;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+import static com.epam.reportportal.cucumber.replay.EventRecordFormat.*;
+
+/**
+ * Writes Cucumber plugin events to a compact binary recording, which can be replayed later by {@link EventReplay} to reproduce
+ * reporter performance issues without the original test suite. Every record keeps the thread which delivered the event, its offset
+ * from the recording start, duration of event handling and size of the payload. Optionally texts, names and attachments are
+ * redacted with {@link Redactor}.
+ * <p>
+ * Events are serialized, compressed and written by a dedicated writer thread, the delivering thread only puts a reference to the
+ * event into a bounded queue, which blocks it only if the writer falls behind by {@value #QUEUE_CAPACITY} events. The recording is
+ * complete once {@link TestRunFinished} is recorded or the recorder is closed.
+ */
+public class EventRecorder implements ReporterListener, Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventRecorder.class);
+	private static final int QUEUE_CAPACITY = 8192;
+	private static final Record END = new Record(new Object(), 0, 0, 0);
+
+	private final Path file;
+	private final boolean redact;
+	private final long startNanos;
+	private final DataOutputStream output;
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+	private final DataOutputStream bodyOutput = new DataOutputStream(body);
+	private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final Thread writer;
+	private volatile boolean closed;
+
+	/**
+	 * An event waiting to be written
+	 */
+	private static class Record {
+		private final Object event;
+		private final long threadId;
+		private final long arrivalNanos;
+		private final long durationNanos;
+
+		private Record(@Nonnull Object event, long threadId, long arrivalNanos, long durationNanos) {
+			this.event = event;
+			this.threadId = threadId;
+			this.arrivalNanos = arrivalNanos;
+			this.durationNanos = durationNanos;
+		}
+	}
+
+	public EventRecorder(@Nonnull Path file, boolean redact) throws IOException {
+		this.file = file;
+		this.redact = redact;
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))));
+		output.writeInt(MAGIC);
+		output.writeByte(VERSION);
+		output.writeLong(System.currentTimeMillis());
+		output.writeBoolean(redact);
+		startNanos = System.nanoTime();
+		writer = new Thread(this::writeRecords, "rp-event-recorder");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * @return recording start time in {@link System#nanoTime()} scale
+	 */
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	/**
+	 * Every reporter handler invocation is recorded, the reporter registers a single handler per event type.
+	 *
+	 * @return interceptor which records handled events
+	 */
+	@Nonnull
+	@Override
+	public HandlerInterceptor getInterceptor() {
+		return (type, event, start, nanos) -> record(event, Thread.currentThread().getId(), start, nanos);
+	}
+
+	/**
+	 * Queues an event record for writing. A failure to write disables the recorder, but never interrupts the test run. Recording of
+	 * {@link TestRunFinished} waits until all records are written and closes the recorder.
+	 *
+	 * @param event         Cucumber event
+	 * @param threadId      ID of the thread which delivered the event
+	 * @param arrivalNanos  event arrival time in {@link System#nanoTime()} scale
+	 * @param durationNanos duration of event handling
+	 */
+	public void record(@Nonnull Object event, long threadId, long arrivalNanos, long durationNanos) {
+		if (closed) {
+			return;
+		}
+		try {
+			queue.put(new Record(event, threadId, arrivalNanos, durationNanos));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (event instanceof TestRunFinished) {
+			close();
+		}
+	}
+
+	private void writeRecords() {
+		try {
+			Record record;
+			while ((record = queue.take()) != END) {
+				write(record);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Unable to write event recording: {}, recording stopped", file, e);
+			closed = true;
+			queue.clear();
+		} finally {
+			try {
+				output.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close event recording: {}", file, e);
+			}
+		}
+	}
+
+	private void write(@Nonnull Record record) throws IOException {
+		body.reset();
+		byte type = writeBody(record.event);
+		output.writeByte(type);
+		output.writeLong(record.threadId);
+		output.writeLong(record.arrivalNanos - startNanos);
+		output.writeLong(record.durationNanos);
+		output.writeInt(body.size());
+		body.writeTo(output);
+	}
+
+	private byte writeBody(@Nonnull Object event) throws IOException {
+		if (event instanceof TestRunStarted) {
+			return TEST_RUN_STARTED;
+		}
+		if (event instanceof TestSourceParsed) {
+			TestSourceParsed parsed = (TestSourceParsed) event;
+			writeUri(parsed.getUri());
+			String source = parsed.getNodes()
+					.stream()
+					.filter(Feature.class::isInstance)
+					.map(node -> ((Feature) node).getSource())
+					.findAny()
+					.orElse(null);
+			writeString(bodyOutput, redact ? Redactor.redactSource(source) : source);
+			return TEST_SOURCE_PARSED;
+		}
+		if (event instanceof TestCaseStarted) {
+			writeTestCase(((TestCaseStarted) event).getTestCase());
+			return TEST_CASE_STARTED;
+		}
+		if (event instanceof TestStepStarted) {
+			TestStepStarted started = (TestStepStarted) event;
+			writeUuid(bodyOutput, started.getTestCase().getId());
+			writeUuid(bodyOutput, started.getTestStep().getId());
+			return TEST_STEP_STARTED;
+		}
+		if (event instanceof TestStepFinished) {
+			TestStepFinished finished = (TestStepFinished) event;
+			writeUuid(bodyOutput, finished.getTestCase().getId());
+			writeUuid(bodyOutput, finished.getTestStep().getId());
+			writeResult(finished.getResult());
+			return TEST_STEP_FINISHED;
+		}
+		if (event instanceof TestCaseFinished) {
+			TestCaseFinished finished = (TestCaseFinished) event;
+			writeUuid(bodyOutput, finished.getTestCase().getId());
+			writeResult(finished.getResult());
+			return TEST_CASE_FINISHED;
+		}
+		if (event instanceof TestRunFinished) {
+			writeResult(((TestRunFinished) event).getResult());
+			return TEST_RUN_FINISHED;
+		}
+		if (event instanceof EmbedEvent) {
+			EmbedEvent embed = (EmbedEvent) event;
+			writeUuid(bodyOutput, embed.getTestCase().getId());
+			writeString(bodyOutput, embed.getMediaType());
+			writeText(embed.getName());
+			byte[] data = embed.getData();
+			writeBytes(bodyOutput, redact && data != null ? new byte[data.length] : data);
+			return EMBED;
+		}
+		if (event instanceof WriteEvent) {
+			WriteEvent write = (WriteEvent) event;
+			writeUuid(bodyOutput, write.getTestCase().getId());
+			writeText(write.getText());
+			return WRITE;
+		}
+		writeString(bodyOutput, event.getClass().getName());
+		return OTHER;
+	}
+
+	private void writeText(@Nullable String text) throws IOException {
+		writeString(bodyOutput, redact ? Redactor.redact(text) : text);
+	}
+
+	private void writeUri(@Nonnull URI uri) throws IOException {
+		writeString(bodyOutput, redact ? Redactor.redact(uri).toString() : uri.toString());
+	}
+
+	private void writeLocation(@Nonnull Location location) throws IOException {
+		bodyOutput.writeInt(location.getLine());
+		bodyOutput.writeInt(location.getColumn());
+	}
+
+	private void writeTestCase(@Nonnull TestCase testCase) throws IOException {
+		writeUuid(bodyOutput, testCase.getId());
+		writeUri(testCase.getUri());
+		writeString(bodyOutput, testCase.getKeyword());
+		writeText(testCase.getName());
+		writeLocation(testCase.getLocation());
+		List<String> tags = testCase.getTags();
+		bodyOutput.writeInt(tags.size());
+		for (String tag : tags) {
+			writeText(tag);
+		}
+		List<TestStep> steps = testCase.getTestSteps();
+		bodyOutput.writeInt(steps.size());
+		for (TestStep step : steps) {
+			if (step instanceof PickleStepTestStep) {
+				bodyOutput.writeByte(PICKLE_STEP);
+				writePickleStep((PickleStepTestStep) step);
+			} else {
+				bodyOutput.writeByte(HOOK_STEP);
+				writeUuid(bodyOutput, step.getId());
+				writeText(step.getCodeLocation());
+				HookType hookType = step instanceof HookTestStep ? ((HookTestStep) step).getHookType() : HookType.BEFORE;
+				writeString(bodyOutput, hookType.name());
+			}
+		}
+	}
+
+	private void writePickleStep(@Nonnull PickleStepTestStep step) throws IOException {
+		writeUuid(bodyOutput, step.getId());
+		writeText(step.getCodeLocation());
+		writeText(step.getPattern());
+		writeUri(step.getUri());
+		Step gherkinStep = step.getStep();
+		writeString(bodyOutput, gherkinStep.getKeyword());
+		writeText(gherkinStep.getText());
+		writeLocation(gherkinStep.getLocation());
+		StepArgument argument = gherkinStep.getArgument();
+		if (argument instanceof DocStringArgument) {
+			DocStringArgument docString = (DocStringArgument) argument;
+			bodyOutput.writeByte(DOC_STRING);
+			writeText(docString.getContent());
+			writeString(bodyOutput, docString.getMediaType());
+			bodyOutput.writeInt(docString.getLine());
+		} else if (argument instanceof DataTableArgument) {
+			DataTableArgument dataTable = (DataTableArgument) argument;
+			bodyOutput.writeByte(DATA_TABLE);
+			List<List<String>> cells = dataTable.cells();
+			bodyOutput.writeInt(cells.size());
+			for (List<String> row : cells) {
+				bodyOutput.writeInt(row.size());
+				for (String cell : row) {
+					writeText(cell);
+				}
+			}
+			bodyOutput.writeInt(dataTable.getLine());
+		} else {
+			bodyOutput.writeByte(NO_ARGUMENT);
+		}
+		List<Argument> arguments = step.getDefinitionArgument();
+		bodyOutput.writeInt(arguments.size());
+		for (Argument definitionArgument : arguments) {
+			writeString(bodyOutput, definitionArgument.getParameterTypeName());
+			writeText(definitionArgument.getValue());
+			bodyOutput.writeInt(definitionArgument.getStart());
+		}
+	}
+
+	private void writeResult(@Nonnull Result result) throws IOException {
+		writeString(bodyOutput, result.getStatus().name());
+		bodyOutput.writeLong(result.getDuration().toNanos());
+		Throwable error = result.getError();
+		writeText(error == null ? null : ExceptionUtils.getStackTrace(error));
+	}
+
+	/**
+	 * Writes all queued records and closes the recording.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed && !writer.isAlive()) {
+			return;
+		}
+		closed = true;
+		try {
+			if (writer.isAlive()) {
+				queue.put(END);
+			}
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.replay;
+
+import com.epam.reportportal.cucumber.AbstractReporter;
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.cucumber.event.*;
+import io.cucumber.core.gherkin.FeatureParser;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+import static com.epam.reportportal.cucumber.replay.EventRecordFormat.*;
+
+/**
+ * Replays an event recording written by {@link EventRecorder} through any {@link AbstractReporter} subclass. Events recorded on
+ * different threads are replayed on different threads, in the recorded order. Replay runs either as fast as possible, when every
+ * event is handled before the next one is published, or with the original speed, when events are published at their recorded
+ * offsets. Handling time of every event type is collected and can be compared with the recorded one.
+ * <p>
+ * The replay is also runnable as a command line tool: <code>java ... EventReplay &lt;recording&gt; [--original-speed] [reporter
+ * class]</code>, the default reporter is {@link ScenarioReporter}.
+ */
+public class EventReplay {
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventReplay.class);
+
+	private static final String ORIGINAL_SPEED_OPTION = "--original-speed";
+
+	public static final int EXIT_SUCCESS = 0;
+	public static final int EXIT_FAILURE = 1;
+	public static final int EXIT_USAGE = 2;
+
+	private final ReplayEventPublisher publisher = new ReplayEventPublisher();
+	private final FeatureParser featureParser;
+	private final Map<UUID, ReplayedTestCase> testCases = new HashMap<>();
+	private final Map<Long, ExecutorService> threads = new HashMap<>();
+	private final Map<String, Statistic> statistics = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Recorded and replayed handling time of an event type.
+	 */
+	private static class Statistic {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder recordedNanos = new LongAdder();
+		private final LongAdder replayedNanos = new LongAdder();
+	}
+
+	/**
+	 * @param reporter reporter to replay the recording through, should not be subscribed to any other event publisher
+	 */
+	public EventReplay(@Nonnull AbstractReporter reporter) {
+		Iterator<FeatureParser> parsers = ServiceLoader.load(FeatureParser.class, EventReplay.class.getClassLoader()).iterator();
+		if (!parsers.hasNext()) {
+			throw new IllegalStateException("Unable to find Gherkin feature parser implementation on the classpath");
+		}
+		featureParser = parsers.next();
+		reporter.setEventPublisher(publisher);
+	}
+
+	/**
+	 * Replay a recording.
+	 *
+	 * @param file          event recording
+	 * @param originalSpeed publish events at their recorded offsets instead of as fast as possible
+	 * @throws IOException          if the recording can't be read or is malformed
+	 * @throws InterruptedException if the replay was interrupted
+	 */
+	public void replay(@Nonnull Path file, boolean originalSpeed) throws IOException, InterruptedException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (input.readInt() != MAGIC) {
+				throw new IOException("Not an event recording: " + file);
+			}
+			byte version = input.readByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported event recording version: " + version);
+			}
+			long recordingStart = input.readLong();
+			boolean redacted = input.readBoolean();
+			LOGGER.info("Replaying {} event recording of {}", redacted ? "redacted" : "full", Instant.ofEpochMilli(recordingStart));
+			long startNanos = System.nanoTime();
+			try {
+				byte type;
+				while ((type = readType(input)) >= 0) {
+					long threadId = input.readLong();
+					long offsetNanos = input.readLong();
+					long durationNanos = input.readLong();
+					input.readInt();
+					Object event = readEvent(type, input);
+					if (event == null) {
+						continue;
+					}
+					if (originalSpeed) {
+						long delay = startNanos + offsetNanos - System.nanoTime();
+						if (delay > 0) {
+							TimeUnit.NANOSECONDS.sleep(delay);
+						}
+					}
+					Future<?> future = threads.computeIfAbsent(threadId, this::createThread)
+							.submit(() -> publish(event, durationNanos));
+					if (!originalSpeed) {
+						await(future);
+					}
+				}
+			} finally {
+				for (ExecutorService thread : threads.values()) {
+					thread.shutdown();
+				}
+				for (ExecutorService thread : threads.values()) {
+					thread.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+				}
+				threads.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return recorded and replayed handling time of every event type, a line per type
+	 */
+	@Nonnull
+	public String getStatistics() {
+		StringBuilder result = new StringBuilder();
+		result.append(String.format("%-20s %10s %15s %15s%n", "Event", "Count", "Recorded, ms", "Replayed, ms"));
+		statistics.forEach((type, statistic) -> result.append(String.format(
+				"%-20s %10d %15.3f %15.3f%n",
+				type,
+				statistic.count.sum(),
+				statistic.recordedNanos.sum() / 1_000_000d,
+				statistic.replayedNanos.sum() / 1_000_000d
+		)));
+		return result.toString();
+	}
+
+	@Nonnull
+	private ExecutorService createThread(long threadId) {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rp-replay-" + threadId);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static void await(@Nonnull Future<?> future) throws InterruptedException {
+		try {
+			future.get();
+		} catch (ExecutionException e) {
+			// already logged by the replay thread
+		}
+	}
+
+	private void publish(@Nonnull Object event, long recordedNanos) {
+		long start = System.nanoTime();
+		try {
+			publisher.publish(event);
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to replay event: {}", event.getClass().getSimpleName(), e);
+		} finally {
+			Statistic statistic = statistics.computeIfAbsent(event.getClass().getSimpleName(), k -> new Statistic());
+			statistic.count.increment();
+			statistic.recordedNanos.add(recordedNanos);
+			statistic.replayedNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	private static byte readType(@Nonnull DataInputStream input) throws IOException {
+		int type = input.read();
+		return type < 0 ? -1 : (byte) type;
+	}
+
+	@Nullable
+	private Object readEvent(byte type, @Nonnull DataInput input) throws IOException {
+		Instant now = Instant.now();
+		switch (type) {
+			case TEST_RUN_STARTED:
+				return new TestRunStarted(now);
+			case TEST_SOURCE_PARSED: {
+				URI uri = URI.create(Objects.requireNonNull(readString(input)));
+				String source = readString(input);
+				Optional<io.cucumber.core.gherkin.Feature> feature = source == null ?
+						Optional.empty() :
+						featureParser.parse(uri, source, UUID::randomUUID);
+				if (!feature.isPresent()) {
+					LOGGER.warn("Unable to parse recorded feature: {}", uri);
+					return null;
+				}
+				return new TestSourceParsed(now, uri, Collections.singletonList(feature.get()));
+			}
+			case TEST_CASE_STARTED: {
+				ReplayedTestCase testCase = readTestCase(input);
+				testCases.put(testCase.getId(), testCase);
+				return new TestCaseStarted(now, testCase);
+			}
+			case TEST_STEP_STARTED: {
+				TestCase testCase = testCases.get(readUuid(input));
+				TestStep testStep = readTestStep(testCase, input);
+				return testStep == null ? null : new TestStepStarted(now, testCase, testStep);
+			}
+			case TEST_STEP_FINISHED: {
+				TestCase testCase = testCases.get(readUuid(input));
+				TestStep testStep = readTestStep(testCase, input);
+				Result result = readResult(input);
+				return testStep == null ? null : new TestStepFinished(now, testCase, testStep, result);
+			}
+			case TEST_CASE_FINISHED: {
+				TestCase testCase = testCases.remove(readUuid(input));
+				Result result = readResult(input);
+				return testCase == null ? null : new TestCaseFinished(now, testCase, result);
+			}
+			case TEST_RUN_FINISHED:
+				return new TestRunFinished(now, readResult(input));
+			case EMBED: {
+				TestCase testCase = testCases.get(readUuid(input));
+				String mediaType = readString(input);
+				String name = readString(input);
+				byte[] data = readBytes(input);
+				return testCase == null ? null : new EmbedEvent(now, testCase, data, mediaType, name);
+			}
+			case WRITE: {
+				TestCase testCase = testCases.get(readUuid(input));
+				String text = readString(input);
+				return testCase == null ? null : new WriteEvent(now, testCase, text);
+			}
+			default:
+				LOGGER.debug("Skipping unsupported recorded event: {}", readString(input));
+				return null;
+		}
+	}
+
+	@Nullable
+	private static TestStep readTestStep(@Nullable TestCase testCase, @Nonnull DataInput input) throws IOException {
+		String stepId = readUuid(input).toString();
+		return testCase == null ? null : ((ReplayedTestCase) testCase).getTestStep(stepId);
+	}
+
+	@Nonnull
+	private static Location readLocation(@Nonnull DataInput input) throws IOException {
+		return new Location(input.readInt(), input.readInt());
+	}
+
+	@Nonnull
+	private static ReplayedTestCase readTestCase(@Nonnull DataInput input) throws IOException {
+		UUID id = readUuid(input);
+		URI uri = URI.create(Objects.requireNonNull(readString(input)));
+		String keyword = Objects.requireNonNull(readString(input));
+		String name = Objects.requireNonNull(readString(input));
+		Location location = readLocation(input);
+		int tagCount = input.readInt();
+		List<String> tags = new ArrayList<>(tagCount);
+		for (int i = 0; i < tagCount; i++) {
+			tags.add(readString(input));
+		}
+		ReplayedTestCase testCase = new ReplayedTestCase(id, uri, keyword, name, location, tags);
+		int stepCount = input.readInt();
+		for (int i = 0; i < stepCount; i++) {
+			TestStep step = input.readByte() == PICKLE_STEP ? readPickleStep(input) : readHookStep(input);
+			testCase.addTestStep(step.getId().toString(), step);
+		}
+		return testCase;
+	}
+
+	@Nonnull
+	private static TestStep readHookStep(@Nonnull DataInput input) throws IOException {
+		UUID id = readUuid(input);
+		String codeLocation = readString(input);
+		HookType hookType = HookType.valueOf(readString(input));
+		return new ReplayedHookTestStep(id, codeLocation, hookType);
+	}
+
+	@Nonnull
+	private static TestStep readPickleStep(@Nonnull DataInput input) throws IOException {
+		UUID id = readUuid(input);
+		String codeLocation = readString(input);
+		String pattern = readString(input);
+		URI uri = URI.create(Objects.requireNonNull(readString(input)));
+		String keyword = Objects.requireNonNull(readString(input));
+		String text = Objects.requireNonNull(readString(input));
+		Location location = readLocation(input);
+		StepArgument argument;
+		byte argumentType = input.readByte();
+		if (argumentType == DOC_STRING) {
+			String content = Objects.requireNonNull(readString(input));
+			String mediaType = readString(input);
+			argument = new ReplayedStep.ReplayedDocStringArgument(content, mediaType, input.readInt());
+		} else if (argumentType == DATA_TABLE) {
+			int rowCount = input.readInt();
+			List<List<String>> cells = new ArrayList<>(rowCount);
+			for (int i = 0; i < rowCount; i++) {
+				int cellCount = input.readInt();
+				List<String> row = new ArrayList<>(cellCount);
+				for (int j = 0; j < cellCount; j++) {
+					row.add(readString(input));
+				}
+				cells.add(row);
+			}
+			argument = new ReplayedStep.ReplayedDataTableArgument(cells, input.readInt());
+		} else {
+			argument = null;
+		}
+		int argumentCount = input.readInt();
+		List<Argument> definitionArguments = new ArrayList<>(argumentCount);
+		for (int i = 0; i < argumentCount; i++) {
+			String parameterTypeName = Objects.requireNonNull(readString(input));
+			String value = readString(input);
+			definitionArguments.add(new ReplayedArgument(parameterTypeName, value, input.readInt()));
+		}
+		Step step = new ReplayedStep(keyword, text, location, argument);
+		return new ReplayedPickleStepTestStep(id, codeLocation, pattern, uri, step, definitionArguments);
+	}
+
+	@Nonnull
+	private static Result readResult(@Nonnull DataInput input) throws IOException {
+		Status status = Status.valueOf(readString(input));
+		Duration duration = Duration.ofNanos(input.readLong());
+		String error = readString(input);
+		return new Result(status, duration, error == null ? null : new ReplayedException(error));
+	}
+
+	/**
+	 * Replay a recording through a new instance of the given reporter and log handling time of every event type.
+	 *
+	 * @param args event recording, an optional <code>--original-speed</code> flag and an optional reporter class name
+	 * @return {@link #EXIT_SUCCESS} if the recording was replayed, {@link #EXIT_FAILURE} if the replay failed, {@link #EXIT_USAGE} if
+	 * no recording was given
+	 */
+	public static int run(@Nonnull String... args) {
+		List<String> arguments = new ArrayList<>(Arrays.asList(args));
+		boolean originalSpeed = arguments.remove(ORIGINAL_SPEED_OPTION);
+		if (arguments.isEmpty()) {
+			LOGGER.error("Usage: {} <recording> [{}] [reporter class]", EventReplay.class.getName(), ORIGINAL_SPEED_OPTION);
+			return EXIT_USAGE;
+		}
+		try {
+			Class<? extends AbstractReporter> reporterClass = arguments.size() > 1 ?
+					Class.forName(arguments.get(1)).asSubclass(AbstractReporter.class) :
+					ScenarioReporter.class;
+			AbstractReporter reporter = reporterClass.getDeclaredConstructor().newInstance();
+			EventReplay replay = new EventReplay(reporter);
+			replay.replay(Paths.get(arguments.get(0)), originalSpeed);
+			LOGGER.info("Replayed event recording: {}{}{}", arguments.get(0), System.lineSeparator(), replay.getStatistics());
+			return EXIT_SUCCESS;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Event recording replay was interrupted: {}", arguments.get(0));
+			return EXIT_FAILURE;
+		} catch (IOException | ReflectiveOperationException | RuntimeException e) {
+			LOGGER.error("Unable to replay event recording: {}", arguments.get(0), e);
+			return EXIT_FAILURE;
+		}
+	}
+
+	public static void main(String[] args) {
+		int exitCode = run(args);
+		if (exitCode != EXIT_SUCCESS) {
+			System.exit(exitCode);
+		}
+	}
+}
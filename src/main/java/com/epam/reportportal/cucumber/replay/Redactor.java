@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.replay;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redaction of recorded texts. Letters are replaced with <code>x</code> and digits with <code>0</code>, so the length and structure
+ * of a text are kept, and equal texts stay equal. Feature sources keep English Gherkin keywords and the language header, so they can
+ * be parsed on replay. Feature URIs are replaced with a hash, since redacted paths of the same length would collide.
+ */
+public final class Redactor {
+	private static final List<String> KEYWORDS = Arrays.asList(
+			"Scenario Outline:",
+			"Scenario Template:",
+			"Business Need:",
+			"Background:",
+			"Scenarios:",
+			"Examples:",
+			"Scenario:",
+			"Feature:",
+			"Example:",
+			"Ability:",
+			"Rule:",
+			"Given ",
+			"When ",
+			"Then ",
+			"And ",
+			"But ",
+			"* "
+	);
+
+	private Redactor() {
+		throw new AssertionError("No instances should exist for the class!");
+	}
+
+	private static void redact(@Nonnull CharSequence text, int from, int to, @Nonnull StringBuilder result) {
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			if (Character.isLetter(c)) {
+				result.append('x');
+			} else if (Character.isDigit(c)) {
+				result.append('0');
+			} else {
+				result.append(c);
+			}
+		}
+	}
+
+	/**
+	 * @param text a text to redact
+	 * @return redacted text
+	 */
+	@Nullable
+	public static String redact(@Nullable String text) {
+		if (text == null) {
+			return null;
+		}
+		StringBuilder result = new StringBuilder(text.length());
+		redact(text, 0, text.length(), result);
+		return result.toString();
+	}
+
+	/**
+	 * @param source Gherkin feature source
+	 * @return redacted source with the same line structure, keywords and language header
+	 */
+	@Nullable
+	public static String redactSource(@Nullable String source) {
+		if (source == null) {
+			return null;
+		}
+		StringBuilder result = new StringBuilder(source.length());
+		int lineStart = 0;
+		while (lineStart < source.length()) {
+			int lineEnd = source.indexOf('\n', lineStart);
+			lineEnd = lineEnd < 0 ? source.length() : lineEnd + 1;
+			int textStart = lineStart;
+			while (textStart < lineEnd && Character.isWhitespace(source.charAt(textStart))) {
+				textStart++;
+			}
+			String line = source.substring(textStart, lineEnd);
+			int keep = textStart - lineStart;
+			if (line.startsWith("#") && line.substring(1).trim().startsWith("language")) {
+				keep = lineEnd - lineStart;
+			} else {
+				for (String keyword : KEYWORDS) {
+					if (line.startsWith(keyword)) {
+						keep += keyword.length();
+						break;
+					}
+				}
+			}
+			result.append(source, lineStart, lineStart + keep);
+			redact(source, lineStart + keep, lineEnd, result);
+			lineStart = lineEnd;
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @param uri a feature URI
+	 * @return an URI which does not disclose the original path, but is unique for every original URI
+	 */
+	@Nonnull
+	public static URI redact(@Nonnull URI uri) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder name = new StringBuilder("redacted:");
+			for (int i = 0; i < 8; i++) {
+				name.append(String.format("%02x", hash[i]));
+			}
+			return URI.create(name.append(".feature").toString());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.shard;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.*;
+
+/**
+ * A planned shard: scenarios by feature file path and the expected shard duration.
+ */
+public class Shard {
+	private final int index;
+	private final Map<String, SortedSet<Integer>> scenarios = new TreeMap<>();
+	private long durationNanos;
+	private int scenarioCount;
+
+	public Shard(int index) {
+		this.index = index;
+	}
+
+	/**
+	 * @return shard number, starting with 1
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	public int getScenarioCount() {
+		return scenarioCount;
+	}
+
+	/**
+	 * @return scenario lines by feature file path
+	 */
+	@Nonnull
+	public Map<String, SortedSet<Integer>> getScenarios() {
+		return scenarios;
+	}
+
+	void add(@Nonnull String path, @Nonnull Collection<Integer> lines, long duration) {
+		scenarios.computeIfAbsent(path, p -> new TreeSet<>()).addAll(lines);
+		durationNanos += duration;
+		scenarioCount += lines.size();
+	}
+
+	/**
+	 * Returns the shard in Cucumber rerun file format, which is also accepted as features argument: a feature path with lines of
+	 * its scenarios per line, e.g. <code>features/a.feature:3:7</code>.
+	 *
+	 * @return feature paths with scenario lines
+	 */
+	@Nonnull
+	public List<String> toFeatureLines() {
+		List<String> result = new ArrayList<>(scenarios.size());
+		scenarios.forEach((path, lines) -> {
+			StringBuilder line = new StringBuilder(path);
+			lines.forEach(l -> line.append(':').append(l));
+			result.add(line.toString());
+		});
+		return result;
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.shard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Durations of scenarios by feature file path and scenario line, accumulated over runs to plan shards with {@link ShardPlanner}.
+ * Recording is thread-safe. The JSON file keeps per-scenario durations and their per-feature sums:
+ * <pre>
+ * {"features": [{
+ *   "path": "features/a.feature", "tags": ["@serial"], "durationNanos": 30,
+ *   "scenarios": [{"line": 3, "durationNanos": 10}, {"line": 7, "durationNanos": 20}]
+ * }]}
+ * </pre>
+ */
+public class ShardDurations {
+	private static final String LOCK_EXTENSION = ".lock";
+	private static final String TEMP_EXTENSION = ".tmp";
+	private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private final Map<String, FeatureDurations> features = new ConcurrentHashMap<>();
+
+	/**
+	 * Durations of scenarios of a feature file.
+	 */
+	public static class FeatureDurations {
+		private final String path;
+		private final Set<String> tags = ConcurrentHashMap.newKeySet();
+		private final NavigableMap<Integer, Long> scenarios = new ConcurrentSkipListMap<>();
+		private volatile Set<Integer> testCaseLines;
+
+		public FeatureDurations(@Nonnull String path) {
+			this.path = path;
+		}
+
+		@Nonnull
+		public String getPath() {
+			return path;
+		}
+
+		@Nonnull
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		/**
+		 * @return scenario durations in nanoseconds by scenario line
+		 */
+		@Nonnull
+		public NavigableMap<Integer, Long> getScenarios() {
+			return scenarios;
+		}
+
+		public long getDurationNanos() {
+			return scenarios.values().stream().mapToLong(Long::longValue).sum();
+		}
+
+		/**
+		 * @return all Test Case lines of the feature file as it was parsed by the run, or null if the feature was not parsed
+		 */
+		@Nullable
+		public Set<Integer> getTestCaseLines() {
+			return testCaseLines;
+		}
+	}
+
+	/**
+	 * Record a scenario duration, the latest duration of a scenario replaces the previous one.
+	 *
+	 * @param path          feature file path
+	 * @param tags          feature tags
+	 * @param line          scenario line
+	 * @param durationNanos scenario duration
+	 */
+	public void record(@Nonnull String path, @Nonnull Collection<String> tags, int line, long durationNanos) {
+		FeatureDurations feature = features.computeIfAbsent(path, FeatureDurations::new);
+		feature.getTags().addAll(tags);
+		feature.getScenarios().put(line, durationNanos);
+	}
+
+	/**
+	 * Remember a parsed feature file with all its Test Case lines, so durations of scenarios which were removed from the file or
+	 * moved to other lines are dropped on {@link #merge(ShardDurations)}.
+	 *
+	 * @param path          feature file path
+	 * @param tags          feature tags
+	 * @param testCaseLines lines of all scenarios and Examples rows of the feature file
+	 */
+	public void parsed(@Nonnull String path, @Nonnull Collection<String> tags, @Nonnull Collection<Integer> testCaseLines) {
+		FeatureDurations feature = features.computeIfAbsent(path, FeatureDurations::new);
+		feature.getTags().addAll(tags);
+		feature.testCaseLines = Collections.unmodifiableSet(new HashSet<>(testCaseLines));
+	}
+
+	/**
+	 * @param path feature file path
+	 * @return durations of the feature, or null if there are none
+	 */
+	@Nullable
+	public FeatureDurations getFeature(@Nonnull String path) {
+		return features.get(path);
+	}
+
+	@Nonnull
+	public Collection<FeatureDurations> getFeatures() {
+		return Collections.unmodifiableCollection(features.values());
+	}
+
+	public boolean isEmpty() {
+		return features.isEmpty();
+	}
+
+	/**
+	 * Add all durations of another instance, its durations replace durations of the same scenarios, tags of the same features are
+	 * replaced. Scenarios of a feature which was parsed by the other instance are replaced by its current Test Case lines: durations
+	 * of lines which are not Test Cases anymore are dropped, durations of other lines which did not run, e.g. in another shard, are
+	 * kept.
+	 *
+	 * @param other durations to add
+	 */
+	public void merge(@Nonnull ShardDurations other) {
+		other.getFeatures().forEach(f -> {
+			FeatureDurations feature = features.computeIfAbsent(f.getPath(), FeatureDurations::new);
+			feature.getTags().clear();
+			feature.getTags().addAll(f.getTags());
+			Set<Integer> testCaseLines = f.getTestCaseLines();
+			if (testCaseLines != null) {
+				feature.getScenarios().keySet().retainAll(testCaseLines);
+			}
+			feature.getScenarios().putAll(f.getScenarios());
+		});
+		features.values().removeIf(f -> f.getScenarios().isEmpty());
+	}
+
+	/**
+	 * Read durations from a file.
+	 *
+	 * @param file durations file
+	 * @return read durations, or empty durations if the file does not exist
+	 * @throws IOException if the file cannot be read or parsed
+	 */
+	@Nonnull
+	public static ShardDurations read(@Nonnull Path file) throws IOException {
+		ShardDurations result = new ShardDurations();
+		if (!Files.exists(file)) {
+			return result;
+		}
+		for (JsonNode feature : MAPPER.readTree(file.toFile()).path("features")) {
+			String path = feature.path("path").asText();
+			List<String> tags = new ArrayList<>();
+			feature.path("tags").forEach(t -> tags.add(t.asText()));
+			for (JsonNode scenario : feature.path("scenarios")) {
+				result.record(path, tags, scenario.path("line").asInt(), scenario.path("durationNanos").asLong());
+			}
+		}
+		return result;
+	}
+
+	private void write(@Nonnull Path file) throws IOException {
+		ObjectNode root = MAPPER.createObjectNode();
+		ArrayNode featureNodes = root.putArray("features");
+		features.values().stream().sorted(Comparator.comparing(FeatureDurations::getPath)).forEach(f -> {
+			ObjectNode featureNode = featureNodes.addObject();
+			featureNode.put("path", f.getPath());
+			ArrayNode tagNodes = featureNode.putArray("tags");
+			new TreeSet<>(f.getTags()).forEach(tagNodes::add);
+			featureNode.put("durationNanos", f.getDurationNanos());
+			ArrayNode scenarioNodes = featureNode.putArray("scenarios");
+			f.getScenarios().forEach((line, duration) -> scenarioNodes.addObject().put("line", line).put("durationNanos", duration));
+		});
+		Path temp = file.resolveSibling(file.getFileName() + TEMP_EXTENSION);
+		MAPPER.writeValue(temp.toFile(), root);
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Merge the durations into a file, which is shared by runs. The file is locked during the update, so parallel processes of one
+	 * build update it one after another, and it is replaced atomically, so readers never see a partially written file.
+	 *
+	 * @param file durations file
+	 * @throws IOException if the file cannot be read or written
+	 */
+	public void mergeInto(@Nonnull Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path lockFile = file.resolveSibling(file.getFileName() + LOCK_EXTENSION);
+		try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock ignored = channel.lock()) {
+			ShardDurations accumulated = read(file);
+			accumulated.merge(this);
+			accumulated.write(file);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.shard;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import com.epam.reportportal.cucumber.Utils;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.Utils.getRelativePath;
+
+/**
+ * Collects {@link ShardDurations} of scenarios by feature and merges them into the shard durations file once the launch is finished.
+ */
+public class ShardDurationsCollector implements ReporterListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ShardDurationsCollector.class);
+
+	private final ShardDurations shardDurations = new ShardDurations();
+	private final Map<URI, Set<String>> featureTags = new ConcurrentHashMap<>();
+	private final Path file;
+
+	/**
+	 * @param file shard durations file
+	 */
+	public ShardDurationsCollector(@Nonnull Path file) {
+		this.file = file;
+	}
+
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestSourceParsed.class, this::handleTestSourceParsed);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+	}
+
+	private void handleTestSourceParsed(@Nonnull TestSourceParsed event) {
+		event.getNodes().stream().filter(Feature.class::isInstance).map(Feature.class::cast).findFirst().ifPresent(feature -> {
+			Set<String> tags = Utils.getTags(feature);
+			featureTags.put(event.getUri(), tags);
+			List<Integer> lines = feature.getPickles().stream().map(p -> p.getLocation().getLine()).collect(Collectors.toList());
+			shardDurations.parsed(getRelativePath(event.getUri()), tags, lines);
+		});
+	}
+
+	private void handleTestCaseFinished(@Nonnull TestCaseFinished event) {
+		TestCase testCase = event.getTestCase();
+		shardDurations.record(
+				getRelativePath(testCase.getUri()),
+				featureTags.getOrDefault(testCase.getUri(), Collections.emptySet()),
+				testCase.getLocation().getLine(),
+				event.getResult().getDuration().toNanos()
+		);
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		if (shardDurations.isEmpty()) {
+			return;
+		}
+		try {
+			shardDurations.mergeInto(file);
+		} catch (IOException e) {
+			LOGGER.error("Unable to export scenario durations: {}", file, e);
+		}
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.shard;
+
+import com.epam.reportportal.cucumber.Utils;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.FeatureParser;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.cucumber.Utils.getRelativePath;
+
+/**
+ * Plans balanced shards of scenarios with durations from {@link ShardDurations}. The planner uses longest-processing-time-first
+ * bin packing: units are taken from the longest one and every unit is put into the shard with the least total duration. A unit
+ * is a scenario, or a whole feature if it must not be split: if all features are kept whole or if the feature has one of
+ * "together" tags.
+ * <p>
+ * Scenarios to plan are taken from feature files added with {@link #addFeatures(Path)}, so scenarios which never ran yet are
+ * planned too: they are spread over shards by count after the recorded ones. Recorded scenarios which are not in the added feature
+ * files anymore are not planned. If no feature files are added, all recorded scenarios are planned.
+ */
+public class ShardPlanner {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ShardPlanner.class);
+
+	public static final String TOGETHER_TAG_OPTION = "--together-tag=";
+	public static final String WHOLE_FEATURES_OPTION = "--whole-features";
+	private static final String SHARD_FILE_FORMAT = "shard-%d.txt";
+	private static final String FEATURE_EXTENSION = ".feature";
+
+	public static final int EXIT_SUCCESS = 0;
+	public static final int EXIT_FAILURE = 1;
+	public static final int EXIT_USAGE = 2;
+
+	private final ShardDurations durations;
+	private final Set<String> togetherTags;
+	private final boolean wholeFeatures;
+	private final Map<String, PlannedFeature> features = new TreeMap<>();
+
+	public ShardPlanner(@Nonnull ShardDurations durations, @Nonnull Set<String> togetherTags, boolean wholeFeatures) {
+		this.durations = durations;
+		this.togetherTags = togetherTags;
+		this.wholeFeatures = wholeFeatures;
+	}
+
+	/**
+	 * A feature file to plan: its tags and Test Case lines.
+	 */
+	private static class PlannedFeature {
+		private final String path;
+		private final Collection<String> tags;
+		private final SortedSet<Integer> lines;
+
+		private PlannedFeature(@Nonnull String path, @Nonnull Collection<String> tags, @Nonnull Collection<Integer> lines) {
+			this.path = path;
+			this.tags = tags;
+			this.lines = new TreeSet<>(lines);
+		}
+	}
+
+	private static class Unit {
+		private final String path;
+		private final Collection<Integer> lines;
+		private final long duration;
+		private final boolean recorded;
+
+		private Unit(@Nonnull String path, @Nonnull Collection<Integer> lines, long duration, boolean recorded) {
+			this.path = path;
+			this.lines = lines;
+			this.duration = duration;
+			this.recorded = recorded;
+		}
+	}
+
+	/**
+	 * Add a feature file to plan.
+	 *
+	 * @param path          feature file path, relative to the working directory the same way as in the durations file
+	 * @param tags          feature tags
+	 * @param testCaseLines lines of scenarios and Examples rows to plan
+	 */
+	public void addFeature(@Nonnull String path, @Nonnull Collection<String> tags, @Nonnull Collection<Integer> testCaseLines) {
+		features.put(path, new PlannedFeature(path, tags, testCaseLines));
+	}
+
+	/**
+	 * Parse a feature file, or all feature files of a directory, and add them to plan.
+	 *
+	 * @param path feature file or directory
+	 * @throws IOException if a feature file can't be read or parsed
+	 */
+	public void addFeatures(@Nonnull Path path) throws IOException {
+		Iterator<FeatureParser> parsers = ServiceLoader.load(FeatureParser.class, ShardPlanner.class.getClassLoader()).iterator();
+		if (!parsers.hasNext()) {
+			throw new IllegalStateException("Unable to find Gherkin feature parser implementation on the classpath");
+		}
+		FeatureParser parser = parsers.next();
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(path)) {
+			files = paths.filter(p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(FEATURE_EXTENSION))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+		for (Path file : files) {
+			URI uri = file.toAbsolutePath().normalize().toUri();
+			String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			Feature feature = parser.parse(uri, source, UUID::randomUUID)
+					.orElseThrow(() -> new IOException("Unable to parse feature file: " + file));
+			List<Integer> lines = feature.getPickles().stream().map(p -> p.getLocation().getLine()).collect(Collectors.toList());
+			addFeature(getRelativePath(uri), Utils.getTags(feature), lines);
+		}
+	}
+
+	@Nonnull
+	private Collection<PlannedFeature> getPlannedFeatures() {
+		if (!features.isEmpty()) {
+			return features.values();
+		}
+		return durations.getFeatures()
+				.stream()
+				.map(f -> new PlannedFeature(f.getPath(), f.getTags(), f.getScenarios().keySet()))
+				.collect(Collectors.toList());
+	}
+
+	@Nonnull
+	private List<Unit> getUnits() {
+		List<Unit> units = new ArrayList<>();
+		getPlannedFeatures().forEach(f -> {
+			ShardDurations.FeatureDurations recorded = durations.getFeature(f.path);
+			Map<Integer, Long> scenarios = recorded == null ? Collections.emptyMap() : recorded.getScenarios();
+			if (wholeFeatures || f.tags.stream().anyMatch(togetherTags::contains)) {
+				long duration = f.lines.stream().mapToLong(l -> scenarios.getOrDefault(l, 0L)).sum();
+				units.add(new Unit(f.path, f.lines, duration, f.lines.stream().anyMatch(scenarios::containsKey)));
+			} else {
+				f.lines.forEach(line -> {
+					Long duration = scenarios.get(line);
+					units.add(new Unit(f.path, Collections.singleton(line), duration == null ? 0 : duration, duration != null));
+				});
+			}
+		});
+		// the longest first, ties are ordered by location to get the same plan from the same data
+		units.sort(Comparator.comparingLong((Unit u) -> u.duration)
+				.reversed()
+				.thenComparing(u -> u.path)
+				.thenComparing(u -> u.lines.iterator().next()));
+		return units;
+	}
+
+	/**
+	 * Plan shards.
+	 *
+	 * @param shardCount number of shards
+	 * @return shards, some of them are empty if there are fewer units than shards
+	 */
+	@Nonnull
+	public List<Shard> plan(int shardCount) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("Shard count should be positive: " + shardCount);
+		}
+		List<Shard> shards = new ArrayList<>(shardCount);
+		PriorityQueue<Shard> queue = new PriorityQueue<>(Comparator.comparingLong(Shard::getDurationNanos)
+				.thenComparingInt(Shard::getScenarioCount)
+				.thenComparingInt(Shard::getIndex));
+		for (int i = 1; i <= shardCount; i++) {
+			Shard shard = new Shard(i);
+			shards.add(shard);
+			queue.add(shard);
+		}
+		List<Unit> unrecorded = new ArrayList<>();
+		for (Unit unit : getUnits()) {
+			if (!unit.recorded) {
+				unrecorded.add(unit);
+				continue;
+			}
+			Shard shard = queue.poll();
+			shard.add(unit.path, unit.lines, unit.duration);
+			queue.add(shard);
+		}
+		if (unrecorded.isEmpty()) {
+			return shards;
+		}
+		// scenarios without durations yet are spread by count, in the order of their location
+		int[] unrecordedCounts = new int[shardCount];
+		PriorityQueue<Shard> countQueue = new PriorityQueue<>(Comparator.comparingInt((Shard s) -> unrecordedCounts[s.getIndex() - 1])
+				.thenComparingLong(Shard::getDurationNanos)
+				.thenComparingInt(Shard::getIndex));
+		countQueue.addAll(shards);
+		int scenarioCount = 0;
+		for (Unit unit : unrecorded) {
+			Shard shard = countQueue.poll();
+			shard.add(unit.path, unit.lines, unit.duration);
+			unrecordedCounts[shard.getIndex() - 1] += unit.lines.size();
+			scenarioCount += unit.lines.size();
+			countQueue.add(shard);
+		}
+		LOGGER.info("{} scenarios without recorded durations are spread over shards by count", scenarioCount);
+		return shards;
+	}
+
+	private static int parseShardCount(@Nonnull String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Plan shards of the given feature files and write them into shard files of Cucumber rerun format.
+	 *
+	 * @param args durations file, shard count, output directory, feature files or directories and options
+	 * @return {@link #EXIT_SUCCESS} if shard files were written, {@link #EXIT_FAILURE} if planning failed, {@link #EXIT_USAGE} if
+	 * arguments are missing or invalid
+	 */
+	public static int run(@Nonnull String... args) {
+		List<String> arguments = new ArrayList<>(Arrays.asList(args));
+		boolean wholeFeatures = arguments.remove(WHOLE_FEATURES_OPTION);
+		Set<String> togetherTags = arguments.stream()
+				.filter(a -> a.startsWith(TOGETHER_TAG_OPTION))
+				.map(a -> a.substring(TOGETHER_TAG_OPTION.length()))
+				.collect(Collectors.toSet());
+		arguments.removeIf(a -> a.startsWith(TOGETHER_TAG_OPTION));
+		int shardCount = arguments.size() < 4 ? 0 : parseShardCount(arguments.get(1));
+		if (shardCount < 1) {
+			LOGGER.error(
+					"Usage: {} <durations file> <shard count> <output directory> <feature file or directory>... [{}<tag>]... [{}]",
+					ShardPlanner.class.getName(),
+					TOGETHER_TAG_OPTION,
+					WHOLE_FEATURES_OPTION
+			);
+			return EXIT_USAGE;
+		}
+		try {
+			ShardPlanner planner = new ShardPlanner(ShardDurations.read(Paths.get(arguments.get(0))), togetherTags, wholeFeatures);
+			for (String features : arguments.subList(3, arguments.size())) {
+				planner.addFeatures(Paths.get(features));
+			}
+			Path output = Paths.get(arguments.get(2));
+			Files.createDirectories(output);
+			for (Shard shard : planner.plan(shardCount)) {
+				Path file = output.resolve(String.format(SHARD_FILE_FORMAT, shard.getIndex()));
+				Files.write(file, shard.toFeatureLines());
+				long durationMillis = TimeUnit.NANOSECONDS.toMillis(shard.getDurationNanos());
+				LOGGER.info("{}: {} scenarios, {} ms", file, shard.getScenarioCount(), durationMillis);
+			}
+			return EXIT_SUCCESS;
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Unable to plan shards", e);
+			return EXIT_FAILURE;
+		}
+	}
+
+	public static void main(String[] args) {
+		int exitCode = run(args);
+		if (exitCode != EXIT_SUCCESS) {
+			System.exit(exitCode);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink which collects operations into batches and hands them over to a delegate sink once a batch is full and on launch finish. It
+ * helps in front of sinks with high per-operation cost, like file or socket based ones. Operations are delivered in the order they
+ * were performed.
+ */
+public class BatchingReportingSink extends EventReportingSink {
+
+	private final ReportingEventReplayer replayer;
+	private final int batchSize;
+	private final List<ReportingEvent> batch;
+
+	/**
+	 * @param delegateSink a sink to deliver batches to
+	 * @param size         number of operations in a batch
+	 */
+	public BatchingReportingSink(@Nonnull ReportingSink delegateSink, int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Batch size should be greater than zero: " + size);
+		}
+		replayer = new ReportingEventReplayer(delegateSink);
+		batchSize = size;
+		batch = new ArrayList<>(size);
+	}
+
+	@Nonnull
+	public ReportingSink getDelegate() {
+		return replayer.getTarget();
+	}
+
+	@Override
+	protected synchronized void write(@Nonnull ReportingEvent event) {
+		batch.add(event);
+		if (batch.size() >= batchSize || event.getType() == ReportingEvent.Type.FINISH_LAUNCH) {
+			flush();
+		}
+	}
+
+	/**
+	 * Deliver all collected operations to the delegate sink
+	 */
+	public synchronized void flush() {
+		batch.forEach(replayer::replay);
+		batch.clear();
+	}
+}
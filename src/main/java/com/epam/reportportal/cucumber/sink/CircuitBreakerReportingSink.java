@@ -0,0 +1,469 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Sink which protects test execution from a slow or unreachable ReportPortal server. While the server is healthy, all operations are
+ * passed to the delegate sink without locking. The sink tracks exponentially smoothed latency of start requests, number of requests in
+ * flight and the share of failed requests among the last completed ones, once a threshold is crossed the circuit opens and operations
+ * are appended to a local backlog journal instead, so test threads are not blocked and reporting chains do not pile up in the heap.
+ * <p>
+ * While the circuit is open, the server is probed periodically: once all requests sent before the outage are completed, the backlog is
+ * replayed into the delegate in the original order, keeping the number of requests in flight limited. If the server is still
+ * unhealthy, the replay stops and is retried on the next probe, otherwise the circuit closes. On launch finish the rest of the backlog
+ * is replayed regardless of the server health.
+ * <p>
+ * Item IDs are generated locally, like in all {@link EventReportingSink}s.
+ */
+public class CircuitBreakerReportingSink extends EventReportingSink implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreakerReportingSink.class);
+	private static final long CAPACITY_POLL_INTERVAL = 10;
+	/**
+	 * A new latency sample contributes 1/8 to the smoothed latency, like in TCP round-trip time estimation
+	 */
+	private static final int LATENCY_SMOOTHING = 8;
+
+	public enum State {
+		/**
+		 * Server is healthy, operations are passed to the delegate sink
+		 */
+		CLOSED,
+		/**
+		 * Server is unhealthy, operations are appended to the backlog
+		 */
+		OPEN,
+		/**
+		 * The backlog is being replayed into the delegate sink, new operations are still appended to the backlog
+		 */
+		DRAINING
+	}
+
+	private final ReportingEventReplayer replayer;
+	private final Path backlogDirectory;
+	private final int segmentSize;
+	private final long latencyThreshold;
+	private final ErrorWindow errors;
+	private final int maxInFlight;
+	private final int drainWindow;
+	private final long probeInterval;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong latency = new AtomicLong();
+	private final AtomicInteger directWrites = new AtomicInteger();
+
+	private final Object lock = new Object();
+	private final Object drainLock = new Object();
+	private final Deque<JournalWriter> pending = new ArrayDeque<>();
+	private volatile State state = State.CLOSED;
+	private JournalWriter backlog;
+	private int journalIndex;
+	private ScheduledExecutorService prober;
+	private int replayedInHead;
+
+	/**
+	 * @param delegate         sink which reports to the server
+	 * @param backlogDirectory directory for backlog journals, removed once the backlog is replayed
+	 * @param segmentSize      backlog journal segment size
+	 * @param latencyThreshold maximum smoothed latency of start requests
+	 * @param errorThreshold   minimum number of failed start requests in the window, which opens the circuit
+	 * @param errorPercent     percentage of failed start requests in the window, which opens the circuit
+	 * @param window           number of last completed start requests to count errors in
+	 * @param maxInFlight      maximum number of requests in flight
+	 * @param probeInterval    interval of recovery probes while the circuit is open
+	 */
+	public CircuitBreakerReportingSink(@Nonnull ReportingSink delegate, @Nonnull Path backlogDirectory, int segmentSize,
+			@Nonnull Duration latencyThreshold, int errorThreshold, int errorPercent, int window, int maxInFlight,
+			@Nonnull Duration probeInterval) {
+		if (errorThreshold <= 0 || errorPercent <= 0 || window <= 0 || maxInFlight <= 0) {
+			throw new IllegalArgumentException("Circuit breaker thresholds should be positive");
+		}
+		replayer = new ReportingEventReplayer(new MeasuringSink(delegate));
+		this.backlogDirectory = backlogDirectory;
+		this.segmentSize = segmentSize;
+		this.latencyThreshold = latencyThreshold.toNanos();
+		errors = new ErrorWindow(window, errorThreshold, errorPercent);
+		this.maxInFlight = maxInFlight;
+		drainWindow = Math.max(1, maxInFlight / 2);
+		this.probeInterval = probeInterval.toMillis();
+	}
+
+	@Nonnull
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * @return number of start requests sent to the server and not completed yet
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * @return smoothed latency of start requests
+	 */
+	@Nonnull
+	public Duration getLatency() {
+		return Duration.ofNanos(latency.get());
+	}
+
+	private boolean isResponsive() {
+		return latency.get() <= latencyThreshold && !errors.isExceeded();
+	}
+
+	private boolean isHealthy() {
+		return inFlight.get() <= maxInFlight && isResponsive();
+	}
+
+	@Override
+	protected void write(@Nonnull ReportingEvent event) {
+		if (state == State.CLOSED) {
+			// The counter is raised before the state is checked again, so a drain which sees no direct writes after the circuit opened
+			// can't be overtaken by an event passed to the delegate directly
+			directWrites.incrementAndGet();
+			try {
+				if (state == State.CLOSED && isHealthy()) {
+					replayer.replay(event);
+					return;
+				}
+			} finally {
+				directWrites.decrementAndGet();
+			}
+		}
+		synchronized (lock) {
+			if (state == State.CLOSED) {
+				if (isHealthy()) {
+					replayer.replay(event);
+					return;
+				}
+				open();
+			}
+			appendToBacklog(event);
+		}
+	}
+
+	private void open() {
+		LOGGER.warn(
+				"ReportPortal server is unhealthy, spooling reporting operations locally. In flight: {}, latency: {} ms, errors: {}",
+				inFlight.get(),
+				TimeUnit.NANOSECONDS.toMillis(latency.get()),
+				errors
+		);
+		state = State.OPEN;
+		if (prober == null) {
+			// Created on the reporting thread, so the prober thread inherits its logging context
+			prober = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "rp-circuit-breaker");
+				thread.setDaemon(true);
+				return thread;
+			});
+			prober.scheduleWithFixedDelay(this::probe, probeInterval, probeInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void appendToBacklog(@Nonnull ReportingEvent event) {
+		try {
+			if (backlog == null) {
+				backlog = new JournalWriter(backlogDirectory.resolve(String.format("%04d", journalIndex++)), segmentSize);
+			}
+			backlog.append(event);
+		} catch (IOException e) {
+			LOGGER.error("Unable to append reporting event to backlog, the event is lost: {}", event, e);
+		}
+	}
+
+	private void probe() {
+		if (state != State.OPEN || inFlight.get() > 0) {
+			return;
+		}
+		try {
+			drain(false);
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to replay reporting backlog", e);
+		}
+	}
+
+	private boolean awaitCapacity() {
+		while (true) {
+			if (!isResponsive()) {
+				return false;
+			}
+			if (inFlight.get() < drainWindow) {
+				return true;
+			}
+			try {
+				Thread.sleep(CAPACITY_POLL_INTERVAL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Replay the backlog into the delegate sink in the original order and close the circuit once the backlog is empty.
+	 *
+	 * @param force replay regardless of the server health
+	 * @return true if the whole backlog is replayed
+	 */
+	private boolean drain(boolean force) {
+		synchronized (drainLock) {
+			synchronized (lock) {
+				if (state == State.CLOSED) {
+					return true;
+				}
+				state = State.DRAINING;
+				errors.reset();
+				latency.set(0);
+			}
+			while (directWrites.get() > 0) {
+				Thread.onSpinWait();
+			}
+			while (true) {
+				JournalWriter head;
+				synchronized (lock) {
+					if (pending.isEmpty()) {
+						if (backlog == null) {
+							state = State.CLOSED;
+							LOGGER.info("ReportPortal server is healthy, reporting backlog is replayed");
+							return true;
+						}
+						closeQuietly(backlog);
+						pending.addLast(backlog);
+						backlog = null;
+					}
+					head = pending.peekFirst();
+				}
+				boolean[] stopped = { false };
+				try {
+					new JournalReader(head.getDirectory()).read(
+							replayedInHead, event -> {
+								if (!force && !awaitCapacity()) {
+									stopped[0] = true;
+									return false;
+								}
+								replayer.replay(event);
+								replayedInHead++;
+								return true;
+							}
+					);
+				} catch (IOException e) {
+					LOGGER.error("Unable to read reporting backlog: {}", head.getDirectory(), e);
+				}
+				if (stopped[0]) {
+					synchronized (lock) {
+						state = State.OPEN;
+					}
+					LOGGER.warn("ReportPortal server is still unhealthy, backlog replay is postponed");
+					return false;
+				}
+				synchronized (lock) {
+					pending.removeFirst();
+				}
+				replayedInHead = 0;
+				delete(head.getDirectory());
+			}
+		}
+	}
+
+	private static void closeQuietly(@Nonnull JournalWriter writer) {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close backlog journal: {}", writer.getDirectory(), e);
+		}
+	}
+
+	private static void delete(@Nonnull Path directory) {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(f -> {
+				try {
+					Files.deleteIfExists(f);
+				} catch (IOException e) {
+					LOGGER.warn("Unable to delete replayed backlog file: {}", f, e);
+				}
+			});
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete replayed backlog: {}", directory, e);
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		synchronized (lock) {
+			if (prober != null) {
+				prober.shutdownNow();
+			}
+		}
+		super.finishLaunch(rq);
+		drain(true);
+		if (Files.exists(backlogDirectory)) {
+			delete(backlogDirectory);
+		}
+	}
+
+	@Override
+	public void close() {
+		synchronized (lock) {
+			if (prober != null) {
+				prober.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Outcomes of the last completed start requests. The threshold check result is published through a volatile field, so it's read
+	 * on the reporting path without locking.
+	 */
+	private static class ErrorWindow {
+		private final boolean[] outcomes;
+		private final int minErrors;
+		private final int percent;
+		private int next;
+		private int size;
+		private int count;
+		private volatile boolean exceeded;
+
+		private ErrorWindow(int window, int minErrors, int percent) {
+			outcomes = new boolean[window];
+			this.minErrors = minErrors;
+			this.percent = percent;
+		}
+
+		private synchronized void add(boolean error) {
+			if (size == outcomes.length) {
+				if (outcomes[next]) {
+					count--;
+				}
+			} else {
+				size++;
+			}
+			outcomes[next] = error;
+			if (error) {
+				count++;
+			}
+			next = (next + 1) % outcomes.length;
+			exceeded = count >= minErrors && count * 100 >= size * percent;
+		}
+
+		private synchronized void reset() {
+			Arrays.fill(outcomes, false);
+			next = 0;
+			size = 0;
+			count = 0;
+			exceeded = false;
+		}
+
+		private boolean isExceeded() {
+			return exceeded;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return count + " of " + size;
+		}
+	}
+
+	/**
+	 * Passes operations to the delegate sink and tracks completion of start requests.
+	 */
+	private class MeasuringSink implements ReportingSink {
+		private final ReportingSink delegate;
+
+		private MeasuringSink(@Nonnull ReportingSink delegate) {
+			this.delegate = delegate;
+		}
+
+		@Nonnull
+		private Maybe<String> measure(@Nonnull Maybe<String> id) {
+			long start = System.nanoTime();
+			inFlight.incrementAndGet();
+			//noinspection ResultOfMethodCallIgnored
+			id.subscribe(
+					r -> onComplete(start, false), e -> onComplete(start, true), () -> onComplete(start, false)
+			);
+			return id;
+		}
+
+		private void onComplete(long start, boolean error) {
+			long sample = System.nanoTime() - start;
+			latency.accumulateAndGet(sample, (smoothed, s) -> smoothed == 0 ? s : smoothed + (s - smoothed) / LATENCY_SMOOTHING);
+			errors.add(error);
+			inFlight.decrementAndGet();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+			return measure(delegate.startLaunch(rq));
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+			return measure(delegate.startTestItem(parentId, rq));
+		}
+
+		@Override
+		public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+			delegate.finishTestItem(itemId, rq);
+		}
+
+		@Override
+		public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+			delegate.log(itemId, message, level, time);
+		}
+
+		@Override
+		public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+				@Nonnull String level, @Nonnull Instant time) {
+			delegate.attach(itemId, message, mimeType, data, level, time);
+		}
+
+		@Override
+		public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+			delegate.finishLaunch(rq);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Sink which keeps items of a subtree, e.g. steps and hooks of a scenario, in memory until it's known whether they are worth
+ * reporting. Buffered items are either materialized under the real parent item with their original times, or discarded, in which
+ * case their logs are attributed to the parent item. Logs without an explicit item are attributed to the buffered item which was
+ * started last and is not finished yet. The sink does not block on the parent item ID.
+ */
+public class DeferredReportingSink implements ItemReportingSink {
+	private static final Logger LOGGER = LoggerFactory.getLogger(DeferredReportingSink.class);
+
+	private final Maybe<String> parentId;
+	private final List<ReportingEvent> events = new ArrayList<>();
+	private final Map<Maybe<String>, String> items = new IdentityHashMap<>();
+	private final Deque<String> openItems = new ArrayDeque<>();
+
+	/**
+	 * @param parentId real ID of the item, which buffered root items belong to
+	 */
+	public DeferredReportingSink(@Nonnull Maybe<String> parentId) {
+		this.parentId = parentId;
+	}
+
+	@Nonnull
+	public Maybe<String> getParentId() {
+		return parentId;
+	}
+
+	/**
+	 * @param itemId an item ID
+	 * @return true if the item was started in this sink
+	 */
+	public synchronized boolean isDeferred(@Nullable Maybe<String> itemId) {
+		return itemId != null && items.containsKey(itemId);
+	}
+
+	/**
+	 * @return true if nothing was buffered
+	 */
+	public synchronized boolean isEmpty() {
+		return events.isEmpty();
+	}
+
+	/**
+	 * @return true if any log or attachment was buffered
+	 */
+	public synchronized boolean hasLogs() {
+		return events.stream().anyMatch(e -> e.getType() == ReportingEvent.Type.LOG);
+	}
+
+	@Override
+	@Nonnull
+	public synchronized Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		String itemId = String.valueOf(items.size());
+		events.add(ReportingEvent.startItem(itemId, parentId == null ? null : items.get(parentId), rq));
+		Maybe<String> result = Maybe.just(itemId);
+		items.put(result, itemId);
+		openItems.addLast(itemId);
+		return result;
+	}
+
+	@Override
+	public synchronized void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		String id = items.get(itemId);
+		if (id == null) {
+			LOGGER.warn("Unable to finish an item which was not deferred");
+			return;
+		}
+		openItems.removeLastOccurrence(id);
+		events.add(ReportingEvent.finishItem(id, rq));
+	}
+
+	@Nullable
+	private String resolveItem(@Nullable Maybe<String> itemId) {
+		return itemId == null ? openItems.peekLast() : items.get(itemId);
+	}
+
+	@Nonnull
+	private static SaveLogRQ buildLogRq(@Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage(message);
+		rq.setLevel(level);
+		rq.setLogTime(time);
+		return rq;
+	}
+
+	@Override
+	public synchronized void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level,
+			@Nonnull Instant time) {
+		events.add(ReportingEvent.log(resolveItem(itemId), buildLogRq(message, level, time)));
+	}
+
+	@Override
+	public synchronized void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType,
+			@Nonnull byte[] data, @Nonnull String level, @Nonnull Instant time) {
+		SaveLogRQ rq = buildLogRq(message, level, time);
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName(UUID.randomUUID().toString());
+		file.setContentType(mimeType);
+		file.setContent(data);
+		rq.setFile(file);
+		events.add(ReportingEvent.log(resolveItem(itemId), rq));
+	}
+
+	private static void sendLog(@Nonnull ItemReportingSink target, @Nonnull Maybe<String> itemId, @Nonnull SaveLogRQ rq) {
+		Instant time = ReportingEventReplayer.toInstant(rq.getLogTime());
+		time = time == null ? Instant.now() : time;
+		SaveLogRQ.File file = rq.getFile();
+		if (file == null) {
+			target.log(itemId, rq.getMessage(), rq.getLevel(), time);
+		} else {
+			target.attach(itemId, rq.getMessage(), file.getContentType(), file.getContent(), rq.getLevel(), time);
+		}
+	}
+
+	/**
+	 * Report all buffered items and logs into the target sink under the parent item and clear the buffer.
+	 *
+	 * @param target a sink to report to
+	 */
+	public synchronized void materialize(@Nonnull ItemReportingSink target) {
+		Map<String, Maybe<String>> targetIds = new HashMap<>();
+		for (ReportingEvent event : events) {
+			switch (event.getType()) {
+				case START_ITEM:
+					Maybe<String> parent = event.getParentId() == null ? parentId : targetIds.get(event.getParentId());
+					targetIds.put(event.getItemId(), target.startTestItem(parent, (StartTestItemRQ) event.getRequest()));
+					break;
+				case FINISH_ITEM:
+					target.finishTestItem(targetIds.get(event.getItemId()), (FinishTestItemRQ) event.getRequest());
+					break;
+				case LOG:
+					Maybe<String> item = event.getItemId() == null ? parentId : targetIds.get(event.getItemId());
+					sendLog(target, item, (SaveLogRQ) event.getRequest());
+					break;
+				default:
+					break;
+			}
+		}
+		events.clear();
+	}
+
+	/**
+	 * Drop all buffered items, report their logs under the parent item, and clear the buffer.
+	 *
+	 * @param target a sink to report logs to
+	 */
+	public void discard(@Nonnull ItemReportingSink target) {
+		discard(target, parentId);
+	}
+
+	/**
+	 * Drop all buffered items, report their logs under the given item, and clear the buffer.
+	 *
+	 * @param target a sink to report logs to
+	 * @param itemId an item of the target sink to report logs under
+	 */
+	public synchronized void discard(@Nonnull ItemReportingSink target, @Nonnull Maybe<String> itemId) {
+		for (ReportingEvent event : events) {
+			if (event.getType() == ReportingEvent.Type.LOG) {
+				sendLog(target, itemId, (SaveLogRQ) event.getRequest());
+			}
+		}
+		events.clear();
+	}
+
+	/**
+	 * @return compact summary of buffered items, a line with status and name per item
+	 */
+	@Nonnull
+	public synchronized String getSummary() {
+		Map<String, String> statuses = new HashMap<>();
+		events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.FINISH_ITEM)
+				.forEach(e -> statuses.put(e.getItemId(), ((FinishTestItemRQ) e.getRequest()).getStatus()));
+		StringBuilder result = new StringBuilder();
+		events.stream().filter(e -> e.getType() == ReportingEvent.Type.START_ITEM).forEach(e -> {
+			if (result.length() > 0) {
+				result.append('\n');
+			}
+			String status = statuses.get(e.getItemId());
+			result.append("- ")
+					.append(status == null ? "UNFINISHED" : status)
+					.append(": ")
+					.append(((StartTestItemRQ) e.getRequest()).getName());
+		});
+		return result.toString();
+	}
+}
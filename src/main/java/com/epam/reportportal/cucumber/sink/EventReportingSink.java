@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+
+/**
+ * Base class for sinks which do not report to a server directly, but turn every operation into a {@link ReportingEvent}. Item IDs
+ * are generated locally, so they are available immediately, and logs without an explicit item are attributed to the item which was
+ * started last on the current thread.
+ * <p>
+ * NOTE: such sinks do not initialize ReportPortal client's logging context, so logs of logging framework appenders and nested steps
+ * are not captured by them.
+ */
+public abstract class EventReportingSink implements ReportingSink {
+
+	private final ThreadLocal<Deque<String>> threadItems = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Handle a reporting event, the method is called on the thread which performs the operation.
+	 *
+	 * @param event reporting event
+	 */
+	protected abstract void write(@Nonnull ReportingEvent event);
+
+	/**
+	 * Generate an ID for a launch or an item.
+	 *
+	 * @return a unique ID
+	 */
+	@Nonnull
+	protected String generateId() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Nullable
+	protected static String toId(@Nullable Maybe<String> id) {
+		return id == null ? null : id.blockingGet();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+		String launchId = generateId();
+		write(ReportingEvent.startLaunch(launchId, rq));
+		return Maybe.just(launchId);
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		String itemId = generateId();
+		write(ReportingEvent.startItem(itemId, toId(parentId), rq));
+		threadItems.get().addLast(itemId);
+		return Maybe.just(itemId);
+	}
+
+	@Override
+	public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		String id = toId(itemId);
+		if (id == null) {
+			return;
+		}
+		threadItems.get().removeLastOccurrence(id);
+		write(ReportingEvent.finishItem(id, rq));
+	}
+
+	@Nullable
+	private String resolveItem(@Nullable Maybe<String> itemId) {
+		return itemId == null ? threadItems.get().peekLast() : toId(itemId);
+	}
+
+	@Nonnull
+	private static SaveLogRQ buildLogRq(@Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage(message);
+		rq.setLevel(level);
+		rq.setLogTime(time);
+		return rq;
+	}
+
+	@Override
+	public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		write(ReportingEvent.log(resolveItem(itemId), buildLogRq(message, level, time)));
+	}
+
+	@Override
+	public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time) {
+		SaveLogRQ rq = buildLogRq(message, level, time);
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName(UUID.randomUUID().toString());
+		file.setContentType(mimeType);
+		file.setContent(data);
+		rq.setFile(file);
+		write(ReportingEvent.log(resolveItem(itemId), rq));
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		write(ReportingEvent.finishLaunch(rq));
+	}
+}
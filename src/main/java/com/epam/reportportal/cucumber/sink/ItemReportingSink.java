@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Destination of item-level reporting operations: test items, logs and attachments. Sinks which only hold a subtree of a launch,
+ * like {@link DeferredReportingSink}, implement this interface, while {@link ReportingSink} adds launch operations on top of it.
+ * <p>
+ * Item IDs returned by a sink are opaque handles, which are only valid for the same sink.
+ */
+public interface ItemReportingSink {
+
+	/**
+	 * Start a test item
+	 *
+	 * @param parentId parent item ID, or null for a root item
+	 * @param rq       item start request
+	 * @return item ID
+	 */
+	@Nonnull
+	Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq);
+
+	/**
+	 * Finish a test item
+	 *
+	 * @param itemId item ID
+	 * @param rq     item finish request
+	 */
+	void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq);
+
+	/**
+	 * Send a text log entry
+	 *
+	 * @param itemId  item ID to attach the log to, or null to use the item which was started last on the current thread
+	 * @param message log message
+	 * @param level   log level
+	 * @param time    log time
+	 */
+	void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time);
+
+	/**
+	 * Send a log entry with a file attached
+	 *
+	 * @param itemId   item ID to attach the log to, or null to use the item which was started last on the current thread
+	 * @param message  log message
+	 * @param mimeType attachment type
+	 * @param data     attachment content
+	 * @param level    log level
+	 * @param time     log time
+	 */
+	void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time);
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reader of journals written by {@link JournalWriter}.
+ */
+public class JournalReader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReader.class);
+
+	private final Path directory;
+
+	public JournalReader(@Nonnull Path journalDirectory) {
+		directory = journalDirectory;
+	}
+
+	/**
+	 * @return journal segment files in the order they were written
+	 * @throws IOException if the journal directory can't be listed
+	 */
+	@Nonnull
+	public List<Path> getSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(f -> f.getFileName().toString().endsWith(JournalWriter.SEGMENT_EXTENSION))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Read all events of the journal in the order they were written. Reading stops on the first malformed record, since all the
+	 * records after it are unreliable.
+	 *
+	 * @param consumer event consumer
+	 * @return number of events read
+	 * @throws IOException if a segment can't be read
+	 */
+	public int read(@Nonnull Consumer<ReportingEvent> consumer) throws IOException {
+		return read(
+				0, event -> {
+					consumer.accept(event);
+					return true;
+				}
+		);
+	}
+
+	/**
+	 * Read events of the journal in the order they were written, until the consumer refuses an event. Reading stops on the first
+	 * malformed record, since all the records after it are unreliable.
+	 *
+	 * @param skip     number of events to skip from the start of the journal
+	 * @param consumer event consumer, returns false to stop reading, the refused event is not counted
+	 * @return number of events accepted by the consumer
+	 * @throws IOException if a segment can't be read
+	 */
+	public int read(int skip, @Nonnull Predicate<ReportingEvent> consumer) throws IOException {
+		return read(skip, consumer, offset -> {});
+	}
+
+	/**
+	 * Read events of the journal in the order they were written, until the consumer refuses an event, and notify about every segment
+	 * which was read to its end. Reading stops on the first malformed record, since all the records after it are unreliable.
+	 *
+	 * @param skip        number of events to skip from the start of the journal
+	 * @param consumer    event consumer, returns false to stop reading, the refused event is not counted
+	 * @param segmentRead receives the number of events from the start of the journal to the end of a fully read segment, including
+	 *                    skipped ones, which can be passed as <code>skip</code> to continue reading after the segment
+	 * @return number of events accepted by the consumer
+	 * @throws IOException if a segment can't be read
+	 */
+	public int read(int skip, @Nonnull Predicate<ReportingEvent> consumer, @Nonnull IntConsumer segmentRead) throws IOException {
+		int index = 0;
+		int count = 0;
+		for (Path segment : getSegments()) {
+			try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				while (buffer.remaining() >= Integer.BYTES) {
+					int length = buffer.getInt();
+					if (length <= 0) {
+						break;
+					}
+					if (length > buffer.remaining()) {
+						LOGGER.warn("Truncated record in journal segment: {}", segment);
+						return count;
+					}
+					if (index++ < skip) {
+						buffer.position(buffer.position() + length);
+						continue;
+					}
+					byte[] record = new byte[length];
+					buffer.get(record);
+					ReportingEvent event;
+					try {
+						event = ReportingEventCodec.decode(record);
+					} catch (IOException | RuntimeException e) {
+						LOGGER.warn("Malformed record in journal segment: {}", segment, e);
+						return count;
+					}
+					if (!consumer.test(event)) {
+						return count;
+					}
+					count++;
+				}
+			}
+			if (index > skip) {
+				segmentRead.accept(index);
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.StartRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Uploads journals written in {@link com.epam.reportportal.cucumber.ReportingMode#SPOOL} mode into ReportPortal. Every journal is
+ * replayed into a new launch in the order it was recorded, with original item and log timestamps. ReportPortal connection parameters
+ * are read the same way as by the agent. Successfully uploaded journals are marked with {@value #REPLAYED_MARKER} file and skipped
+ * on the next run.
+ * <p>
+ * After every uploaded journal segment a {@value #CHECKPOINT_FILE} file is written into the journal, with the number of uploaded events,
+ * the launch UUID and UUIDs of items which are not finished yet. An interrupted upload continues from the checkpoint into the same
+ * launch, so only the events of the interrupted segment are sent twice and no launch is duplicated.
+ * <p>
+ * Usage: <code>java -cp &lt;classpath&gt; com.epam.reportportal.cucumber.sink.JournalReplay &lt;directory&gt;...</code>, where a
+ * directory is either a single launch journal or a spool directory with launch journals.
+ */
+public class JournalReplay {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReplay.class);
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final String TEMP_EXTENSION = ".tmp";
+
+	public static final String REPLAYED_MARKER = ".replayed";
+	public static final String CHECKPOINT_FILE = ".checkpoint";
+	/**
+	 * Prefix of {@link CircuitBreakerReportingSink} backlog directories, which belong to launches reported directly and are skipped
+	 */
+	public static final String BACKLOG_PREFIX = "backlog-";
+
+	public static final int EXIT_SUCCESS = 0;
+	public static final int EXIT_FAILURE = 1;
+	public static final int EXIT_USAGE = 2;
+
+	private final ReportPortal reportPortal;
+
+	public JournalReplay(@Nonnull ReportPortal reportPortal) {
+		this.reportPortal = reportPortal;
+	}
+
+	/**
+	 * @param directory a directory to check
+	 * @return true if the directory contains journal segments
+	 * @throws IOException if the directory can't be listed
+	 */
+	public static boolean isJournal(@Nonnull Path directory) throws IOException {
+		return Files.isDirectory(directory) && !new JournalReader(directory).getSegments().isEmpty();
+	}
+
+	/**
+	 * Find journals to upload.
+	 *
+	 * @param path a single launch journal or a spool directory
+	 * @return journals which were not uploaded yet, in name order
+	 * @throws IOException if a directory can't be listed
+	 */
+	@Nonnull
+	public static List<Path> findJournals(@Nonnull Path path) throws IOException {
+		List<Path> candidates = new ArrayList<>();
+		if (isJournal(path)) {
+			candidates.add(path);
+		} else if (Files.isDirectory(path)) {
+			try (Stream<Path> files = Files.list(path)) {
+				candidates.addAll(files.filter(Files::isDirectory)
+						.filter(f -> !f.getFileName().toString().startsWith(BACKLOG_PREFIX))
+						.sorted()
+						.collect(Collectors.toList()));
+			}
+		}
+		List<Path> result = new ArrayList<>();
+		for (Path candidate : candidates) {
+			if (isJournal(candidate) && !Files.exists(candidate.resolve(REPLAYED_MARKER))) {
+				result.add(candidate);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Upload progress of a journal
+	 */
+	private static class Checkpoint {
+		private final int offset;
+		private final String launchUuid;
+		private final Map<String, String> openItems;
+
+		private Checkpoint(int eventOffset, @Nonnull String launch, @Nonnull Map<String, String> items) {
+			offset = eventOffset;
+			launchUuid = launch;
+			openItems = items;
+		}
+
+		@Nullable
+		private static Checkpoint read(@Nonnull Path file) throws IOException {
+			if (!Files.exists(file)) {
+				return null;
+			}
+			JsonNode root = MAPPER.readTree(file.toFile());
+			Map<String, String> items = new HashMap<>();
+			root.path("items").fields().forEachRemaining(e -> items.put(e.getKey(), e.getValue().asText()));
+			return new Checkpoint(root.path("offset").asInt(), root.path("launch").asText(), items);
+		}
+
+		private void write(@Nonnull Path file) throws IOException {
+			ObjectNode root = MAPPER.createObjectNode();
+			root.put("offset", offset);
+			root.put("launch", launchUuid);
+			ObjectNode items = root.putObject("items");
+			openItems.forEach(items::put);
+			Path temp = file.resolveSibling(file.getFileName() + TEMP_EXTENSION);
+			MAPPER.writeValue(temp.toFile(), root);
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+	}
+
+	/**
+	 * Wait for the launch and unfinished items of the segments replayed so far to be created and save their UUIDs.
+	 */
+	private static void writeCheckpoint(@Nonnull Path file, int offset, @Nonnull ReportingEventReplayer replayer) {
+		String launchUuid = replayer.getLaunchId().blockingGet();
+		if (launchUuid == null) {
+			LOGGER.warn("Launch is not started, unable to save upload checkpoint: {}", file);
+			return;
+		}
+		Map<String, String> items = new HashMap<>();
+		replayer.getOpenItems().forEach((id, item) -> {
+			String uuid = item.blockingGet();
+			if (uuid != null) {
+				items.put(id, uuid);
+			}
+		});
+		try {
+			new Checkpoint(offset, launchUuid, items).write(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to save upload checkpoint: {}", file, e);
+		}
+	}
+
+	/**
+	 * Upload a single launch journal, or continue its interrupted upload.
+	 *
+	 * @param journalDirectory launch journal directory
+	 * @return number of replayed events
+	 * @throws IOException if the journal can't be read
+	 */
+	public int replay(@Nonnull Path journalDirectory) throws IOException {
+		LaunchReportingSink sink = new LaunchReportingSink(reportPortal);
+		ReportingEventReplayer replayer = new ReportingEventReplayer(sink);
+		Path checkpointFile = journalDirectory.resolve(CHECKPOINT_FILE);
+		Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+		int skip = 0;
+		if (checkpoint != null) {
+			LOGGER.info("Continuing upload of journal after {} events into launch {}: {}",
+					checkpoint.offset,
+					checkpoint.launchUuid,
+					journalDirectory
+			);
+			Maybe<String> launchId = Maybe.just(checkpoint.launchUuid);
+			sink.resumeLaunch(reportPortal.withLaunch(launchId));
+			Map<String, Maybe<String>> items = new HashMap<>();
+			checkpoint.openItems.forEach((id, uuid) -> items.put(id, Maybe.just(uuid)));
+			replayer.resume(launchId, items);
+			skip = checkpoint.offset;
+		}
+		boolean[] finished = { false };
+		Instant[] lastTime = { null };
+		int count = new JournalReader(journalDirectory).read(
+				skip, event -> {
+					Object request = event.getRequest();
+					if (request instanceof StartRQ) {
+						lastTime[0] = ReportingEventReplayer.toInstant(((StartRQ) request).getStartTime());
+					} else if (request instanceof FinishExecutionRQ) {
+						lastTime[0] = ReportingEventReplayer.toInstant(((FinishExecutionRQ) request).getEndTime());
+					}
+					replayer.replay(event);
+					finished[0] = event.getType() == ReportingEvent.Type.FINISH_LAUNCH;
+					return true;
+				}, offset -> {
+					if (!finished[0]) {
+						writeCheckpoint(checkpointFile, offset, replayer);
+					}
+				}
+		);
+		if (count == 0 && checkpoint == null) {
+			LOGGER.warn("Journal is empty: {}", journalDirectory);
+			return 0;
+		}
+		if (!finished[0]) {
+			LOGGER.warn("Journal does not contain launch finish, the launch is finished at the last recorded time: {}", journalDirectory);
+			FinishExecutionRQ rq = new FinishExecutionRQ();
+			rq.setEndTime(lastTime[0] == null ? Instant.now() : lastTime[0]);
+			replayer.getTarget().finishLaunch(rq);
+		}
+		Files.createFile(journalDirectory.resolve(REPLAYED_MARKER));
+		Files.deleteIfExists(checkpointFile);
+		return count;
+	}
+
+	/**
+	 * Upload all not yet uploaded journals of the given directories.
+	 *
+	 * @param reportPortal supplier of ReportPortal instance to upload journals with
+	 * @param args         journal or spool directories
+	 * @return {@link #EXIT_SUCCESS} if all journals were uploaded, {@link #EXIT_FAILURE} if any upload failed, {@link #EXIT_USAGE} if no
+	 * directories were given
+	 */
+	public static int run(@Nonnull Supplier<ReportPortal> reportPortal, @Nonnull String... args) {
+		if (args.length == 0) {
+			LOGGER.error("Usage: {} <journal or spool directory>...", JournalReplay.class.getName());
+			return EXIT_USAGE;
+		}
+		JournalReplay replay = new JournalReplay(reportPortal.get());
+		int result = EXIT_SUCCESS;
+		for (String arg : args) {
+			try {
+				for (Path journal : findJournals(Paths.get(arg))) {
+					LOGGER.info("Uploading journal: {}", journal);
+					int count = replay.replay(journal);
+					LOGGER.info("Uploaded {} events of journal: {}", count, journal);
+				}
+			} catch (IOException | RuntimeException e) {
+				LOGGER.error("Unable to upload journal: {}", arg, e);
+				result = EXIT_FAILURE;
+			}
+		}
+		return result;
+	}
+
+	public static void main(String[] args) {
+		int exitCode = run(() -> ReportPortal.builder().build(), args);
+		if (exitCode != EXIT_SUCCESS) {
+			System.exit(exitCode);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Sink which appends every reporting operation to a local journal with {@link JournalWriter}. The journal is read with
+ * {@link JournalReader} and can be uploaded into a real launch with {@link JournalReplay}.
+ */
+public class JournalReportingSink extends EventReportingSink implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReportingSink.class);
+
+	private final JournalWriter writer;
+
+	public JournalReportingSink(@Nonnull Path journalDirectory, int segmentSize) throws IOException {
+		writer = new JournalWriter(journalDirectory, segmentSize);
+	}
+
+	public JournalReportingSink(@Nonnull Path journalDirectory) throws IOException {
+		this(journalDirectory, JournalWriter.DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * @return the directory where journal segments are written
+	 */
+	@Nonnull
+	public Path getDirectory() {
+		return writer.getDirectory();
+	}
+
+	@Override
+	protected synchronized void write(@Nonnull ReportingEvent event) {
+		if (writer.isClosed()) {
+			LOGGER.warn("Journal is already closed, the event is skipped: {}", event);
+			return;
+		}
+		try {
+			writer.append(event);
+		} catch (IOException e) {
+			LOGGER.error("Unable to write reporting event to journal: {}", writer.getDirectory(), e);
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		super.finishLaunch(rq);
+		try {
+			close();
+		} catch (IOException e) {
+			LOGGER.error("Unable to close journal: {}", writer.getDirectory(), e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		writer.close();
+	}
+}
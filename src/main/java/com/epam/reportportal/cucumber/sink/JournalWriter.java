@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends {@link ReportingEvent}s as length-prefixed binary records to a journal. The journal is a directory of memory-mapped segment
+ * files of a fixed size, a segment is forced to the disk once it is full and a new one is started. An append is just a copy into the
+ * mapped memory, so it does not block the caller on I/O. Records which do not fit into a segment of the configured size get a
+ * dedicated segment of a sufficient size.
+ * <p>
+ * The rest of a segment after the last record is filled with zeros, so a zero length marks the end of the segment. The journal is
+ * read with {@link JournalReader}. The class is not thread-safe.
+ */
+public class JournalWriter implements Closeable {
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+	public static final String SEGMENT_EXTENSION = ".rpj";
+	private static final String SEGMENT_NAME_FORMAT = "%08d" + SEGMENT_EXTENSION;
+
+	private final Path directory;
+	private final int segmentSize;
+
+	private int segmentIndex;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private int count;
+	private boolean closed;
+
+	public JournalWriter(@Nonnull Path journalDirectory, int segmentSize) throws IOException {
+		if (segmentSize <= Integer.BYTES) {
+			throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+		}
+		directory = journalDirectory;
+		this.segmentSize = segmentSize;
+		Files.createDirectories(journalDirectory);
+		openSegment(segmentSize);
+	}
+
+	/**
+	 * @return the directory where journal segments are written
+	 */
+	@Nonnull
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return number of events appended to the journal
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	private void openSegment(int size) throws IOException {
+		Path segmentPath = directory.resolve(String.format(SEGMENT_NAME_FORMAT, segmentIndex++));
+		channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+	}
+
+	private void closeSegment() throws IOException {
+		buffer.force();
+		channel.force(true);
+		channel.close();
+	}
+
+	/**
+	 * Append an event to the journal.
+	 *
+	 * @param event an event to append
+	 * @throws IOException if the journal is closed or a new segment can't be created
+	 */
+	public void append(@Nonnull ReportingEvent event) throws IOException {
+		if (closed) {
+			throw new IOException("Journal is already closed: " + directory);
+		}
+		byte[] record = ReportingEventCodec.encode(event);
+		int recordSize = Integer.BYTES + record.length;
+		if (buffer.remaining() < recordSize) {
+			closeSegment();
+			openSegment(Math.max(segmentSize, recordSize));
+		}
+		// Write the length last, a record interrupted in the middle is read as the end of the segment
+		int position = buffer.position();
+		buffer.position(position + Integer.BYTES);
+		buffer.put(record);
+		buffer.putInt(position, record.length);
+		count++;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		closeSegment();
+	}
+}
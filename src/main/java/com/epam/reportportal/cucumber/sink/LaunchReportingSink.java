@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.reportportal.message.ReportPortalMessage;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.files.ByteSource;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sink which reports directly into a {@link Launch}. Logs without an explicit item are emitted through the client's logging context,
+ * the same way as logs of logging framework appenders.
+ */
+public class LaunchReportingSink implements ReportingSink {
+
+	private final Function<StartLaunchRQ, Launch> launchFactory;
+	private volatile Launch launch;
+
+	/**
+	 * @param launchSupplier supplier of a not yet started launch, which is built with the same request as passed to
+	 *                       {@link #startLaunch(StartLaunchRQ)}
+	 */
+	public LaunchReportingSink(@Nonnull Supplier<Launch> launchSupplier) {
+		launchFactory = rq -> launchSupplier.get();
+	}
+
+	/**
+	 * @param reportPortal ReportPortal instance to create a launch with the request passed to {@link #startLaunch(StartLaunchRQ)}
+	 */
+	public LaunchReportingSink(@Nonnull ReportPortal reportPortal) {
+		launchFactory = reportPortal::newLaunch;
+	}
+
+	/**
+	 * @return the launch which operations are reported to
+	 * @throws IllegalStateException if the launch is not started yet
+	 */
+	@Nonnull
+	public Launch getLaunch() {
+		Launch myLaunch = launch;
+		if (myLaunch == null) {
+			throw new IllegalStateException("Launch is not started yet");
+		}
+		return myLaunch;
+	}
+
+	/**
+	 * Report into a launch which was started before, instead of starting a new one with {@link #startLaunch(StartLaunchRQ)}.
+	 *
+	 * @param startedLaunch the launch to report into
+	 */
+	public void resumeLaunch(@Nonnull Launch startedLaunch) {
+		launch = startedLaunch;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+		Launch myLaunch = launchFactory.apply(rq);
+		launch = myLaunch;
+		return myLaunch.start();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		return parentId == null ? getLaunch().startTestItem(rq) : getLaunch().startTestItem(parentId, rq);
+	}
+
+	@Override
+	public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		//noinspection ReactiveStreamsUnusedPublisher
+		getLaunch().finishTestItem(itemId, rq);
+	}
+
+	@Nonnull
+	private static SaveLogRQ buildLogRq(@Nonnull String itemUuid, @Nullable String message, @Nonnull String level,
+			@Nonnull Instant time) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setMessage(message);
+		rq.setLevel(level);
+		rq.setLogTime(time);
+		return rq;
+	}
+
+	@Nonnull
+	static SaveLogRQ buildAttachmentRq(@Nonnull String itemUuid, @Nullable String message, @Nullable String mimeType,
+			@Nonnull byte[] data, @Nonnull String level, @Nonnull Instant time) {
+		SaveLogRQ rq = buildLogRq(itemUuid, message, level, time);
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName(UUID.randomUUID().toString());
+		file.setContentType(mimeType);
+		file.setContent(data);
+		rq.setFile(file);
+		return rq;
+	}
+
+	@Override
+	public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		if (itemId == null) {
+			ReportPortal.emitLog(message, level, time);
+		} else {
+			ReportPortal.emitLog(itemId, uuid -> buildLogRq(uuid, message, level, time));
+		}
+	}
+
+	@Override
+	public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time) {
+		if (itemId == null) {
+			ReportPortal.emitLog(new ReportPortalMessage(ByteSource.wrap(data), mimeType, message), level, time);
+		} else {
+			ReportPortal.emitLog(itemId, uuid -> buildAttachmentRq(uuid, message, mimeType, data, level, time));
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		getLaunch().finish(rq);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sink which keeps all reporting events in memory, for tests and benchmarks of the reporter without a server.
+ */
+public class MemoryReportingSink extends EventReportingSink {
+
+	private final Queue<ReportingEvent> events = new ConcurrentLinkedQueue<>();
+
+	@Override
+	protected void write(@Nonnull ReportingEvent event) {
+		events.add(event);
+	}
+
+	/**
+	 * @return all recorded events in the order of their appearance
+	 */
+	@Nonnull
+	public List<ReportingEvent> getEvents() {
+		return new ArrayList<>(events);
+	}
+
+	public void clear() {
+		events.clear();
+	}
+}
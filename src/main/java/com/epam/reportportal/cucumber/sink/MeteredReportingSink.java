@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.reportportal.cucumber.metrics.ReporterMetrics;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Sink which counts started and finished items, logs and their size in {@link ReporterMetrics} and passes all operations to the
+ * delegate sink.
+ */
+public class MeteredReportingSink implements ReportingSink {
+	private final ReportingSink delegate;
+	private final ReporterMetrics metrics;
+
+	public MeteredReportingSink(@Nonnull ReportingSink delegate, @Nonnull ReporterMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Nonnull
+	public ReportingSink getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+		return delegate.startLaunch(rq);
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		metrics.itemStarted();
+		return delegate.startTestItem(parentId, rq);
+	}
+
+	@Override
+	public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		metrics.itemFinished();
+		delegate.finishTestItem(itemId, rq);
+	}
+
+	@Override
+	public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		metrics.logEmitted(message == null ? 0 : message.length());
+		delegate.log(itemId, message, level, time);
+	}
+
+	@Override
+	public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time) {
+		metrics.logEmitted((message == null ? 0 : message.length()) + (long) data.length);
+		delegate.attach(itemId, message, mimeType, data, level, time);
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		delegate.finishLaunch(rq);
+	}
+}
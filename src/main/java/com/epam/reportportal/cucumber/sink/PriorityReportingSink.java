@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sink which keeps large attachment uploads from delaying item lifecycle requests. Operations are classified into {@link Lane}s:
+ * <ul>
+ *     <li>launch and item lifecycle operations are passed to the delegate sink immediately;</li>
+ *     <li>text logs and small attachments are passed to the delegate sink too, where they are batched by the client's logging
+ *     context;</li>
+ *     <li>attachments of at least the threshold size are uploaded with the client directly by a separate pool of threads, so no more
+ *     than the configured number of them are uploaded at once and they do not occupy the client's executor.</li>
+ * </ul>
+ * Large attachments of the same item are uploaded one after another in the order they were attached. An attachment, which fails to
+ * upload, is passed to the delegate sink instead, so it is retried by the client's logging context rather than lost. An item can be
+ * finished before its attachments are uploaded, the launch is finished only after all of them are.
+ */
+public class PriorityReportingSink implements ReportingSink, Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PriorityReportingSink.class);
+
+	public enum Lane {
+		/**
+		 * Launch and item start and finish
+		 */
+		LIFECYCLE,
+		/**
+		 * Text logs and attachments smaller than the threshold
+		 */
+		LOG,
+		/**
+		 * Attachments of at least the threshold size
+		 */
+		ATTACHMENT
+	}
+
+	private final ReportingSink delegate;
+	private final ReportPortalClient client;
+	private final int attachmentThreshold;
+	private final ExecutorService attachmentExecutor;
+	private final Map<Maybe<String>, CompletableFuture<Void>> itemUploads = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingAttachments = new AtomicInteger();
+	private volatile Maybe<String> launchId;
+
+	/**
+	 * @param delegate              sink which reports directly to the server
+	 * @param client                client to upload large attachments with
+	 * @param attachmentThreshold   minimum size of an attachment in bytes to upload it in {@link Lane#ATTACHMENT} lane
+	 * @param attachmentConcurrency maximum number of attachments uploaded at once
+	 */
+	public PriorityReportingSink(@Nonnull ReportingSink delegate, @Nonnull ReportPortalClient client, int attachmentThreshold,
+			int attachmentConcurrency) {
+		if (attachmentConcurrency <= 0) {
+			throw new IllegalArgumentException("Attachment concurrency should be positive: " + attachmentConcurrency);
+		}
+		this.delegate = delegate;
+		this.client = client;
+		this.attachmentThreshold = attachmentThreshold;
+		AtomicInteger threadIndex = new AtomicInteger();
+		attachmentExecutor = Executors.newFixedThreadPool(
+				attachmentConcurrency, r -> {
+					Thread thread = new Thread(r, "rp-attachment-" + threadIndex.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+	}
+
+	@Nonnull
+	public ReportingSink getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * @return number of large attachments which are not uploaded yet
+	 */
+	public int getPendingAttachments() {
+		return pendingAttachments.get();
+	}
+
+	/**
+	 * Classify an attachment.
+	 *
+	 * @param itemId item ID the attachment belongs to, or null for the item which was started last on the current thread
+	 * @param data   attachment content
+	 * @return the lane to report the attachment in
+	 */
+	@Nonnull
+	public Lane getLane(@Nullable Maybe<String> itemId, @Nonnull byte[] data) {
+		// the current item is known only on the reporting thread, so such attachments are not deferred
+		return itemId == null || data.length < attachmentThreshold ? Lane.LOG : Lane.ATTACHMENT;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+		Maybe<String> id = delegate.startLaunch(rq);
+		launchId = id;
+		return id;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		return delegate.startTestItem(parentId, rq);
+	}
+
+	@Override
+	public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		delegate.finishTestItem(itemId, rq);
+	}
+
+	@Override
+	public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+		delegate.log(itemId, message, level, time);
+	}
+
+	@Override
+	public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time) {
+		if (getLane(itemId, data) == Lane.LOG) {
+			delegate.attach(itemId, message, mimeType, data, level, time);
+			return;
+		}
+		pendingAttachments.incrementAndGet();
+		Runnable upload = () -> upload(itemId, message, mimeType, data, level, time);
+		CompletableFuture<Void> tail = itemUploads.compute(
+				itemId,
+				(id, previous) -> previous == null ?
+						CompletableFuture.runAsync(upload, attachmentExecutor) :
+						previous.thenRunAsync(upload, attachmentExecutor)
+		);
+		tail.whenComplete((r, e) -> itemUploads.remove(itemId, tail));
+	}
+
+	private void upload(@Nonnull Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+			@Nonnull String level, @Nonnull Instant time) {
+		try {
+			SaveLogRQ rq = LaunchReportingSink.buildAttachmentRq(itemId.blockingGet(), message, mimeType, data, level, time);
+			rq.setLaunchUuid(launchId.blockingGet());
+			client.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(rq))).blockingGet();
+		} catch (RuntimeException e) {
+			// the next attachments of the item are still uploaded
+			LOGGER.warn("Unable to upload an attachment of {} bytes, passing it to the delegate sink", data.length, e);
+			delegate.attach(itemId, message, mimeType, data, level, time);
+		} finally {
+			pendingAttachments.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Wait for all large attachments to be uploaded, including the ones attached while waiting.
+	 */
+	public void flush() {
+		CompletableFuture<?>[] uploads;
+		while ((uploads = itemUploads.values().stream().filter(u -> !u.isDone()).toArray(CompletableFuture[]::new)).length > 0) {
+			CompletableFuture.allOf(uploads).join();
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		flush();
+		close();
+		delegate.finishLaunch(rq);
+	}
+
+	@Override
+	public void close() {
+		attachmentExecutor.shutdown();
+	}
+}
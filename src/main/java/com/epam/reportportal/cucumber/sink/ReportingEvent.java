@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A single reporting operation recorded by an {@link EventReportingSink}. Items are referenced by IDs generated locally by the sink.
+ */
+public class ReportingEvent {
+
+	public enum Type {
+		START_LAUNCH,
+		START_ITEM,
+		FINISH_ITEM,
+		LOG,
+		FINISH_LAUNCH
+	}
+
+	private final Type type;
+	private final String itemId;
+	private final String parentId;
+	private final Object request;
+
+	ReportingEvent(@Nonnull Type eventType, @Nullable String eventItemId, @Nullable String eventParentId, @Nonnull Object eventRequest) {
+		type = eventType;
+		itemId = eventItemId;
+		parentId = eventParentId;
+		request = eventRequest;
+	}
+
+	@Nonnull
+	public static ReportingEvent startLaunch(@Nonnull String launchId, @Nonnull StartLaunchRQ rq) {
+		return new ReportingEvent(Type.START_LAUNCH, launchId, null, rq);
+	}
+
+	@Nonnull
+	public static ReportingEvent startItem(@Nonnull String itemId, @Nullable String parentId, @Nonnull StartTestItemRQ rq) {
+		return new ReportingEvent(Type.START_ITEM, itemId, parentId, rq);
+	}
+
+	@Nonnull
+	public static ReportingEvent finishItem(@Nonnull String itemId, @Nonnull FinishTestItemRQ rq) {
+		return new ReportingEvent(Type.FINISH_ITEM, itemId, null, rq);
+	}
+
+	@Nonnull
+	public static ReportingEvent log(@Nullable String itemId, @Nonnull SaveLogRQ rq) {
+		return new ReportingEvent(Type.LOG, itemId, null, rq);
+	}
+
+	@Nonnull
+	public static ReportingEvent finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		return new ReportingEvent(Type.FINISH_LAUNCH, null, null, rq);
+	}
+
+	@Nonnull
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return launch ID for {@link Type#START_LAUNCH}, item ID for item and log events, null for launch level logs
+	 */
+	@Nullable
+	public String getItemId() {
+		return itemId;
+	}
+
+	@Nullable
+	public String getParentId() {
+		return parentId;
+	}
+
+	/**
+	 * @return operation request: {@link StartLaunchRQ}, {@link StartTestItemRQ}, {@link FinishTestItemRQ}, {@link SaveLogRQ} or
+	 * {@link FinishExecutionRQ}, depending on the event type
+	 */
+	@Nonnull
+	public Object getRequest() {
+		return request;
+	}
+
+	@Override
+	public String toString() {
+		return "ReportingEvent{" + "type=" + type + ", itemId='" + itemId + '\'' + ", parentId='" + parentId + '\'' + '}';
+	}
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+import static com.epam.reportportal.cucumber.sink.ReportingEventReplayer.toInstant;
+
+/**
+ * Binary encoding of {@link ReportingEvent}s. Every event is written as a record: 4-byte record length followed by the event type,
+ * item IDs and request fields. Timestamps are stored with nanosecond precision, test item issues are stored as JSON since they are
+ * rare and have a nested structure.
+ */
+public class ReportingEventCodec {
+	private static final int NULL_LENGTH = -1;
+	private static final ReportingEvent.Type[] TYPES = ReportingEvent.Type.values();
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private ReportingEventCodec() {
+		throw new AssertionError("No instances should exist for the class!");
+	}
+
+	private static void writeString(@Nonnull DataOutput out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nullable
+	private static String readString(@Nonnull DataInput in) throws IOException {
+		byte[] bytes = readBytes(in);
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeBytes(@Nonnull DataOutput out, @Nullable byte[] value) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		out.writeInt(value.length);
+		out.write(value);
+	}
+
+	@Nullable
+	private static byte[] readBytes(@Nonnull DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private static void writeBoolean(@Nonnull DataOutput out, @Nullable Boolean value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeBoolean(value);
+		}
+	}
+
+	@Nullable
+	private static Boolean readBoolean(@Nonnull DataInput in) throws IOException {
+		return in.readBoolean() ? in.readBoolean() : null;
+	}
+
+	private static void writeTime(@Nonnull DataOutput out, @Nullable Object time) throws IOException {
+		Instant instant = toInstant(time);
+		out.writeBoolean(instant != null);
+		if (instant != null) {
+			out.writeLong(instant.getEpochSecond());
+			out.writeInt(instant.getNano());
+		}
+	}
+
+	@Nullable
+	private static Instant readTime(@Nonnull DataInput in) throws IOException {
+		return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+	}
+
+	private static void writeAttributes(@Nonnull DataOutput out, @Nullable Collection<ItemAttributesRQ> attributes) throws IOException {
+		if (attributes == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		out.writeInt(attributes.size());
+		for (ItemAttributesRQ attribute : attributes) {
+			writeString(out, attribute.getKey());
+			writeString(out, attribute.getValue());
+			out.writeBoolean(attribute.isSystem());
+		}
+	}
+
+	@Nullable
+	private static Set<ItemAttributesRQ> readAttributes(@Nonnull DataInput in) throws IOException {
+		int size = in.readInt();
+		if (size == NULL_LENGTH) {
+			return null;
+		}
+		Set<ItemAttributesRQ> attributes = new HashSet<>(size);
+		for (int i = 0; i < size; i++) {
+			ItemAttributesRQ attribute = new ItemAttributesRQ(readString(in), readString(in));
+			attribute.setSystem(in.readBoolean());
+			attributes.add(attribute);
+		}
+		return attributes;
+	}
+
+	private static void writeParameters(@Nonnull DataOutput out, @Nullable List<ParameterResource> parameters) throws IOException {
+		if (parameters == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		out.writeInt(parameters.size());
+		for (ParameterResource parameter : parameters) {
+			writeString(out, parameter.getKey());
+			writeString(out, parameter.getValue());
+		}
+	}
+
+	@Nullable
+	private static List<ParameterResource> readParameters(@Nonnull DataInput in) throws IOException {
+		int size = in.readInt();
+		if (size == NULL_LENGTH) {
+			return null;
+		}
+		List<ParameterResource> parameters = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(readString(in));
+			parameter.setValue(readString(in));
+			parameters.add(parameter);
+		}
+		return parameters;
+	}
+
+	private static void writeIssue(@Nonnull DataOutput out, @Nullable Issue issue) throws IOException {
+		writeBytes(out, issue == null ? null : MAPPER.writeValueAsBytes(issue));
+	}
+
+	@Nullable
+	private static Issue readIssue(@Nonnull DataInput in) throws IOException {
+		byte[] bytes = readBytes(in);
+		return bytes == null ? null : MAPPER.readValue(bytes, Issue.class);
+	}
+
+	private static void writeStartLaunch(@Nonnull DataOutput out, @Nonnull StartLaunchRQ rq) throws IOException {
+		writeString(out, rq.getName());
+		writeString(out, rq.getDescription());
+		writeTime(out, rq.getStartTime());
+		writeString(out, rq.getMode() == null ? null : rq.getMode().name());
+		writeAttributes(out, rq.getAttributes());
+		out.writeBoolean(rq.isRerun());
+		writeString(out, rq.getRerunOf());
+	}
+
+	@Nonnull
+	private static StartLaunchRQ readStartLaunch(@Nonnull DataInput in) throws IOException {
+		StartLaunchRQ rq = new StartLaunchRQ();
+		rq.setName(readString(in));
+		rq.setDescription(readString(in));
+		rq.setStartTime(readTime(in));
+		String mode = readString(in);
+		rq.setMode(mode == null ? null : Mode.valueOf(mode));
+		rq.setAttributes(readAttributes(in));
+		rq.setRerun(in.readBoolean());
+		rq.setRerunOf(readString(in));
+		return rq;
+	}
+
+	private static void writeStartItem(@Nonnull DataOutput out, @Nonnull StartTestItemRQ rq) throws IOException {
+		writeString(out, rq.getName());
+		writeString(out, rq.getDescription());
+		writeString(out, rq.getType());
+		writeString(out, rq.getCodeRef());
+		writeString(out, rq.getTestCaseId());
+		writeString(out, rq.getUniqueId());
+		writeTime(out, rq.getStartTime());
+		out.writeBoolean(rq.isHasStats());
+		writeBoolean(out, rq.isRetry());
+		writeString(out, rq.getRetryOf());
+		writeAttributes(out, rq.getAttributes());
+		writeParameters(out, rq.getParameters());
+	}
+
+	@Nonnull
+	private static StartTestItemRQ readStartItem(@Nonnull DataInput in) throws IOException {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(readString(in));
+		rq.setDescription(readString(in));
+		rq.setType(readString(in));
+		rq.setCodeRef(readString(in));
+		rq.setTestCaseId(readString(in));
+		rq.setUniqueId(readString(in));
+		rq.setStartTime(readTime(in));
+		rq.setHasStats(in.readBoolean());
+		rq.setRetry(readBoolean(in));
+		rq.setRetryOf(readString(in));
+		rq.setAttributes(readAttributes(in));
+		rq.setParameters(readParameters(in));
+		return rq;
+	}
+
+	private static void writeFinish(@Nonnull DataOutput out, @Nonnull FinishExecutionRQ rq) throws IOException {
+		writeTime(out, rq.getEndTime());
+		writeString(out, rq.getStatus());
+		writeString(out, rq.getDescription());
+		writeAttributes(out, rq.getAttributes());
+	}
+
+	private static <T extends FinishExecutionRQ> T readFinish(@Nonnull DataInput in, @Nonnull T rq) throws IOException {
+		rq.setEndTime(readTime(in));
+		rq.setStatus(readString(in));
+		rq.setDescription(readString(in));
+		rq.setAttributes(readAttributes(in));
+		return rq;
+	}
+
+	private static void writeFinishItem(@Nonnull DataOutput out, @Nonnull FinishTestItemRQ rq) throws IOException {
+		writeFinish(out, rq);
+		writeString(out, rq.getTestCaseId());
+		writeBoolean(out, rq.isRetry());
+		writeString(out, rq.getRetryOf());
+		writeIssue(out, rq.getIssue());
+	}
+
+	@Nonnull
+	private static FinishTestItemRQ readFinishItem(@Nonnull DataInput in) throws IOException {
+		FinishTestItemRQ rq = readFinish(in, new FinishTestItemRQ());
+		rq.setTestCaseId(readString(in));
+		rq.setRetry(readBoolean(in));
+		rq.setRetryOf(readString(in));
+		rq.setIssue(readIssue(in));
+		return rq;
+	}
+
+	private static void writeLog(@Nonnull DataOutput out, @Nonnull SaveLogRQ rq) throws IOException {
+		writeString(out, rq.getMessage());
+		writeString(out, rq.getLevel());
+		writeTime(out, rq.getLogTime());
+		SaveLogRQ.File file = rq.getFile();
+		out.writeBoolean(file != null);
+		if (file != null) {
+			writeString(out, file.getName());
+			writeString(out, file.getContentType());
+			writeBytes(out, file.getContent());
+		}
+	}
+
+	@Nonnull
+	private static SaveLogRQ readLog(@Nonnull DataInput in) throws IOException {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage(readString(in));
+		rq.setLevel(readString(in));
+		rq.setLogTime(readTime(in));
+		if (in.readBoolean()) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(readString(in));
+			file.setContentType(readString(in));
+			file.setContent(readBytes(in));
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	/**
+	 * Encode an event into a record body, without the length prefix.
+	 *
+	 * @param event an event to encode
+	 * @return encoded event
+	 */
+	@Nonnull
+	public static byte[] encode(@Nonnull ReportingEvent event) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(bytes);
+		try {
+			out.writeByte(event.getType().ordinal());
+			writeString(out, event.getItemId());
+			writeString(out, event.getParentId());
+			switch (event.getType()) {
+				case START_LAUNCH:
+					writeStartLaunch(out, (StartLaunchRQ) event.getRequest());
+					break;
+				case START_ITEM:
+					writeStartItem(out, (StartTestItemRQ) event.getRequest());
+					break;
+				case FINISH_ITEM:
+					writeFinishItem(out, (FinishTestItemRQ) event.getRequest());
+					break;
+				case FINISH_LAUNCH:
+					writeFinish(out, (FinishExecutionRQ) event.getRequest());
+					break;
+				case LOG:
+					writeLog(out, (SaveLogRQ) event.getRequest());
+					break;
+			}
+			out.flush();
+		} catch (IOException e) {
+			// Should never happen for in-memory streams
+			throw new IllegalStateException("Unable to encode reporting event", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decode an event from a record body, without the length prefix.
+	 *
+	 * @param data encoded event
+	 * @return decoded event
+	 * @throws IOException if the record is truncated or malformed
+	 */
+	@Nonnull
+	public static ReportingEvent decode(@Nonnull byte[] data) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		int typeIndex = in.readUnsignedByte();
+		if (typeIndex >= TYPES.length) {
+			throw new IOException("Unknown reporting event type: " + typeIndex);
+		}
+		ReportingEvent.Type type = TYPES[typeIndex];
+		String itemId = readString(in);
+		String parentId = readString(in);
+		Object request;
+		switch (type) {
+			case START_LAUNCH:
+				request = readStartLaunch(in);
+				break;
+			case START_ITEM:
+				request = readStartItem(in);
+				break;
+			case FINISH_ITEM:
+				request = readFinishItem(in);
+				break;
+			case FINISH_LAUNCH:
+				request = readFinish(in, new FinishExecutionRQ());
+				break;
+			default:
+				request = readLog(in);
+		}
+		return new ReportingEvent(type, itemId, parentId, request);
+	}
+
+	/**
+	 * Write an event as a length-prefixed record.
+	 *
+	 * @param out   output to write to
+	 * @param event an event to write
+	 * @throws IOException in case of write errors
+	 */
+	public static void write(@Nonnull DataOutput out, @Nonnull ReportingEvent event) throws IOException {
+		writeBytes(out, encode(event));
+	}
+
+	/**
+	 * Read a length-prefixed event record.
+	 *
+	 * @param in input to read from
+	 * @return an event or null if the input is at its end
+	 * @throws IOException if the record is truncated or malformed
+	 */
+	@Nullable
+	public static ReportingEvent read(@Nonnull DataInput in) throws IOException {
+		byte[] data;
+		try {
+			data = readBytes(in);
+		} catch (EOFException e) {
+			return null;
+		}
+		if (data == null) {
+			throw new IOException("Malformed reporting event record");
+		}
+		return decode(data);
+	}
+}
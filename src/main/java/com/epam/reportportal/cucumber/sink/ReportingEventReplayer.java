@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replays {@link ReportingEvent}s into another sink, translating locally generated item IDs into IDs of the target sink. Events must be
+ * replayed in the order they were recorded, events of different items may be replayed from different threads.
+ */
+public class ReportingEventReplayer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingEventReplayer.class);
+
+	private final ReportingSink target;
+	private final Map<String, Maybe<String>> items = new ConcurrentHashMap<>();
+	private volatile Maybe<String> launchId = Maybe.empty();
+
+	public ReportingEventReplayer(@Nonnull ReportingSink targetSink) {
+		target = targetSink;
+	}
+
+	@Nonnull
+	public ReportingSink getTarget() {
+		return target;
+	}
+
+	/**
+	 * @return target sink launch ID, empty if no launch start was replayed
+	 */
+	@Nonnull
+	public Maybe<String> getLaunchId() {
+		return launchId;
+	}
+
+	/**
+	 * @return target sink IDs of items which were started but not finished yet, by recorded item ID
+	 */
+	@Nonnull
+	public Map<String, Maybe<String>> getOpenItems() {
+		return Collections.unmodifiableMap(items);
+	}
+
+	/**
+	 * Continue replaying events of a launch which was partially replayed before, so the events after the replayed ones can reference
+	 * the launch and items started by the previous replay.
+	 *
+	 * @param targetLaunchId target sink launch ID
+	 * @param openItems      target sink IDs of items which were started but not finished yet, by recorded item ID
+	 */
+	public void resume(@Nonnull Maybe<String> targetLaunchId, @Nonnull Map<String, Maybe<String>> openItems) {
+		launchId = targetLaunchId;
+		items.putAll(openItems);
+	}
+
+	@Nullable
+	private Maybe<String> getItem(@Nullable String itemId) {
+		if (itemId == null) {
+			return null;
+		}
+		Maybe<String> item = items.get(itemId);
+		if (item == null) {
+			LOGGER.warn("Unable to locate replayed item with ID: {}", itemId);
+		}
+		return item;
+	}
+
+	/**
+	 * Convert a request time into {@link Instant}.
+	 *
+	 * @param time request time
+	 * @return time as Instant or null if the time is not set or of unknown type
+	 */
+	@Nullable
+	public static Instant toInstant(@Nullable Object time) {
+		if (time instanceof Instant) {
+			return (Instant) time;
+		}
+		if (time instanceof Date) {
+			return ((Date) time).toInstant();
+		}
+		return null;
+	}
+
+	/**
+	 * Replay a single event
+	 *
+	 * @param event an event to replay
+	 */
+	public void replay(@Nonnull ReportingEvent event) {
+		switch (event.getType()) {
+			case START_LAUNCH:
+				launchId = target.startLaunch((StartLaunchRQ) event.getRequest());
+				break;
+			case START_ITEM:
+				Maybe<String> parent = getItem(event.getParentId());
+				items.put(event.getItemId(), target.startTestItem(parent, (StartTestItemRQ) event.getRequest()));
+				break;
+			case FINISH_ITEM:
+				Maybe<String> item = items.remove(event.getItemId());
+				if (item != null) {
+					target.finishTestItem(item, (FinishTestItemRQ) event.getRequest());
+				} else {
+					LOGGER.warn("Unable to finish unknown replayed item with ID: {}", event.getItemId());
+				}
+				break;
+			case LOG:
+				SaveLogRQ rq = (SaveLogRQ) event.getRequest();
+				Instant time = ofNullableTime(rq.getLogTime());
+				Maybe<String> logItem = getItem(event.getItemId());
+				if (rq.getFile() == null) {
+					target.log(logItem, rq.getMessage(), rq.getLevel(), time);
+				} else {
+					SaveLogRQ.File file = rq.getFile();
+					target.attach(logItem, rq.getMessage(), file.getContentType(), file.getContent(), rq.getLevel(), time);
+				}
+				break;
+			case FINISH_LAUNCH:
+				target.finishLaunch((FinishExecutionRQ) event.getRequest());
+				break;
+		}
+	}
+
+	@Nonnull
+	private static Instant ofNullableTime(@Nullable Object time) {
+		Instant result = toInstant(time);
+		return result == null ? Instant.now() : result;
+	}
+}
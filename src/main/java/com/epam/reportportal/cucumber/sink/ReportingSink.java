@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Destination of all reporting operations performed by {@link com.epam.reportportal.cucumber.AbstractReporter}. The reporter does not
+ * talk to {@link com.epam.reportportal.service.Launch} directly, so spooling, batching and other delivery strategies can be composed
+ * by wrapping sinks instead of overriding the reporter.
+ */
+public interface ReportingSink extends ItemReportingSink {
+
+	/**
+	 * Start a launch
+	 *
+	 * @param rq launch start request
+	 * @return launch ID
+	 */
+	@Nonnull
+	Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq);
+
+	/**
+	 * Finish the launch, sinks which deliver operations asynchronously should flush all pending operations here.
+	 *
+	 * @param rq launch finish request
+	 */
+	void finishLaunch(@Nonnull FinishExecutionRQ rq);
+}
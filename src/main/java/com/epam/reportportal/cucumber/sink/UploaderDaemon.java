@@ -0,0 +1,374 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.reportportal.cucumber.ReporterParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Local uploader process, which receives reporting operations of test processes from {@link UploaderReportingSink}s over a loopback
+ * socket and uploads them with a single ReportPortal client. All connected processes report into one launch: the first launch start
+ * starts it, the following ones join it, and the launch is finished when the last process has left and no other one has joined
+ * during the linger interval. Uploading continues after test processes exit.
+ * <p>
+ * Operations of all connections are replayed on one uploader thread, which owns the launch and its logging context, so the client
+ * batches logs of all processes together. The number of operations waiting for the uploader thread is limited, once the limit is
+ * reached connections stop reading their sockets until the uploader catches up, so TCP flow control blocks the test processes instead
+ * of the uploader's heap growing.
+ * <p>
+ * Usage: <code>java -cp &lt;classpath&gt; com.epam.reportportal.cucumber.sink.UploaderDaemon [port]</code>, the default port, the
+ * linger interval and the queue size are taken from {@value ReporterParameters#UPLOADER_PORT},
+ * {@value ReporterParameters#UPLOADER_LINGER} and {@value ReporterParameters#UPLOADER_QUEUE} parameters.
+ */
+public class UploaderDaemon implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(UploaderDaemon.class);
+
+	private final Supplier<ReportingSink> sinkFactory;
+	private final Duration linger;
+	private final Semaphore queuePermits;
+	private final ServerSocket serverSocket;
+	private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService uploader = Executors.newSingleThreadScheduledExecutor(r -> newThread(r, "rp-uploader"));
+	private final ExecutorService connections = Executors.newCachedThreadPool(r -> newThread(r, "rp-uploader-connection"));
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	// Confined to the uploader thread
+	private ReportingSink launchSink;
+	private Maybe<String> launchId;
+	private int members;
+	private FinishExecutionRQ finishRq;
+	private ScheduledFuture<?> pendingFinish;
+
+	/**
+	 * @param sinkFactory factory of a sink for every new launch
+	 * @param port        loopback port to listen, 0 to choose a free one
+	 * @param linger      time to wait for other processes to join after the last one has left, before the launch is finished
+	 * @param queueSize   maximum number of received operations waiting for the uploader thread
+	 * @throws IOException if the port can't be bound
+	 */
+	public UploaderDaemon(@Nonnull Supplier<ReportingSink> sinkFactory, int port, @Nonnull Duration linger, int queueSize)
+			throws IOException {
+		if (queueSize <= 0) {
+			throw new IllegalArgumentException("Uploader queue size should be positive");
+		}
+		this.sinkFactory = sinkFactory;
+		this.linger = linger;
+		queuePermits = new Semaphore(queueSize);
+		serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+	}
+
+	/**
+	 * @param sinkFactory factory of a sink for every new launch
+	 * @param port        loopback port to listen, 0 to choose a free one
+	 * @param linger      time to wait for other processes to join after the last one has left, before the launch is finished
+	 * @throws IOException if the port can't be bound
+	 */
+	public UploaderDaemon(@Nonnull Supplier<ReportingSink> sinkFactory, int port, @Nonnull Duration linger) throws IOException {
+		this(sinkFactory, port, linger, ReporterParameters.DEFAULT_UPLOADER_QUEUE);
+	}
+
+	@Nonnull
+	private static Thread newThread(@Nonnull Runnable runnable, @Nonnull String name) {
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	/**
+	 * @return the port the daemon listens to
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Start accepting connections in background.
+	 */
+	public void start() {
+		connections.execute(this::accept);
+	}
+
+	/**
+	 * Block until the daemon is closed.
+	 *
+	 * @throws InterruptedException if the current thread was interrupted
+	 */
+	public void awaitClose() throws InterruptedException {
+		closed.await();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				sockets.add(socket);
+				connections.execute(() -> serve(socket));
+			} catch (IOException e) {
+				if (!serverSocket.isClosed()) {
+					LOGGER.error("Unable to accept uploader connection", e);
+				}
+			} catch (RejectedExecutionException e) {
+				LOGGER.debug("Uploader is closing, connection is rejected", e);
+			}
+		}
+	}
+
+	private void serve(@Nonnull Socket socket) {
+		Connection connection = new Connection();
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+			ReportingEvent event;
+			while ((event = ReportingEventCodec.read(input)) != null) {
+				ReportingEvent myEvent = event;
+				// Blocks reading of the socket while the uploader is behind
+				queuePermits.acquire();
+				try {
+					uploader.execute(() -> {
+						try {
+							connection.replay(myEvent);
+						} finally {
+							queuePermits.release();
+						}
+					});
+				} catch (RejectedExecutionException e) {
+					queuePermits.release();
+					throw e;
+				}
+			}
+		} catch (IOException e) {
+			if (!socket.isClosed()) {
+				LOGGER.warn("Uploader connection is broken: {}", socket.getRemoteSocketAddress(), e);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			sockets.remove(socket);
+			uploader.execute(connection::disconnect);
+		}
+	}
+
+	@Nonnull
+	private Maybe<String> join(@Nonnull StartLaunchRQ rq) {
+		if (pendingFinish != null) {
+			pendingFinish.cancel(false);
+			pendingFinish = null;
+		}
+		if (launchSink == null) {
+			launchSink = sinkFactory.get();
+			launchId = launchSink.startLaunch(rq);
+			LOGGER.info("Uploader launch started: {}", rq.getName());
+		}
+		members++;
+		return launchId;
+	}
+
+	private void leave(@Nonnull FinishExecutionRQ rq) {
+		members--;
+		Instant endTime = ReportingEventReplayer.toInstant(rq.getEndTime());
+		Instant lastEndTime = finishRq == null ? null : ReportingEventReplayer.toInstant(finishRq.getEndTime());
+		if (lastEndTime == null || (endTime != null && endTime.isAfter(lastEndTime))) {
+			finishRq = rq;
+		}
+		if (members <= 0) {
+			pendingFinish = uploader.schedule(this::finishLaunch, linger.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void finishLaunch() {
+		pendingFinish = null;
+		if (launchSink == null) {
+			return;
+		}
+		if (members > 0) {
+			LOGGER.warn("Finishing uploader launch with {} processes still connected", members);
+		}
+		ReportingSink sink = launchSink;
+		FinishExecutionRQ rq = finishRq;
+		launchSink = null;
+		launchId = null;
+		finishRq = null;
+		members = 0;
+		if (rq == null) {
+			rq = new FinishExecutionRQ();
+			rq.setEndTime(Instant.now());
+		}
+		try {
+			sink.finishLaunch(rq);
+			LOGGER.info("Uploader launch finished");
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to finish uploader launch", e);
+		}
+	}
+
+	private void closeConnections() {
+		for (Socket socket : sockets) {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close uploader connection", e);
+			}
+		}
+	}
+
+	/**
+	 * Stop accepting connections, wait for connected processes to disconnect during the linger interval, finish the current launch
+	 * and wait until all operations are uploaded.
+	 */
+	@Override
+	public void close() {
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close uploader socket", e);
+		}
+		connections.shutdown();
+		try {
+			if (!connections.awaitTermination(linger.toMillis(), TimeUnit.MILLISECONDS)) {
+				LOGGER.warn("Uploader connections were not closed in time, closing them");
+				closeConnections();
+				connections.awaitTermination(linger.toMillis(), TimeUnit.MILLISECONDS);
+			}
+			uploader.execute(() -> {
+				if (pendingFinish != null) {
+					pendingFinish.cancel(false);
+				}
+				finishLaunch();
+			});
+			uploader.shutdown();
+			if (!uploader.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+				LOGGER.warn("Uploader was not terminated");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			closed.countDown();
+		}
+	}
+
+	/**
+	 * A connected test process. Its operations are replayed with own ID translation into the shared launch.
+	 */
+	private class Connection implements ReportingSink {
+		private final ReportingEventReplayer replayer = new ReportingEventReplayer(this);
+		private boolean joined;
+		private boolean left;
+
+		private void replay(@Nonnull ReportingEvent event) {
+			try {
+				replayer.replay(event);
+			} catch (RuntimeException e) {
+				LOGGER.error("Unable to upload reporting event: {}", event, e);
+			}
+		}
+
+		private void disconnect() {
+			if (joined && !left) {
+				LOGGER.warn("Test process disconnected without launch finish");
+				FinishExecutionRQ rq = new FinishExecutionRQ();
+				rq.setEndTime(Instant.now());
+				finishLaunch(rq);
+			}
+		}
+
+		@Nonnull
+		private ReportingSink getLaunchSink() {
+			if (!joined || launchSink == null) {
+				throw new IllegalStateException("Launch is not started yet");
+			}
+			return launchSink;
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+			if (joined) {
+				throw new IllegalStateException("Launch is already started by the connection");
+			}
+			joined = true;
+			return join(rq);
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+			return getLaunchSink().startTestItem(parentId, rq);
+		}
+
+		@Override
+		public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+			getLaunchSink().finishTestItem(itemId, rq);
+		}
+
+		@Override
+		public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+			getLaunchSink().log(itemId, message, level, time);
+		}
+
+		@Override
+		public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+				@Nonnull String level, @Nonnull Instant time) {
+			getLaunchSink().attach(itemId, message, mimeType, data, level, time);
+		}
+
+		@Override
+		public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+			if (!joined || left) {
+				return;
+			}
+			left = true;
+			leave(rq);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		ReporterParameters parameters = new ReporterParameters(PropertiesLoader.load());
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : parameters.getUploaderPort();
+		ReportPortal reportPortal = ReportPortal.builder().build();
+		UploaderDaemon daemon = new UploaderDaemon(
+				() -> new LaunchReportingSink(reportPortal),
+				port,
+				parameters.getUploaderLinger(),
+				parameters.getUploaderQueue()
+		);
+		Runtime.getRuntime().addShutdownHook(new Thread(daemon::close, "rp-uploader-shutdown"));
+		daemon.start();
+		LOGGER.info("Uploader is listening on port: {}", daemon.getPort());
+		daemon.awaitClose();
+	}
+}
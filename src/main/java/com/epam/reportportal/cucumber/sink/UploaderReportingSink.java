@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.sink;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * Sink which streams every reporting operation over a loopback socket to a local {@link UploaderDaemon}, which owns the only
+ * connection to ReportPortal and uploads operations of all test processes into one launch. Operations are buffered and flushed on
+ * every item and launch finish.
+ */
+public class UploaderReportingSink extends EventReportingSink implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(UploaderReportingSink.class);
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Socket socket;
+	private final DataOutputStream output;
+	private boolean closed;
+
+	/**
+	 * @param port loopback port of the uploader daemon
+	 * @throws IOException if the daemon is not reachable
+	 */
+	public UploaderReportingSink(int port) throws IOException {
+		socket = new Socket(InetAddress.getLoopbackAddress(), port);
+		socket.setTcpNoDelay(true);
+		output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+	}
+
+	@Override
+	protected synchronized void write(@Nonnull ReportingEvent event) {
+		if (closed) {
+			LOGGER.debug("Connection to the uploader is closed, the event is skipped: {}", event);
+			return;
+		}
+		try {
+			ReportingEventCodec.write(output, event);
+			if (event.getType() == ReportingEvent.Type.FINISH_ITEM || event.getType() == ReportingEvent.Type.FINISH_LAUNCH) {
+				output.flush();
+			}
+		} catch (IOException e) {
+			LOGGER.error("Unable to send reporting event to the uploader, the rest of the launch is not reported", e);
+			closeQuietly();
+		}
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		super.finishLaunch(rq);
+		closeQuietly();
+	}
+
+	private void closeQuietly() {
+		try {
+			close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close connection to the uploader", e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			output.flush();
+		} finally {
+			socket.close();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.summary;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scenario failures with the same fingerprint: the same error type, the same message except numbers and the same code location.
+ */
+public class FailureSummary {
+	public static final int MAX_SCENARIOS = 20;
+
+	private final String fingerprint;
+	private final String type;
+	private final String message;
+	private final String location;
+	private final LongAdder count = new LongAdder();
+	private final Set<String> scenarios = ConcurrentHashMap.newKeySet();
+
+	public FailureSummary(@Nonnull String fingerprint, @Nonnull String type, @Nullable String message, @Nullable String location) {
+		this.fingerprint = fingerprint;
+		this.type = type;
+		this.message = message;
+		this.location = location;
+	}
+
+	@Nonnull
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * @return error class name
+	 */
+	@Nonnull
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * @return the first line of the message of the first failure
+	 */
+	@Nullable
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * @return the first stack frame of the error outside JDK and assertion libraries
+	 */
+	@Nullable
+	public String getLocation() {
+		return location;
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return up to {@link #MAX_SCENARIOS} failed scenarios, as <code>path:line</code>
+	 */
+	@Nonnull
+	public Set<String> getScenarios() {
+		return scenarios;
+	}
+
+	void record(@Nonnull String scenario) {
+		count.increment();
+		if (scenarios.size() < MAX_SCENARIOS) {
+			scenarios.add(scenario);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.summary;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scenario results and total scenario duration of a feature file.
+ */
+public class FeatureSummary {
+	private final String path;
+	private final StatusCounters scenarios = new StatusCounters();
+	private final LongAdder durationNanos = new LongAdder();
+
+	public FeatureSummary(@Nonnull String path) {
+		this.path = path;
+	}
+
+	@Nonnull
+	public String getPath() {
+		return path;
+	}
+
+	@Nonnull
+	public StatusCounters getScenarios() {
+		return scenarios;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos.sum();
+	}
+
+	void addDuration(long nanos) {
+		durationNanos.add(nanos);
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.summary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.cucumber.plugin.event.Status;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Results of the run, collected as it goes with lock-free counters and written into a local JSON file at the end of the run, so CI
+ * can gate a build on it without querying ReportPortal. The file is written into a temporary file and moved into place atomically:
+ * <pre>
+ * {"successful": false, "startTime": "...", "endTime": "...", "durationNanos": 1500000000,
+ *   "scenarios": {"total": 2, "passed": 1, "failed": 1, ...}, "steps": {"total": 4, ...},
+ *   "features": [{"path": "features/a.feature", "durationNanos": 1400000000, "scenarios": {...}}],
+ *   "failures": [{"fingerprint": "...", "type": "...", "message": "...", "location": "...", "count": 1,
+ *     "scenarios": ["features/a.feature:3"]}], "otherFailures": 0}
+ * </pre>
+ * The run is successful if every scenario is passed or skipped.
+ */
+public class RunSummary {
+	public static final int MAX_FAILURES = 256;
+	private static final int MAX_MESSAGE_LENGTH = 1024;
+	private static final String TEMP_EXTENSION = ".tmp";
+	private static final Pattern NUMBER = Pattern.compile("\\d+");
+	private static final List<String> FRAMEWORK_PACKAGES = Arrays.asList("java.",
+			"jdk.",
+			"sun.",
+			"org.junit.",
+			"org.opentest4j.",
+			"org.hamcrest.",
+			"org.testng.",
+			"org.assertj."
+	);
+	private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private final StatusCounters scenarios = new StatusCounters();
+	private final StatusCounters steps = new StatusCounters();
+	private final Map<String, FeatureSummary> features = new ConcurrentHashMap<>();
+	private final Map<String, FailureSummary> failures = new ConcurrentHashMap<>();
+	private final LongAdder otherFailures = new LongAdder();
+	private volatile Instant startTime = Instant.now();
+
+	/**
+	 * @param startTime run start time
+	 */
+	public void start(@Nonnull Instant startTime) {
+		this.startTime = startTime;
+	}
+
+	/**
+	 * Record a finished step.
+	 *
+	 * @param status step status
+	 */
+	public void recordStep(@Nonnull Status status) {
+		steps.record(status);
+	}
+
+	/**
+	 * Record a finished scenario.
+	 *
+	 * @param path   feature file path
+	 * @param line   scenario line
+	 * @param status scenario status
+	 * @param nanos  scenario duration
+	 * @param error  scenario error, if any
+	 */
+	public void recordScenario(@Nonnull String path, int line, @Nonnull Status status, long nanos, @Nullable Throwable error) {
+		scenarios.record(status);
+		FeatureSummary feature = features.computeIfAbsent(path, FeatureSummary::new);
+		feature.getScenarios().record(status);
+		feature.addDuration(nanos);
+		if (error != null && status == Status.FAILED) {
+			recordFailure(path + ":" + line, error);
+		}
+	}
+
+	private void recordFailure(@Nonnull String scenario, @Nonnull Throwable error) {
+		String message = ofFirstLine(error.getMessage());
+		String location = getLocation(error);
+		String type = error.getClass().getName();
+		String fingerprint = fingerprint(type, message, location);
+		FailureSummary failure = failures.get(fingerprint);
+		if (failure == null) {
+			if (failures.size() >= MAX_FAILURES) {
+				otherFailures.increment();
+				return;
+			}
+			failure = failures.computeIfAbsent(fingerprint, f -> new FailureSummary(f, type, message, location));
+		}
+		failure.record(scenario);
+	}
+
+	@Nullable
+	private static String ofFirstLine(@Nullable String message) {
+		if (message == null) {
+			return null;
+		}
+		int end = message.indexOf('\n');
+		String line = (end < 0 ? message : message.substring(0, end)).trim();
+		return line.length() > MAX_MESSAGE_LENGTH ? line.substring(0, MAX_MESSAGE_LENGTH) : line;
+	}
+
+	@Nullable
+	private static String getLocation(@Nonnull Throwable error) {
+		StackTraceElement[] stackTrace = error.getStackTrace();
+		if (stackTrace.length == 0) {
+			return null;
+		}
+		StackTraceElement frame = Arrays.stream(stackTrace)
+				.filter(e -> FRAMEWORK_PACKAGES.stream().noneMatch(p -> e.getClassName().startsWith(p)))
+				.findFirst()
+				.orElse(stackTrace[0]);
+		return frame.getClassName() + "." + frame.getMethodName();
+	}
+
+	@Nonnull
+	private static String fingerprint(@Nonnull String type, @Nullable String message, @Nullable String location) {
+		// numbers are excluded from the message, since they are usually timestamps, IDs or measured values
+		String key = type + '\n' + (message == null ? "" : NUMBER.matcher(message).replaceAll("#")) + '\n' + location;
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder result = new StringBuilder();
+			for (int i = 0; i < 8; i++) {
+				result.append(String.format("%02x", hash[i]));
+			}
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Nonnull
+	public StatusCounters getScenarios() {
+		return scenarios;
+	}
+
+	@Nonnull
+	public StatusCounters getSteps() {
+		return steps;
+	}
+
+	@Nonnull
+	public Collection<FeatureSummary> getFeatures() {
+		return Collections.unmodifiableCollection(features.values());
+	}
+
+	/**
+	 * @return failures ordered by the number of failed scenarios
+	 */
+	@Nonnull
+	public List<FailureSummary> getFailures() {
+		List<FailureSummary> result = new ArrayList<>(failures.values());
+		result.sort(Comparator.comparingLong(FailureSummary::getCount).reversed().thenComparing(FailureSummary::getFingerprint));
+		return result;
+	}
+
+	/**
+	 * @return number of failures which are not grouped, because there were more than {@link #MAX_FAILURES} fingerprints
+	 */
+	public long getOtherFailures() {
+		return otherFailures.sum();
+	}
+
+	/**
+	 * @return true if every scenario is passed or skipped
+	 */
+	public boolean isSuccessful() {
+		return scenarios.getTotal() == scenarios.get(Status.PASSED) + scenarios.get(Status.SKIPPED);
+	}
+
+	@Nonnull
+	private static ObjectNode toJson(@Nonnull StatusCounters counters) {
+		ObjectNode node = MAPPER.createObjectNode();
+		node.put("total", counters.getTotal());
+		for (Status status : Status.values()) {
+			node.put(status.name().toLowerCase(Locale.ROOT), counters.get(status));
+		}
+		return node;
+	}
+
+	/**
+	 * Write the summary into a file atomically.
+	 *
+	 * @param file    target file
+	 * @param endTime run end time
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(@Nonnull Path file, @Nonnull Instant endTime) throws IOException {
+		ObjectNode root = MAPPER.createObjectNode();
+		root.put("successful", isSuccessful());
+		root.put("startTime", startTime.toString());
+		root.put("endTime", endTime.toString());
+		root.put("durationNanos", Duration.between(startTime, endTime).toNanos());
+		root.set("scenarios", toJson(scenarios));
+		root.set("steps", toJson(steps));
+		ArrayNode featureNodes = root.putArray("features");
+		features.values().stream().sorted(Comparator.comparing(FeatureSummary::getPath)).forEach(f -> {
+			ObjectNode featureNode = featureNodes.addObject();
+			featureNode.put("path", f.getPath());
+			featureNode.put("durationNanos", f.getDurationNanos());
+			featureNode.set("scenarios", toJson(f.getScenarios()));
+		});
+		ArrayNode failureNodes = root.putArray("failures");
+		getFailures().forEach(f -> {
+			ObjectNode failureNode = failureNodes.addObject();
+			failureNode.put("fingerprint", f.getFingerprint());
+			failureNode.put("type", f.getType());
+			failureNode.put("message", f.getMessage());
+			failureNode.put("location", f.getLocation());
+			failureNode.put("count", f.getCount());
+			ArrayNode scenarioNodes = failureNode.putArray("scenarios");
+			new TreeSet<>(f.getScenarios()).forEach(scenarioNodes::add);
+		});
+		root.put("otherFailures", getOtherFailures());
+
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temp = file.resolveSibling(file.getFileName() + TEMP_EXTENSION);
+		MAPPER.writeValue(temp.toFile(), root);
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.summary;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.epam.reportportal.cucumber.Utils.getRelativePath;
+
+/**
+ * Collects a {@link RunSummary} of scenarios and steps and writes it into the summary file once the launch is finished.
+ */
+public class RunSummaryCollector implements ReporterListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RunSummaryCollector.class);
+
+	private final RunSummary summary = new RunSummary();
+	private final Path file;
+
+	/**
+	 * @param file run summary file
+	 */
+	public RunSummaryCollector(@Nonnull Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * @return results of the run
+	 */
+	@Nonnull
+	public RunSummary getSummary() {
+		return summary;
+	}
+
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestRunStarted.class, event -> summary.start(event.getInstant()));
+		publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+	}
+
+	private void handleTestStepFinished(@Nonnull TestStepFinished event) {
+		if (event.getTestStep() instanceof PickleStepTestStep) {
+			summary.recordStep(event.getResult().getStatus());
+		}
+	}
+
+	private void handleTestCaseFinished(@Nonnull TestCaseFinished event) {
+		TestCase testCase = event.getTestCase();
+		Result result = event.getResult();
+		summary.recordScenario(
+				getRelativePath(testCase.getUri()),
+				testCase.getLocation().getLine(),
+				result.getStatus(),
+				result.getDuration().toNanos(),
+				result.getError()
+		);
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		try {
+			summary.write(file, launch.getEndTime());
+		} catch (IOException e) {
+			LOGGER.error("Unable to write run summary: {}", file, e);
+		}
+	}
+}
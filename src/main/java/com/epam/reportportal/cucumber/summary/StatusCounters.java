@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.summary;
+
+import io.cucumber.plugin.event.Status;
+import jakarta.annotation.Nonnull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of results by Cucumber status.
+ */
+public class StatusCounters {
+	private final Map<Status, LongAdder> counters;
+
+	public StatusCounters() {
+		// the map is filled once and only read after that, so it is safe for concurrent use
+		Map<Status, LongAdder> map = new EnumMap<>(Status.class);
+		for (Status status : Status.values()) {
+			map.put(status, new LongAdder());
+		}
+		counters = Collections.unmodifiableMap(map);
+	}
+
+	public void record(@Nonnull Status status) {
+		counters.get(status).increment();
+	}
+
+	public long get(@Nonnull Status status) {
+		return counters.get(status).sum();
+	}
+
+	public long getTotal() {
+		return counters.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.trace;
+
+import com.epam.reportportal.cucumber.ReporterListener;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Translates Cucumber events into scenario, step and hook spans of a {@link TraceEventWriter}. Cucumber sends all events of a Test
+ * Case on the thread which executes it, so the current thread is the track of a span, while span times are taken from the events.
+ * Once the launch is finished, the trace file is completed and optionally attached to the launch.
+ */
+public class TraceEventRecorder implements ReporterListener, Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(TraceEventRecorder.class);
+	private static final String TRACE_LOG_MESSAGE = "Execution timeline (Chrome / Perfetto trace events)";
+
+	public static final String SCENARIO = "scenario";
+	public static final String STEP = "step";
+	public static final String HOOK = "hook";
+
+	private final TraceEventWriter writer;
+	private final boolean attach;
+	private final int attachLimit;
+
+	/**
+	 * @param file        trace file
+	 * @param attach      whether to attach the compressed trace to the launch
+	 * @param attachLimit maximum size of the compressed trace to attach, bytes
+	 * @throws IOException if the file cannot be created
+	 */
+	public TraceEventRecorder(@Nonnull Path file, boolean attach, int attachLimit) throws IOException {
+		writer = new TraceEventWriter(file);
+		this.attach = attach;
+		this.attachLimit = attachLimit;
+	}
+
+	@Nonnull
+	public Path getFile() {
+		return writer.getFile();
+	}
+
+	/**
+	 * Register handlers of Test Case and Test Step events.
+	 *
+	 * @param publisher Cucumber event publisher
+	 */
+	@Override
+	public void register(@Nonnull EventPublisher publisher) {
+		publisher.registerHandlerFor(TestCaseStarted.class, this::handleTestCaseStarted);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+		publisher.registerHandlerFor(TestStepStarted.class, this::handleTestStepStarted);
+		publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+	}
+
+	@Nonnull
+	private static String getLocation(@Nonnull URI uri, int line) {
+		return uri + ":" + line;
+	}
+
+	@Nonnull
+	private static String getName(@Nonnull TestStep step) {
+		if (step instanceof PickleStepTestStep) {
+			Step pickleStep = ((PickleStepTestStep) step).getStep();
+			return pickleStep.getKeyword() + pickleStep.getText();
+		}
+		if (step instanceof HookTestStep) {
+			return ((HookTestStep) step).getHookType().name() + " " + step.getCodeLocation();
+		}
+		return step.getCodeLocation();
+	}
+
+	@Nonnull
+	private static String getCategory(@Nonnull TestStep step) {
+		return step instanceof HookTestStep ? HOOK : STEP;
+	}
+
+	private void handleTestCaseStarted(@Nonnull TestCaseStarted event) {
+		TestCase testCase = event.getTestCase();
+		String location = getLocation(testCase.getUri(), testCase.getLocation().getLine());
+		writer.begin(Thread.currentThread(), SCENARIO, testCase.getName(), event.getInstant(), location);
+	}
+
+	private void handleTestCaseFinished(@Nonnull TestCaseFinished event) {
+		Status status = event.getResult().getStatus();
+		writer.end(Thread.currentThread(), SCENARIO, event.getTestCase().getName(), event.getInstant(), status.name());
+	}
+
+	private void handleTestStepStarted(@Nonnull TestStepStarted event) {
+		TestStep step = event.getTestStep();
+		TestCase testCase = event.getTestCase();
+		int line = step instanceof PickleStepTestStep ? ((PickleStepTestStep) step).getStep().getLine() : testCase.getLocation().getLine();
+		writer.begin(Thread.currentThread(), getCategory(step), getName(step), event.getInstant(), getLocation(testCase.getUri(), line));
+	}
+
+	private void handleTestStepFinished(@Nonnull TestStepFinished event) {
+		TestStep step = event.getTestStep();
+		String status = event.getResult().getStatus().name();
+		writer.end(Thread.currentThread(), getCategory(step), getName(step), event.getInstant(), status);
+	}
+
+	@Override
+	public void finishLaunch(@Nonnull LaunchFinish launch) {
+		Path traceFile = getFile();
+		try {
+			close();
+		} catch (IOException e) {
+			LOGGER.error("Unable to complete trace file: {}", traceFile, e);
+			return;
+		}
+		if (!attach) {
+			return;
+		}
+		try {
+			byte[] trace = TraceEventWriter.compress(traceFile, attachLimit);
+			if (trace == null) {
+				String message = "Compressed trace exceeds {} bytes, skipping attachment, the trace is kept in file: {}";
+				LOGGER.warn(message, attachLimit, traceFile);
+				return;
+			}
+			launch.sendAttachment(TRACE_LOG_MESSAGE, TraceEventWriter.COMPRESSED_MIME_TYPE, trace);
+		} catch (IOException e) {
+			LOGGER.error("Unable to read trace file: {}", traceFile, e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber.trace;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams Chrome / Perfetto trace events in JSON Array Format: duration events on one track per thread, named after the thread.
+ * Events are written through a fixed size buffer, so memory usage does not depend on the run length. The format allows a missing
+ * closing bracket, so a trace of an interrupted run is still readable.
+ */
+public class TraceEventWriter implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(TraceEventWriter.class);
+
+	public static final String MIME_TYPE = "application/json";
+	public static final String COMPRESSED_MIME_TYPE = "application/gzip";
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int PROCESS_ID = 1;
+	private static final String BEGIN = "B";
+	private static final String END = "E";
+	private static final String METADATA = "M";
+	private static final String THREAD_NAME = "thread_name";
+
+	private final Path file;
+	private final JsonGenerator generator;
+	private final Set<Long> threads = new HashSet<>();
+	private boolean closed;
+
+	public TraceEventWriter(@Nonnull Path file) throws IOException {
+		this.file = file;
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		generator = new JsonFactory().createGenerator(
+				new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE),
+				JsonEncoding.UTF8
+		);
+		generator.writeStartArray();
+	}
+
+	@Nonnull
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Writes a span start on the track of the given thread.
+	 *
+	 * @param thread   thread which executes the span
+	 * @param category span category, e.g. scenario
+	 * @param name     span name
+	 * @param time     span start time
+	 * @param location feature file location of the span
+	 */
+	public synchronized void begin(@Nonnull Thread thread, @Nonnull String category, @Nonnull String name, @Nonnull Instant time,
+			@Nullable String location) {
+		write(BEGIN, thread, category, name, time, "location", location);
+	}
+
+	/**
+	 * Writes a span end on the track of the given thread.
+	 *
+	 * @param thread   thread which executes the span
+	 * @param category span category, e.g. scenario
+	 * @param name     span name
+	 * @param time     span end time
+	 * @param status   span result status
+	 */
+	public synchronized void end(@Nonnull Thread thread, @Nonnull String category, @Nonnull String name, @Nonnull Instant time,
+			@Nullable String status) {
+		write(END, thread, category, name, time, "status", status);
+	}
+
+	private void write(@Nonnull String phase, @Nonnull Thread thread, @Nonnull String category, @Nonnull String name,
+			@Nonnull Instant time, @Nonnull String argName, @Nullable String argValue) {
+		if (closed) {
+			return;
+		}
+		try {
+			long threadId = thread.getId();
+			if (threads.add(threadId)) {
+				generator.writeStartObject();
+				generator.writeStringField("name", THREAD_NAME);
+				generator.writeStringField("ph", METADATA);
+				generator.writeNumberField("pid", PROCESS_ID);
+				generator.writeNumberField("tid", threadId);
+				generator.writeObjectFieldStart("args");
+				generator.writeStringField("name", thread.getName());
+				generator.writeEndObject();
+				generator.writeEndObject();
+			}
+			generator.writeStartObject();
+			generator.writeStringField("name", name);
+			generator.writeStringField("cat", category);
+			generator.writeStringField("ph", phase);
+			generator.writeNumberField("ts", time.getEpochSecond() * 1_000_000L + time.getNano() / 1_000);
+			generator.writeNumberField("pid", PROCESS_ID);
+			generator.writeNumberField("tid", threadId);
+			if (argValue != null) {
+				generator.writeObjectFieldStart("args");
+				generator.writeStringField(argName, argValue);
+				generator.writeEndObject();
+			}
+			generator.writeEndObject();
+		} catch (IOException e) {
+			LOGGER.error("Unable to write trace events: {}, tracing stopped", file, e);
+			closeQuietly();
+		}
+	}
+
+	private void closeQuietly() {
+		closed = true;
+		try {
+			generator.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close trace file: {}", file, e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		generator.writeEndArray();
+		generator.close();
+	}
+
+	/**
+	 * Compresses a trace file with gzip, which Chrome and Perfetto trace viewers open as is. The file is streamed through a fixed size
+	 * buffer and compression stops as soon as the result exceeds the limit.
+	 *
+	 * @param file  trace file
+	 * @param limit maximum compressed size in bytes
+	 * @return compressed trace, or null if it exceeds the limit
+	 * @throws IOException if the file can't be read
+	 */
+	@Nullable
+	public static byte[] compress(@Nonnull Path file, int limit) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (InputStream input = Files.newInputStream(file); GZIPOutputStream output = new GZIPOutputStream(result, BUFFER_SIZE)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = input.read(buffer)) >= 0) {
+				output.write(buffer, 0, read);
+				if (result.size() > limit) {
+					return null;
+				}
+			}
+		}
+		return result.size() > limit ? null : result.toByteArray();
+	}
+}
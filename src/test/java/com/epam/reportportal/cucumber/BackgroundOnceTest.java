@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.finishItemRequest;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BackgroundOnceTest {
+
+	@CucumberOptions(features = "src/test/resources/features/BackgroundOnce.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class BackgroundOnceScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final String BACKGROUND_STEP = AbstractReporter.BACKGROUND_PREFIX + "Given I have empty step";
+
+	private List<ReportingEvent> run(boolean backgroundOnce) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setBackgroundOnce(backgroundOnce);
+		return TestSinkScenarioReporter.run(reporterParameters, BackgroundOnceScenarioReporterTest.class);
+	}
+
+	private static List<ReportingEvent> items(List<ReportingEvent> events, String name) {
+		return events.stream()
+				.filter(e -> e.getType() == START_ITEM && name.equals(((StartTestItemRQ) e.getRequest()).getName()))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_background_is_reported_in_every_scenario_by_default() {
+		List<ReportingEvent> events = run(false);
+
+		assertThat(items(events, BACKGROUND_STEP), hasSize(3));
+		assertThat(items(events, "Background"), empty());
+	}
+
+	@Test
+	public void verify_background_is_reported_once_per_feature() {
+		List<ReportingEvent> events = run(true);
+
+		List<ReportingEvent> backgrounds = items(events, "Background");
+		assertThat(backgrounds, hasSize(1));
+		ReportingEvent background = backgrounds.get(0);
+		List<ReportingEvent> backgroundSteps = items(events, BACKGROUND_STEP);
+		assertThat(backgroundSteps, hasSize(1));
+		assertThat(backgroundSteps.get(0).getParentId(), equalTo(background.getItemId()));
+		assertThat(finishItemRequest(events, background.getItemId()), notNullValue());
+
+		List<ReportingEvent> referencing = events.stream()
+				.filter(e -> e.getType() == START_ITEM && ((StartTestItemRQ) e.getRequest()).getName().startsWith("Scenario: "))
+				.filter(e -> description(finishItemRequest(events, e.getItemId())).contains("Background: 1 passed step(s)"))
+				.collect(Collectors.toList());
+		assertThat(referencing, hasSize(2));
+	}
+
+	private static String description(FinishTestItemRQ rq) {
+		return rq.getDescription() == null ? "" : rq.getDescription();
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.sink.CircuitBreakerReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingSink;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+public class CircuitBreakerTest {
+
+	/**
+	 * Records operations in order, start requests of items with names from the failing set end with an error.
+	 */
+	private static class RecordingSink implements ReportingSink {
+		private final List<String> operations = Collections.synchronizedList(new ArrayList<>());
+		private final Map<Maybe<String>, String> names = Collections.synchronizedMap(new IdentityHashMap<>());
+		private final Set<String> failing;
+
+		private RecordingSink(String... failingItems) {
+			failing = new HashSet<>(Arrays.asList(failingItems));
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startLaunch(@Nonnull StartLaunchRQ rq) {
+			operations.add("start launch");
+			return Maybe.just("launch");
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+			operations.add("start " + rq.getName());
+			Maybe<String> id = failing.contains(rq.getName()) ?
+					Maybe.error(new IllegalStateException("Server error")) :
+					Maybe.just(UUID.randomUUID().toString());
+			names.put(id, rq.getName());
+			return id;
+		}
+
+		@Override
+		public void finishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+			operations.add("finish " + names.get(itemId));
+		}
+
+		@Override
+		public void log(@Nullable Maybe<String> itemId, @Nullable String message, @Nonnull String level, @Nonnull Instant time) {
+			operations.add("log " + message);
+		}
+
+		@Override
+		public void attach(@Nullable Maybe<String> itemId, @Nullable String message, @Nullable String mimeType, @Nonnull byte[] data,
+				@Nonnull String level, @Nonnull Instant time) {
+			operations.add("attach " + message);
+		}
+
+		@Override
+		public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+			operations.add("finish launch");
+		}
+	}
+
+	private static StartTestItemRQ item(String name) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setStartTime(Instant.now());
+		return rq;
+	}
+
+	@Test
+	public void verify_circuit_breaker_spools_operations_after_errors_and_replays_them_in_order(@TempDir Path tempDir) {
+		RecordingSink delegate = new RecordingSink("broken");
+		Path backlog = tempDir.resolve("backlog");
+		CircuitBreakerReportingSink sink = new CircuitBreakerReportingSink(
+				delegate,
+				backlog,
+				256,
+				Duration.ofMinutes(1),
+				1,
+				30,
+				10,
+				100,
+				Duration.ofHours(1)
+		);
+
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> root = sink.startTestItem(null, item("root"));
+		Maybe<String> broken = sink.startTestItem(root, item("broken"));
+		sink.finishTestItem(broken, new FinishTestItemRQ());
+		Maybe<String> next = sink.startTestItem(root, item("next"));
+		sink.log(null, "message", "INFO", Instant.now());
+		sink.finishTestItem(next, new FinishTestItemRQ());
+		sink.finishTestItem(root, new FinishTestItemRQ());
+
+		assertThat(sink.getState(), equalTo(CircuitBreakerReportingSink.State.OPEN));
+		assertThat(delegate.operations, contains("start launch", "start root", "start broken"));
+		assertThat(Files.exists(backlog), equalTo(true));
+
+		sink.finishLaunch(new FinishExecutionRQ());
+
+		assertThat(sink.getState(), equalTo(CircuitBreakerReportingSink.State.CLOSED));
+		assertThat(
+				delegate.operations,
+				contains(
+						"start launch",
+						"start root",
+						"start broken",
+						"finish broken",
+						"start next",
+						"log message",
+						"finish next",
+						"finish root",
+						"finish launch"
+				)
+		);
+		assertThat(Files.exists(backlog), equalTo(false));
+	}
+
+	@Test
+	public void verify_circuit_breaker_stays_closed_while_error_share_is_below_threshold(@TempDir Path tempDir) {
+		RecordingSink delegate = new RecordingSink("flaky");
+		Path backlog = tempDir.resolve("backlog");
+		CircuitBreakerReportingSink sink = new CircuitBreakerReportingSink(
+				delegate,
+				backlog,
+				256,
+				Duration.ofMinutes(1),
+				2,
+				50,
+				10,
+				100,
+				Duration.ofHours(1)
+		);
+
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> root = sink.startTestItem(null, item("root"));
+		for (int i = 0; i < 3; i++) {
+			sink.finishTestItem(sink.startTestItem(root, item("stable")), new FinishTestItemRQ());
+		}
+		Maybe<String> flaky = sink.startTestItem(root, item("flaky"));
+		sink.finishTestItem(flaky, new FinishTestItemRQ());
+		sink.finishTestItem(root, new FinishTestItemRQ());
+
+		assertThat(sink.getState(), equalTo(CircuitBreakerReportingSink.State.CLOSED));
+		assertThat(delegate.operations, hasItem("finish root"));
+		assertThat(Files.exists(backlog), equalTo(false));
+		sink.finishLaunch(new FinishExecutionRQ());
+	}
+}
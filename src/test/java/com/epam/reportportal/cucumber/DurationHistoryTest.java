@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.history.DurationHistory;
+import com.epam.reportportal.cucumber.history.RunDurations;
+import com.epam.reportportal.cucumber.history.Slowdown;
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.finishLaunchRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class DurationHistoryTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class HistoryScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final String SCENARIO = "features/Slow.feature:3";
+	private static final String STEP = "com.example.Steps.fast_step";
+
+	@TempDir
+	Path tempDir;
+
+	private static List<Slowdown> update(Path file, long scenarioNanos, long stepNanos) throws Exception {
+		try (DurationHistory history = new DurationHistory(file)) {
+			List<Slowdown> slowdowns = new ArrayList<>(history.update(DurationHistory.Kind.SCENARIO, Map.of(SCENARIO, scenarioNanos)));
+			slowdowns.addAll(history.update(DurationHistory.Kind.STEP, Map.of(STEP, stepNanos)));
+			return slowdowns;
+		}
+	}
+
+	@Test
+	public void verify_significant_slowdowns_are_detected() throws Exception {
+		Path file = tempDir.resolve("history").resolve("durations.bin");
+		for (int run = 0; run < DurationHistory.RING_SIZE + 4; run++) {
+			assertThat(update(file, 1_000_000_000L + run % 3 * 10_000_000L, 50_000L + run % 2 * 1_000L), empty());
+		}
+		long size = Files.size(file);
+
+		List<Slowdown> slowdowns = update(file, 2_000_000_000L, 500_000L);
+		assertThat(slowdowns, hasSize(1));
+		assertThat(slowdowns.get(0).getCodeRef(), equalTo(SCENARIO));
+		assertThat(slowdowns.get(0).getKind(), equalTo(DurationHistory.Kind.SCENARIO));
+		assertThat(slowdowns.get(0).getSamples(), equalTo(DurationHistory.RING_SIZE));
+		assertThat(slowdowns.get(0).getMeanNanos(), closeTo(1_010_000_000d, 10_000_000d));
+		assertThat(Files.size(file), equalTo(size));
+	}
+
+	@Test
+	public void verify_no_slowdowns_without_enough_history() throws Exception {
+		Path file = tempDir.resolve("durations.bin");
+		for (int run = 1; run < DurationHistory.MIN_SAMPLES; run++) {
+			update(file, 1_000_000_000L, 50_000L);
+		}
+		assertThat(update(file, 5_000_000_000L, 50_000L), empty());
+	}
+
+	@Test
+	public void verify_history_file_is_written_at_the_end_of_the_run() {
+		Path file = tempDir.resolve("durations.bin");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setHistoryFile(file);
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(reporterParameters, HistoryScenarioReporterTest.class);
+
+		assertThat(Files.exists(file), equalTo(true));
+		assertThat(finishLaunchRequest(events).getAttributes(), nullValue());
+	}
+
+	@Test
+	public void verify_scenario_and_step_histories_do_not_mix() throws Exception {
+		Path file = tempDir.resolve("durations.bin");
+		for (int run = 0; run < DurationHistory.MIN_SAMPLES; run++) {
+			try (DurationHistory history = new DurationHistory(file)) {
+				history.update(DurationHistory.Kind.SCENARIO, Map.of(SCENARIO, 50_000L));
+			}
+		}
+		try (DurationHistory history = new DurationHistory(file)) {
+			assertThat(history.update(DurationHistory.Kind.STEP, Map.of(SCENARIO, 2_000_000_000L)), empty());
+			assertThat(history.update(DurationHistory.Kind.SCENARIO, Map.of(SCENARIO, 2_000_000_000L)), hasSize(1));
+		}
+	}
+
+	@Test
+	public void verify_run_durations_keep_mean_of_executions_per_kind() {
+		RunDurations durations = new RunDurations();
+		durations.recordScenario(SCENARIO, 100L);
+		durations.recordScenario(SCENARIO, 300L);
+		durations.recordStep("Steps.fast_step()", () -> STEP, 10L);
+		durations.recordStep("Steps.fast_step()", () -> {
+			throw new AssertionError("Code reference is resolved twice");
+		}, 30L);
+
+		assertThat(durations.getMeans(DurationHistory.Kind.SCENARIO), equalTo(Map.of(SCENARIO, 200L)));
+		assertThat(durations.getMeans(DurationHistory.Kind.STEP), equalTo(Map.of(STEP, 20L)));
+	}
+}
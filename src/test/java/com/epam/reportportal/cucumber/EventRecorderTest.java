@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.replay.EventReplay;
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.extractEvents;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.LOG;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class EventRecorderTest {
+	@CucumberOptions(features = "src/test/resources/features/embedding/ImageEmbeddingFeature.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.embed.image" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class RecordingScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private List<ReportingEvent> record(Path recording, boolean redact) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setRecorderFile(recording);
+		reporterParameters.setRecorderRedact(redact);
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(reporterParameters, RecordingScenarioReporterTest.class);
+		assertThat(Files.exists(recording), equalTo(true));
+		return events;
+	}
+
+	private static List<ReportingEvent> replay(Path recording, boolean originalSpeed) throws Exception {
+		MemoryReportingSink replaySink = new MemoryReportingSink();
+		EventReplay replay = TestSinkScenarioReporter.call(mock(ReportPortalClient.class), replaySink, null, () -> {
+			EventReplay r = new EventReplay(new TestSinkScenarioReporter());
+			r.replay(recording, originalSpeed);
+			return r;
+		});
+		assertThat(replay.getStatistics(), containsString("TestStepFinished"));
+		return replaySink.getEvents();
+	}
+
+	@Test
+	public void verify_recorded_events_are_replayed_the_same_way_as_live_run(@TempDir Path tempDir) throws Exception {
+		Path recording = tempDir.resolve("events.rpr");
+		List<ReportingEvent> live = record(recording, false);
+
+		for (boolean originalSpeed : new boolean[] { false, true }) {
+			List<ReportingEvent> replayed = replay(recording, originalSpeed);
+			assertThat(
+					replayed.stream().map(ReportingEvent::getType).collect(Collectors.toList()),
+					equalTo(live.stream().map(ReportingEvent::getType).collect(Collectors.toList()))
+			);
+			Function<ReportingEvent, String> itemName = e -> ((StartTestItemRQ) e.getRequest()).getName();
+			Function<ReportingEvent, String> itemType = e -> ((StartTestItemRQ) e.getRequest()).getType();
+			assertThat(extractEvents(replayed, START_ITEM, itemName), equalTo(extractEvents(live, START_ITEM, itemName)));
+			assertThat(extractEvents(replayed, START_ITEM, itemType), equalTo(extractEvents(live, START_ITEM, itemType)));
+
+			List<SaveLogRQ> liveLogs = extractEvents(live, LOG, e -> (SaveLogRQ) e.getRequest());
+			List<SaveLogRQ> replayedLogs = extractEvents(replayed, LOG, e -> (SaveLogRQ) e.getRequest());
+			assertThat(replayedLogs, hasSize(liveLogs.size()));
+			for (int i = 0; i < liveLogs.size(); i++) {
+				assertThat(replayedLogs.get(i).getMessage(), equalTo(liveLogs.get(i).getMessage()));
+				if (liveLogs.get(i).getFile() != null) {
+					assertThat(replayedLogs.get(i).getFile().getContent(), equalTo(liveLogs.get(i).getFile().getContent()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void verify_redacted_recording_keeps_structure_but_not_content(@TempDir Path tempDir) throws Exception {
+		Path recording = tempDir.resolve("events.rpr");
+		List<ReportingEvent> live = record(recording, true);
+
+		List<ReportingEvent> replayed = replay(recording, false);
+		assertThat(
+				replayed.stream().map(ReportingEvent::getType).collect(Collectors.toList()),
+				equalTo(live.stream().map(ReportingEvent::getType).collect(Collectors.toList()))
+		);
+		List<String> names = extractEvents(replayed, START_ITEM, e -> ((StartTestItemRQ) e.getRequest()).getName());
+		assertThat(names, everyItem(not(containsString("mime"))));
+
+		List<SaveLogRQ> liveLogs = extractEvents(live, LOG, e -> (SaveLogRQ) e.getRequest());
+		List<SaveLogRQ> replayedLogs = extractEvents(replayed, LOG, e -> (SaveLogRQ) e.getRequest());
+		assertThat(replayedLogs, hasSize(liveLogs.size()));
+		for (int i = 0; i < liveLogs.size(); i++) {
+			if (liveLogs.get(i).getFile() != null) {
+				byte[] content = replayedLogs.get(i).getFile().getContent();
+				assertThat(content.length, equalTo(liveLogs.get(i).getFile().getContent().length));
+				for (byte b : content) {
+					assertThat(b, equalTo((byte) 0));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void verify_replay_returns_exit_codes_instead_of_exiting(@TempDir Path tempDir) {
+		assertThat(EventReplay.run(), equalTo(EventReplay.EXIT_USAGE));
+		assertThat(EventReplay.run("--original-speed"), equalTo(EventReplay.EXIT_USAGE));
+		assertThat(
+				EventReplay.run(tempDir.resolve("missing.rpr").toString(), TestSinkScenarioReporter.class.getName()),
+				equalTo(EventReplay.EXIT_FAILURE)
+		);
+	}
+}
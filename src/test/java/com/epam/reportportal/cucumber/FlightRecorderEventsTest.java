@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.jfr.*;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FlightRecorderEventsTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class FlightRecorderScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void verify_reporter_operations_are_recorded_as_flight_recorder_events() throws Exception {
+		Path file = tempDir.resolve("reporter.jfr");
+		try (Recording recording = new Recording()) {
+			List.of(FeatureEvent.class, ScenarioEvent.class, StepEvent.class, ReflectionLookupEvent.class, LaunchFinishEvent.class)
+					.forEach(recording::enable);
+			recording.start();
+			TestSinkScenarioReporter.run(null, FlightRecorderScenarioReporterTest.class);
+			recording.stop();
+			recording.dump(file);
+		}
+
+		Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file)
+				.stream()
+				.filter(e -> e.getEventType().getName().startsWith("com.epam.reportportal.cucumber."))
+				.collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+		List<RecordedEvent> scenarios = events.get("com.epam.reportportal.cucumber.Scenario");
+		assertThat(scenarios, hasSize(2));
+		assertThat(scenarios.stream().map(e -> e.getString("phase")).collect(Collectors.toSet()), containsInAnyOrder("START", "FINISH"));
+		scenarios.forEach(e -> {
+			assertThat(e.getString("featureUri"), endsWith("DummyScenario.feature"));
+			assertThat(e.getInt("line"), greaterThan(0));
+		});
+		assertThat(events.get("com.epam.reportportal.cucumber.Feature"), hasSize(2));
+		assertThat(events.get("com.epam.reportportal.cucumber.Step"), hasSize(4));
+		assertThat(events.get("com.epam.reportportal.cucumber.LaunchFinish"), hasSize(1));
+		List<RecordedEvent> lookups = events.get("com.epam.reportportal.cucumber.ReflectionLookup");
+		assertThat(lookups, not(empty()));
+		assertThat(lookups.stream().map(e -> e.getString("lookup")).collect(Collectors.toSet()), hasItem(ReflectionLookupEvent.CODE_REF));
+	}
+
+	@Test
+	public void verify_events_are_not_created_without_recording() {
+		assertThat(StepEvent.start(), nullValue());
+		assertThat(LogEvent.start(), nullValue());
+		ItemEvent.complete(StepEvent.start(), ItemEvent.START, null, 0);
+
+		try (Recording recording = new Recording()) {
+			recording.enable(StepEvent.class);
+			recording.start();
+			assertThat(StepEvent.start(), notNullValue());
+			assertThat(LogEvent.start(), nullValue());
+		}
+	}
+}
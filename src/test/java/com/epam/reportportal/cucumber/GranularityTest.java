@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.finishItemRequest;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.logRequests;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.startItemRequests;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class GranularityTest {
+
+	@CucumberOptions(features = { "src/test/resources/features/DummyScenario.feature",
+			"src/test/resources/features/FailedScenario.feature" }, glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class GranularityScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private List<ReportingEvent> run(ReportingGranularity granularity, boolean summary) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setGranularity(granularity);
+		reporterParameters.setGranularitySummary(summary);
+		return TestSinkScenarioReporter.run(reporterParameters, GranularityScenarioReporterTest.class);
+	}
+
+	private static List<String> itemNames(List<ReportingEvent> events) {
+		return startItemRequests(events).stream().map(StartTestItemRQ::getName).collect(Collectors.toList());
+	}
+
+	private static ReportingEvent scenario(List<ReportingEvent> events, String featureFile) {
+		return events.stream()
+				.filter(e -> e.getType() == START_ITEM)
+				.filter(e -> "STEP".equals(((StartTestItemRQ) e.getRequest()).getType()))
+				.filter(e -> ((StartTestItemRQ) e.getRequest()).getCodeRef().contains(featureFile))
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Scenario is not reported: " + featureFile));
+	}
+
+	@Test
+	public void verify_full_granularity_reports_every_step() {
+		List<ReportingEvent> events = run(ReportingGranularity.FULL, false);
+
+		assertThat(itemNames(events), hasSize(8));
+		assertThat(itemNames(events), hasItems("Given I have empty step", "Then I have another empty step", "Given I have a failed step"));
+	}
+
+	@Test
+	public void verify_failures_detailed_granularity_reports_steps_of_failed_scenarios_only() {
+		List<ReportingEvent> events = run(ReportingGranularity.FAILURES_DETAILED, true);
+
+		List<String> names = itemNames(events);
+		assertThat(names, hasSize(6));
+		assertThat(names, hasItem("Given I have a failed step"));
+		assertThat(names, not(hasItem("Given I have empty step")));
+		assertThat(events.stream().filter(e -> e.getType() == START_ITEM).count(), equalTo(events.stream()
+				.filter(e -> e.getType() == FINISH_ITEM)
+				.count()));
+
+		ReportingEvent passed = scenario(events, "DummyScenario.feature");
+		String description = finishItemRequest(events, passed.getItemId()).getDescription();
+		assertThat(description, containsString("PASSED: Given I have empty step"));
+		assertThat(description, containsString("PASSED: Then I have another empty step"));
+
+		ReportingEvent failed = scenario(events, "FailedScenario.feature");
+		assertThat(finishItemRequest(events, failed.getItemId()).getStatus(), equalTo("FAILED"));
+		ReportingEvent failedStep = events.stream()
+				.filter(e -> e.getType() == START_ITEM && failed.getItemId().equals(e.getParentId()))
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Failed step is not reported"));
+		assertThat(logRequests(events, failedStep.getItemId()), not(empty()));
+	}
+
+	@Test
+	public void verify_scenario_only_granularity_reports_errors_on_scenario() {
+		List<ReportingEvent> events = run(ReportingGranularity.SCENARIO_ONLY, false);
+
+		assertThat(itemNames(events), hasSize(5));
+		ReportingEvent failed = scenario(events, "FailedScenario.feature");
+		assertThat(finishItemRequest(events, failed.getItemId()).getStatus(), equalTo("FAILED"));
+		List<SaveLogRQ> failedLogs = logRequests(events, failed.getItemId());
+		assertThat(failedLogs, not(empty()));
+		assertThat(failedLogs.stream().map(SaveLogRQ::getLevel).collect(Collectors.toList()), hasItem("ERROR"));
+		ReportingEvent passed = scenario(events, "DummyScenario.feature");
+		assertThat(finishItemRequest(events, passed.getItemId()).getDescription(), nullValue());
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterEvents;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.logMessages;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HookFoldingTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.hooks.folded" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class FoldedHooksScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private List<ReportingEvent> run(HookReportingPolicy policy) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setHookPolicy(policy);
+		return TestSinkScenarioReporter.run(reporterParameters, FoldedHooksScenarioReporterTest.class);
+	}
+
+	private static String name(ReportingEvent event) {
+		return ((StartTestItemRQ) event.getRequest()).getName();
+	}
+
+	@Test
+	public void verify_all_hooks_are_reported_by_default() {
+		List<ReportingEvent> events = run(HookReportingPolicy.ALL);
+
+		// root, feature, scenario, two steps, two before hooks, two before-step hooks, two after-step hooks and after hook
+		assertThat(filterEvents(events, START_ITEM), hasSize(12));
+	}
+
+	@Test
+	public void verify_folded_hooks_report_only_hooks_with_output() {
+		List<ReportingEvent> events = run(HookReportingPolicy.FOLDED);
+
+		List<ReportingEvent> items = filterEvents(events, START_ITEM);
+		List<String> names = items.stream().map(HookFoldingTest::name).collect(Collectors.toList());
+		assertThat(names, hasSize(6));
+		assertThat(names.stream().filter(n -> n.startsWith("Before hook")).count(), equalTo(1L));
+		assertThat(names, not(hasItem(startsWith("Before step"))));
+		assertThat(names, not(hasItem(startsWith("After step"))));
+		assertThat(names, not(hasItem(startsWith("After hook"))));
+
+		ReportingEvent beforeHook = items.stream()
+				.filter(e -> name(e).startsWith("Before hook"))
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Before hook is not reported"));
+		assertThat(logMessages(events, beforeHook.getItemId()), contains("Inside 'my_before_hook_with_output'"));
+
+		items.stream()
+				.filter(e -> name(e).equals("Given I have empty step") || name(e).equals("Then I have another empty step"))
+				.forEach(step -> assertThat(logMessages(events, step.getItemId()), contains("Inside 'my_before_step_hook'")));
+	}
+}
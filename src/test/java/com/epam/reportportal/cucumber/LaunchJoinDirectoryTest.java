@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class LaunchJoinDirectoryTest {
+
+	private static StepReporter reporter(Path joinDirectory) {
+		return new StepReporter() {
+			@Override
+			@Nonnull
+			protected ReporterParameters buildReporterParameters() {
+				ReporterParameters parameters = new ReporterParameters();
+				parameters.setJoinDirectory(joinDirectory);
+				return parameters;
+			}
+		};
+	}
+
+	@Test
+	public void verify_lock_and_sync_files_are_placed_into_join_directory(@TempDir Path tempDir) {
+		Path joinDirectory = tempDir.resolve("build").resolve("rp");
+		ListenerParameters defaults = new ListenerParameters(PropertiesLoader.load());
+
+		ListenerParameters parameters = reporter(joinDirectory).buildListenerParameters();
+
+		assertThat(Files.isDirectory(joinDirectory), equalTo(true));
+		assertThat(Paths.get(parameters.getLockFileName()), equalTo(joinDirectory.resolve(defaults.getLockFileName())));
+		assertThat(Paths.get(parameters.getSyncFileName()), equalTo(joinDirectory.resolve(defaults.getSyncFileName())));
+	}
+
+	@Test
+	public void verify_lock_and_sync_files_keep_default_location_without_join_directory() {
+		ListenerParameters defaults = new ListenerParameters(PropertiesLoader.load());
+
+		ListenerParameters parameters = reporter(null).buildListenerParameters();
+
+		assertThat(parameters.getLockFileName(), equalTo(defaults.getLockFileName()));
+		assertThat(parameters.getSyncFileName(), equalTo(defaults.getSyncFileName()));
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.messages.MessagesImporter;
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.extractEvents;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.LOG;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MessagesImportTest {
+	private static final Path MESSAGES_FILE = Paths.get("build", "messages", "ImageEmbeddingFeature.ndjson");
+
+	@CucumberOptions(features = "src/test/resources/features/embedding/ImageEmbeddingFeature.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.embed.image" }, plugin = { "pretty",
+			"message:build/messages/ImageEmbeddingFeature.ndjson", "com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class MessagesScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void initLaunch() throws IOException {
+		Files.deleteIfExists(MESSAGES_FILE);
+	}
+
+	@Test
+	public void verify_imported_messages_are_reported_the_same_way_as_live_run() throws Exception {
+		MemoryReportingSink liveSink = new MemoryReportingSink();
+		TestSinkScenarioReporter.run(client, liveSink, null, MessagesScenarioReporterTest.class);
+		assertThat(Files.exists(MESSAGES_FILE), equalTo(true));
+
+		MemoryReportingSink importSink = new MemoryReportingSink();
+		TestSinkScenarioReporter.call(client, importSink, null, () -> {
+			new MessagesImporter(new TestSinkScenarioReporter()).importMessages(MESSAGES_FILE);
+			return null;
+		});
+
+		List<ReportingEvent> live = liveSink.getEvents();
+		List<ReportingEvent> imported = importSink.getEvents();
+		assertThat(
+				imported.stream().map(ReportingEvent::getType).collect(Collectors.toList()),
+				equalTo(live.stream().map(ReportingEvent::getType).collect(Collectors.toList()))
+		);
+
+		Function<ReportingEvent, String> itemName = e -> ((StartTestItemRQ) e.getRequest()).getName();
+		Function<ReportingEvent, String> itemType = e -> ((StartTestItemRQ) e.getRequest()).getType();
+		Function<ReportingEvent, String> codeRef = e -> ((StartTestItemRQ) e.getRequest()).getCodeRef();
+		assertThat(extractEvents(imported, START_ITEM, itemName), equalTo(extractEvents(live, START_ITEM, itemName)));
+		assertThat(extractEvents(imported, START_ITEM, itemType), equalTo(extractEvents(live, START_ITEM, itemType)));
+		assertThat(extractEvents(imported, START_ITEM, codeRef), equalTo(extractEvents(live, START_ITEM, codeRef)));
+
+		List<SaveLogRQ> liveLogs = extractEvents(live, LOG, e -> (SaveLogRQ) e.getRequest());
+		List<SaveLogRQ> importedLogs = extractEvents(imported, LOG, e -> (SaveLogRQ) e.getRequest());
+		assertThat(importedLogs, hasSize(liveLogs.size()));
+		assertThat(importedLogs.stream().filter(l -> l.getFile() != null).count(), equalTo(3L));
+		for (int i = 0; i < liveLogs.size(); i++) {
+			SaveLogRQ liveLog = liveLogs.get(i);
+			SaveLogRQ importedLog = importedLogs.get(i);
+			assertThat(importedLog.getMessage(), equalTo(liveLog.getMessage()));
+			if (liveLog.getFile() != null) {
+				assertThat(importedLog.getFile().getContentType(), equalTo(liveLog.getFile().getContentType()));
+				assertThat(importedLog.getFile().getContent(), equalTo(liveLog.getFile().getContent()));
+			}
+		}
+		verify(client, never()).startLaunch(any());
+	}
+
+	@Test
+	public void verify_importer_returns_exit_codes_instead_of_exiting() {
+		assertThat(MessagesImporter.run(), equalTo(MessagesImporter.EXIT_USAGE));
+		assertThat(MessagesImporter.run(MESSAGES_FILE.toString()), equalTo(MessagesImporter.EXIT_FAILURE));
+	}
+}
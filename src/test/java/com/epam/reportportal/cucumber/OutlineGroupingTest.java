@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.testng.annotations.DataProvider;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterEvents;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.logMessages;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.FINISH_ITEM;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class OutlineGroupingTest {
+
+	@CucumberOptions(features = "src/test/resources/features/OutlineGrouping.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class OutlineGroupingScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/OutlineGroupingParallel.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class ParallelOutlineGroupingScenarioReporterTest extends AbstractTestNGCucumberTests {
+		@Override
+		@DataProvider(parallel = true)
+		public Object[][] scenarios() {
+			return super.scenarios();
+		}
+	}
+
+	private List<ReportingEvent> run(OutlineGrouping grouping) {
+		return run(grouping, OutlineGroupingScenarioReporterTest.class);
+	}
+
+	private List<ReportingEvent> run(OutlineGrouping grouping, Class<?> test) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setOutlineGrouping(grouping);
+		return TestSinkScenarioReporter.run(reporterParameters, test);
+	}
+
+	private static StartTestItemRQ request(ReportingEvent event) {
+		return (StartTestItemRQ) event.getRequest();
+	}
+
+	private static ReportingEvent group(List<ReportingEvent> events, String name) {
+		return filterEvents(events, START_ITEM).stream()
+				.filter(e -> "SUITE".equals(request(e).getType()) && name.equals(request(e).getName()))
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Item is not reported: " + name));
+	}
+
+	@Test
+	public void verify_every_example_is_reported_without_grouping() {
+		List<ReportingEvent> events = run(OutlineGrouping.NONE);
+
+		// root, feature, three scenarios and their steps
+		assertThat(filterEvents(events, START_ITEM), hasSize(8));
+	}
+
+	@Test
+	public void verify_passed_examples_are_summarized_on_outline_item() {
+		List<ReportingEvent> events = run(OutlineGrouping.OUTLINE);
+
+		// root, feature, outline, failed scenario and its step
+		List<ReportingEvent> items = filterEvents(events, START_ITEM);
+		assertThat(items, hasSize(5));
+		ReportingEvent outline = group(events, "Scenario Outline: Outline with a failed example");
+
+		ReportingEvent failed = items.stream()
+				.filter(e -> outline.getItemId().equals(e.getParentId()))
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Failed example is not reported"));
+		List<ParameterResource> parameters = request(failed).getParameters();
+		assertThat(parameters, hasSize(1));
+		assertThat(parameters.get(0).getKey(), equalTo("step"));
+		assertThat(parameters.get(0).getValue(), equalTo("I have a failed step"));
+
+		List<String> outlineLogs = logMessages(events, outline.getItemId());
+		assertThat(outlineLogs, hasSize(1));
+		assertThat(outlineLogs.get(0), startsWith("Passed examples: 2"));
+		assertThat(outlineLogs.get(0), containsString("I have empty step"));
+		assertThat(outlineLogs.get(0), not(containsString("I have a failed step")));
+	}
+
+	@Test
+	public void verify_passed_examples_are_summarized_on_examples_items() {
+		List<ReportingEvent> events = run(OutlineGrouping.EXAMPLES);
+
+		// root, feature, two Examples blocks, failed scenario and its step
+		assertThat(filterEvents(events, START_ITEM), hasSize(6));
+		ReportingEvent first = group(events, "Examples: First block");
+		ReportingEvent second = group(events, "Examples: Second block");
+		assertThat(logMessages(events, first.getItemId()), contains(startsWith("Passed examples: 1")));
+		assertThat(logMessages(events, second.getItemId()), contains(startsWith("Passed examples: 1")));
+		List<ReportingEvent> items = filterEvents(events, START_ITEM);
+		assertThat(items.stream().filter(e -> second.getItemId().equals(e.getParentId())).count(), equalTo(0L));
+	}
+
+	private static void verifyParallelGroup(List<ReportingEvent> events, String name, int passed, int failed) {
+		List<ReportingEvent> starts = filterEvents(events, START_ITEM).stream()
+				.filter(e -> name.equals(request(e).getName()))
+				.collect(Collectors.toList());
+		assertThat("Group is started once: " + name, starts, hasSize(1));
+		String groupId = starts.get(0).getItemId();
+
+		List<Integer> finishes = IntStream.range(0, events.size())
+				.filter(i -> events.get(i).getType() == FINISH_ITEM && groupId.equals(events.get(i).getItemId()))
+				.boxed()
+				.collect(Collectors.toList());
+		assertThat("Group is finished once: " + name, finishes, hasSize(1));
+
+		Set<String> rowIds = filterEvents(events, START_ITEM).stream()
+				.filter(e -> groupId.equals(e.getParentId()))
+				.map(ReportingEvent::getItemId)
+				.collect(Collectors.toSet());
+		assertThat(rowIds, hasSize(failed));
+		int lastRowFinish = IntStream.range(0, events.size())
+				.filter(i -> events.get(i).getType() == FINISH_ITEM && rowIds.contains(events.get(i).getItemId()))
+				.max()
+				.orElse(-1);
+		assertThat("Group is finished after its rows: " + name, finishes.get(0), greaterThan(lastRowFinish));
+
+		assertThat(logMessages(events, groupId), contains(startsWith("Passed examples: " + passed)));
+	}
+
+	@Test
+	public void verify_outline_groups_of_rows_run_in_parallel() {
+		List<ReportingEvent> events = run(OutlineGrouping.OUTLINE, ParallelOutlineGroupingScenarioReporterTest.class);
+
+		verifyParallelGroup(events, "Scenario Outline: First parallel outline", 6, 2);
+		verifyParallelGroup(events, "Scenario Outline: Second parallel outline", 5, 1);
+	}
+
+	@Test
+	public void verify_examples_groups_of_rows_run_in_parallel() {
+		List<ReportingEvent> events = run(OutlineGrouping.EXAMPLES, ParallelOutlineGroupingScenarioReporterTest.class);
+
+		verifyParallelGroup(events, "Examples: First parallel outline", 6, 2);
+		verifyParallelGroup(events, "Examples: First block", 2, 1);
+		verifyParallelGroup(events, "Examples: Second block", 3, 0);
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.PriorityReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class PriorityReportingSinkTest {
+	private static final int THRESHOLD = 1024;
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final MemoryReportingSink delegate = new MemoryReportingSink();
+
+	private static StartTestItemRQ startRq(String name) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setStartTime(Instant.now());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(Instant.now());
+		return rq;
+	}
+
+	private List<ReportingEvent.Type> getEventTypes() {
+		return delegate.getEvents().stream().map(ReportingEvent::getType).collect(Collectors.toList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_large_attachments_do_not_delay_item_lifecycle() throws InterruptedException {
+		CountDownLatch uploadStarted = new CountDownLatch(1);
+		CountDownLatch serverReady = new CountDownLatch(1);
+		when(client.log(any(List.class))).thenAnswer((Answer<Maybe<BatchSaveOperatingRS>>) invocation -> {
+			uploadStarted.countDown();
+			serverReady.await(10, TimeUnit.SECONDS);
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 1);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> first = sink.startTestItem(null, startRq("first"));
+		sink.attach(first, "screenshot", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		assertThat(uploadStarted.await(10, TimeUnit.SECONDS), equalTo(true));
+
+		sink.finishTestItem(first, finishRq());
+		Maybe<String> second = sink.startTestItem(null, startRq("second"));
+		sink.finishTestItem(second, finishRq());
+		assertThat(getEventTypes(), contains(START_LAUNCH, START_ITEM, FINISH_ITEM, START_ITEM, FINISH_ITEM));
+		assertThat(sink.getPendingAttachments(), equalTo(1));
+
+		serverReady.countDown();
+		sink.finishLaunch(new FinishExecutionRQ());
+		assertThat(sink.getPendingAttachments(), equalTo(0));
+		assertThat(getEventTypes(), hasItem(FINISH_LAUNCH));
+		verify(client, times(1)).log(any(List.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_small_attachments_and_logs_are_passed_to_delegate() {
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 1);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> item = sink.startTestItem(null, startRq("item"));
+		sink.log(item, "message", "INFO", Instant.now());
+		sink.attach(item, "small", "text/plain", new byte[THRESHOLD - 1], "INFO", Instant.now());
+		sink.attach(null, "current item", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		sink.finishTestItem(item, finishRq());
+		sink.finishLaunch(new FinishExecutionRQ());
+
+		assertThat(getEventTypes(), contains(START_LAUNCH, START_ITEM, LOG, LOG, LOG, FINISH_ITEM, FINISH_LAUNCH));
+		verify(client, never()).log(any(List.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_attachments_of_one_item_are_uploaded_one_by_one() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		when(client.log(any(List.class))).thenAnswer((Answer<Maybe<BatchSaveOperatingRS>>) invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			inFlight.decrementAndGet();
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 4);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> item = sink.startTestItem(null, startRq("item"));
+		for (int i = 0; i < 5; i++) {
+			sink.attach(item, "attachment " + i, "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		}
+		sink.finishTestItem(item, finishRq());
+		sink.finishLaunch(new FinishExecutionRQ());
+
+		assertThat(maxInFlight.get(), equalTo(1));
+		verify(client, times(5)).log(any(List.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_attachments_of_different_items_are_uploaded_concurrently() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		when(client.log(any(List.class))).thenAnswer((Answer<Maybe<BatchSaveOperatingRS>>) invocation -> {
+			// fails with a timeout if the uploads are not performed at the same time
+			barrier.await(10, TimeUnit.SECONDS);
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 2);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> first = sink.startTestItem(null, startRq("first"));
+		Maybe<String> second = sink.startTestItem(null, startRq("second"));
+		sink.attach(first, "first", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		sink.attach(second, "second", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		sink.finishLaunch(new FinishExecutionRQ());
+
+		assertThat(barrier.isBroken(), equalTo(false));
+		verify(client, times(2)).log(any(List.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_attachment_is_passed_to_delegate_if_upload_fails() {
+		when(client.log(any(List.class))).thenReturn(Maybe.error(new IllegalStateException("Server is unavailable")));
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 1);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> item = sink.startTestItem(null, startRq("item"));
+		sink.attach(item, "screenshot", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		sink.finishTestItem(item, finishRq());
+		sink.finishLaunch(new FinishExecutionRQ());
+
+		assertThat(getEventTypes(), contains(START_LAUNCH, START_ITEM, FINISH_ITEM, LOG, FINISH_LAUNCH));
+		assertThat(sink.getPendingAttachments(), equalTo(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_flush_waits_for_attachments_added_while_flushing() throws Exception {
+		CountDownLatch firstUploading = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		AtomicInteger uploads = new AtomicInteger();
+		when(client.log(any(List.class))).thenAnswer((Answer<Maybe<BatchSaveOperatingRS>>) invocation -> {
+			boolean firstUpload = uploads.incrementAndGet() == 1;
+			if (firstUpload) {
+				firstUploading.countDown();
+			}
+			releaseFirst.await(10, TimeUnit.SECONDS);
+			if (!firstUpload) {
+				// the second upload completes after the one flush started with
+				Thread.sleep(100);
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		PriorityReportingSink sink = new PriorityReportingSink(delegate, client, THRESHOLD, 2);
+		sink.startLaunch(new StartLaunchRQ());
+		Maybe<String> first = sink.startTestItem(null, startRq("first"));
+		Maybe<String> second = sink.startTestItem(null, startRq("second"));
+		sink.attach(first, "first", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		assertThat(firstUploading.await(10, TimeUnit.SECONDS), equalTo(true));
+
+		Thread flush = new Thread(sink::flush);
+		flush.start();
+		sink.attach(second, "second", "image/png", new byte[THRESHOLD], "INFO", Instant.now());
+		releaseFirst.countDown();
+		flush.join(TimeUnit.SECONDS.toMillis(10));
+
+		assertThat(flush.isAlive(), equalTo(false));
+		assertThat(sink.getPendingAttachments(), equalTo(0));
+		sink.close();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.metrics.HandlerStatistics;
+import com.epam.reportportal.cucumber.metrics.LatencyHistogram;
+import com.epam.reportportal.cucumber.metrics.ReporterMetrics;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterEvents;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ReporterMetricsTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class MetricsScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@Test
+	public void verify_histogram_quantiles_are_within_bucket_precision() throws InterruptedException {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Thread other = new Thread(() -> {
+			for (int i = 501; i <= 1000; i++) {
+				histogram.record(i * 1000L);
+			}
+		});
+		other.start();
+		for (int i = 1; i <= 500; i++) {
+			histogram.record(i * 1000L);
+		}
+		other.join();
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount(), equalTo(1000L));
+		assertThat(snapshot.getMax(), equalTo(1_000_000L));
+		assertThat(snapshot.getMean(), closeTo(500_500d, 0.1d));
+		assertThat((double) snapshot.getValueAtQuantile(0.5), closeTo(500_000d, 500_000d * 0.07));
+		assertThat((double) snapshot.getValueAtQuantile(0.99), closeTo(990_000d, 990_000d * 0.07));
+		assertThat(new LatencyHistogram().snapshot().getValueAtQuantile(0.5), equalTo(0L));
+	}
+
+	@Test
+	public void verify_histogram_keeps_values_of_finished_threads() throws InterruptedException {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 200; i++) {
+			long value = i * 1000L;
+			Thread thread = new Thread(() -> {
+				histogram.record(value);
+				histogram.record(value);
+			});
+			thread.start();
+			thread.join();
+		}
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount(), equalTo(400L));
+		assertThat(snapshot.getSum(), equalTo(2 * 1000L * 200 * 201 / 2));
+		assertThat(snapshot.getMax(), equalTo(200_000L));
+	}
+
+	@Test
+	public void verify_reporter_metrics_count_handlers_and_items() throws Exception {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setMetricsEnabled(true);
+		reporterParameters.setMetricsDump(true);
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(reporterParameters, MetricsScenarioReporterTest.class);
+
+		ReporterMetrics metrics = AbstractReporter.getCurrent()
+				.getMetrics()
+				.orElseThrow(() -> new AssertionError("Metrics are not enabled"));
+		Map<String, HandlerStatistics> handlers = metrics.getHandlers()
+				.stream()
+				.collect(Collectors.toMap(HandlerStatistics::getName, Function.identity()));
+		assertThat(handlers.keySet(), hasItems("TestRunStarted", "TestCaseStarted", "TestStepStarted", "TestStepFinished"));
+		assertThat(handlers.get("TestCaseStarted").getCount(), equalTo(1L));
+		assertThat(handlers.get("TestStepStarted").getCount(), equalTo(2L));
+		assertThat(handlers.get("TestStepFinished").getMaxNanos(), greaterThan(0L));
+
+		long startedItems = filterEvents(events, START_ITEM).size();
+		assertThat(metrics.getItemsStarted(), equalTo(startedItems));
+		assertThat(metrics.getItemsFinished(), equalTo(startedItems));
+		assertThat(metrics.dump(), containsString("TestStepStarted"));
+
+		ObjectName pattern = new ObjectName("com.epam.reportportal.cucumber:type=ReporterMetrics,*");
+		assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(pattern, null), empty());
+	}
+
+	@Test
+	public void verify_trace_recorder_handlers_are_not_counted_in_reporter_metrics(@TempDir Path tempDir) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setMetricsEnabled(true);
+		reporterParameters.setOverheadEnabled(true);
+		reporterParameters.setTraceFile(tempDir.resolve("timeline.json"));
+		TestSinkScenarioReporter.run(reporterParameters, MetricsScenarioReporterTest.class);
+
+		ReporterMetrics metrics = AbstractReporter.getCurrent()
+				.getMetrics()
+				.orElseThrow(() -> new AssertionError("Metrics are not enabled"));
+		Map<String, HandlerStatistics> handlers = metrics.getHandlers()
+				.stream()
+				.collect(Collectors.toMap(HandlerStatistics::getName, Function.identity()));
+		assertThat(handlers.get("TestCaseStarted").getCount(), equalTo(1L));
+		assertThat(handlers.get("TestStepStarted").getCount(), equalTo(2L));
+		assertThat(handlers.get("TestStepFinished").getCount(), equalTo(2L));
+	}
+}
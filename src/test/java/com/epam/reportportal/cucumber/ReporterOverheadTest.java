@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.metrics.ReporterOverhead;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterEvents;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.FINISH_ITEM;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.FINISH_LAUNCH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ReporterOverheadTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class OverheadScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static Map<String, ItemAttributesRQ> getAttributes(ReportingEvent event) {
+		return Optional.ofNullable(((FinishExecutionRQ) event.getRequest()).getAttributes())
+				.stream()
+				.flatMap(Set::stream)
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, a -> a));
+	}
+
+	@Test
+	public void verify_overhead_attributes_format() {
+		Map<String, ItemAttributesRQ> attributes = ReporterOverhead.buildAttributes(1_500_000L, 3_000_000L)
+				.stream()
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, a -> a));
+		assertThat(attributes.get(ReporterOverhead.OVERHEAD_MS_KEY).getValue(), equalTo("1"));
+		assertThat(attributes.get(ReporterOverhead.OVERHEAD_PCT_KEY).getValue(), equalTo("50.00"));
+		assertThat(attributes.values().stream().allMatch(ItemAttributesRQ::isSystem), equalTo(true));
+		assertThat(ReporterOverhead.buildAttributes(1_500_000L, 0L), hasSize(1));
+	}
+
+	@Test
+	public void verify_launch_overhead_is_attached_on_finish() {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setOverheadEnabled(true);
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(reporterParameters, OverheadScenarioReporterTest.class);
+
+		List<ReportingEvent> launchFinish = filterEvents(events, FINISH_LAUNCH);
+		assertThat(launchFinish, hasSize(1));
+		Map<String, ItemAttributesRQ> attributes = getAttributes(launchFinish.get(0));
+		assertThat(attributes, hasKey(ReporterOverhead.OVERHEAD_MS_KEY));
+		assertThat(attributes.get(ReporterOverhead.OVERHEAD_MS_KEY).isSystem(), equalTo(true));
+		ReporterOverhead overhead = AbstractReporter.getCurrent()
+				.getOverhead()
+				.orElseThrow(() -> new AssertionError("Overhead accounting is not enabled"));
+		assertThat(overhead.getOverheadNanos(), greaterThan(0L));
+
+		List<ReportingEvent> itemFinishes = filterEvents(events, FINISH_ITEM);
+		assertThat(itemFinishes.stream().map(ReporterOverheadTest::getAttributes).allMatch(Map::isEmpty), equalTo(true));
+	}
+
+	@Test
+	public void verify_scenario_overhead_is_attached_above_threshold() {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setOverheadEnabled(true);
+		reporterParameters.setOverheadScenarioThreshold(Duration.ofNanos(1));
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(reporterParameters, OverheadScenarioReporterTest.class);
+
+		List<Map<String, ItemAttributesRQ>> itemAttributes = filterEvents(events, FINISH_ITEM).stream()
+				.map(ReporterOverheadTest::getAttributes)
+				.filter(a -> !a.isEmpty())
+				.collect(Collectors.toList());
+		assertThat(itemAttributes, hasSize(1));
+		assertThat(itemAttributes.get(0), hasKey(ReporterOverhead.OVERHEAD_MS_KEY));
+	}
+
+	@Test
+	public void verify_no_overhead_attributes_by_default() {
+		List<ReportingEvent> events = TestSinkScenarioReporter.run(null, OverheadScenarioReporterTest.class);
+
+		assertThat(AbstractReporter.getCurrent().getOverhead().isPresent(), equalTo(false));
+		assertThat(getAttributes(filterEvents(events, FINISH_LAUNCH).get(0)), anEmptyMap());
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.FeatureParser;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies that the reporter does not keep per-item state after items are finished and does not retain Gherkin nodes, so retained
+ * heap does not grow with the number of reported steps and scenarios.
+ */
+public class ReporterRetainedStateTest {
+
+	@CucumberOptions(features = "src/test/resources/features/belly.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class PassedScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/FailedScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class FailedScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final String FEATURE_SOURCE = "@feature_tag\n" + "Feature: Retained state\n\n" + "  Rule: A rule\n\n"
+			+ "    Scenario Outline: An outline\n" + "      Given I have <count> cucumbers\n\n" + "      Examples:\n"
+			+ "        | count |\n" + "        | 5     |\n" + "        | 7     |\n";
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("suite_");
+	private final String testId = CommonUtils.namedId("test_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+	private final List<Pair<String, String>> nestedSteps = Stream.generate(() -> CommonUtils.namedId("nested_"))
+			.limit(3)
+			.map(s -> Pair.of(stepIds.get(0), s))
+			.collect(Collectors.toList());
+
+	private final ListenerParameters parameters = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, parameters, executorService);
+
+	@BeforeEach
+	public void initLaunch() {
+		TestUtils.mockLaunch(client, launchId, suiteId, testId, stepIds);
+		TestUtils.mockNestedSteps(client, nestedSteps);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	private static Map<?, ?> getReporterMap(String fieldName) throws ReflectiveOperationException {
+		Field field = AbstractReporter.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return (Map<?, ?>) field.get(AbstractReporter.getCurrent());
+	}
+
+	@Test
+	public void verify_no_item_state_retained_after_passed_run() throws ReflectiveOperationException {
+		TestUtils.runTests(PassedScenarioReporterTest.class);
+
+		assertThat(AbstractReporter.getCurrent(), instanceOf(TestScenarioReporter.class));
+		assertThat(getReporterMap("descriptionsMap"), anEmptyMap());
+		assertThat(getReporterMap("errorMap"), anEmptyMap());
+		assertThat(getReporterMap("featureContextMap"), anEmptyMap());
+		assertThat(getReporterMap("testCaseContextMap"), anEmptyMap());
+	}
+
+	@Test
+	public void verify_no_item_state_retained_after_failed_run() throws ReflectiveOperationException {
+		TestUtils.runTests(FailedScenarioReporterTest.class);
+
+		assertThat(AbstractReporter.getCurrent(), instanceOf(TestScenarioReporter.class));
+		assertThat(getReporterMap("descriptionsMap"), anEmptyMap());
+		assertThat(getReporterMap("errorMap"), anEmptyMap());
+		assertThat(getReporterMap("featureContextMap"), anEmptyMap());
+		assertThat(getReporterMap("testCaseContextMap"), anEmptyMap());
+	}
+
+	private static FeatureContext parseFeature(URI uri, List<WeakReference<Feature>> reference) {
+		FeatureParser parser = ServiceLoader.load(FeatureParser.class).iterator().next();
+		Feature feature = parser.parse(uri, FEATURE_SOURCE, UUID::randomUUID).orElseThrow(AssertionError::new);
+		reference.add(new WeakReference<>(feature));
+		return new FeatureContext(uri, feature);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void verify_feature_context_does_not_retain_gherkin_nodes() throws InterruptedException {
+		URI uri = URI.create("file:///features/retained.feature");
+		List<WeakReference<Feature>> reference = new ArrayList<>();
+		FeatureContext context = parseFeature(uri, reference);
+
+		for (int i = 0; i < 100 && reference.get(0).get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat("Feature is retained", reference.get(0).get(), nullValue());
+		assertThat(context.getFeature(), nullValue());
+
+		assertThat(context.getName().orElse(null), equalTo("Retained state"));
+		assertThat(context.getTags(), contains("@feature_tag"));
+		assertThat(context.getLine(), equalTo(2));
+		ScenarioContext row = context.findScenario(11);
+		assertThat(row, notNullValue());
+		assertThat(row.getRule().flatMap(RuleContext::getName).orElse(null), equalTo("A rule"));
+		assertThat(row.getExample().isPresent(), equalTo(false));
+		assertThat(context.getTableRow(11), contains("5"));
+		assertThat(context.getTableHeader(row.getExamples().orElseThrow().getLine()), contains("count"));
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.cucumber.sink.ReportingEventCodec;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ReportingEventCodecTest {
+
+	private static final Instant TIME = Instant.parse("2026-01-02T03:04:05.123456789Z");
+
+	private static Set<ItemAttributesRQ> attributes() {
+		ItemAttributesRQ system = new ItemAttributesRQ("agent", "cucumber");
+		system.setSystem(true);
+		return new HashSet<>(Arrays.asList(new ItemAttributesRQ("key", "value"), system));
+	}
+
+	private static <T> T roundTrip(ReportingEvent event) throws IOException {
+		ReportingEvent decoded = ReportingEventCodec.decode(ReportingEventCodec.encode(event));
+		assertThat(decoded.getType(), equalTo(event.getType()));
+		assertThat(decoded.getItemId(), equalTo(event.getItemId()));
+		assertThat(decoded.getParentId(), equalTo(event.getParentId()));
+		//noinspection unchecked
+		return (T) decoded.getRequest();
+	}
+
+	private static void assertAttributes(Set<ItemAttributesRQ> actual) {
+		List<String> result = actual.stream()
+				.map(a -> a.getKey() + ":" + a.getValue() + ":" + a.isSystem())
+				.collect(Collectors.toList());
+		assertThat(result, containsInAnyOrder("key:value:false", "agent:cucumber:true"));
+	}
+
+	@Test
+	public void verify_start_launch_request_round_trip() throws IOException {
+		StartLaunchRQ rq = new StartLaunchRQ();
+		rq.setName("launch");
+		rq.setDescription("launch description");
+		rq.setStartTime(TIME);
+		rq.setMode(Mode.DEBUG);
+		rq.setAttributes(attributes());
+		rq.setRerun(true);
+		rq.setRerunOf("rerun-of");
+
+		StartLaunchRQ result = roundTrip(ReportingEvent.startLaunch("launch-id", rq));
+
+		assertThat(result.getName(), equalTo("launch"));
+		assertThat(result.getDescription(), equalTo("launch description"));
+		assertThat(result.getStartTime(), equalTo(TIME));
+		assertThat(result.getMode(), equalTo(Mode.DEBUG));
+		assertAttributes(result.getAttributes());
+		assertThat(result.isRerun(), equalTo(true));
+		assertThat(result.getRerunOf(), equalTo("rerun-of"));
+	}
+
+	@Test
+	public void verify_start_item_request_round_trip() throws IOException {
+		ParameterResource parameter = new ParameterResource();
+		parameter.setKey("param");
+		parameter.setValue("param value");
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("item");
+		rq.setDescription("item description");
+		rq.setType(ItemType.STEP.name());
+		rq.setCodeRef("code.ref");
+		rq.setTestCaseId("test-case-id");
+		rq.setUniqueId("unique-id");
+		rq.setStartTime(TIME);
+		rq.setHasStats(false);
+		rq.setRetry(true);
+		rq.setRetryOf("retry-of");
+		rq.setAttributes(attributes());
+		rq.setParameters(Collections.singletonList(parameter));
+
+		StartTestItemRQ result = roundTrip(ReportingEvent.startItem("item-id", "parent-id", rq));
+
+		assertThat(result.getName(), equalTo("item"));
+		assertThat(result.getDescription(), equalTo("item description"));
+		assertThat(result.getType(), equalTo(ItemType.STEP.name()));
+		assertThat(result.getCodeRef(), equalTo("code.ref"));
+		assertThat(result.getTestCaseId(), equalTo("test-case-id"));
+		assertThat(result.getUniqueId(), equalTo("unique-id"));
+		assertThat(result.getStartTime(), equalTo(TIME));
+		assertThat(result.isHasStats(), equalTo(false));
+		assertThat(result.isRetry(), equalTo(Boolean.TRUE));
+		assertThat(result.getRetryOf(), equalTo("retry-of"));
+		assertAttributes(result.getAttributes());
+		assertThat(result.getParameters(), hasSize(1));
+		assertThat(result.getParameters().get(0).getKey(), equalTo("param"));
+		assertThat(result.getParameters().get(0).getValue(), equalTo("param value"));
+	}
+
+	@Test
+	public void verify_start_item_request_without_optional_fields_round_trip() throws IOException {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("item");
+
+		StartTestItemRQ result = roundTrip(ReportingEvent.startItem("item-id", "parent-id", rq));
+
+		assertThat(result.getName(), equalTo("item"));
+		assertThat(result.getUniqueId(), nullValue());
+		assertThat(result.isRetry(), nullValue());
+		assertThat(result.getRetryOf(), nullValue());
+		assertThat(result.getAttributes(), nullValue());
+		assertThat(result.getParameters(), nullValue());
+	}
+
+	@Test
+	public void verify_finish_item_request_round_trip() throws IOException {
+		Issue.ExternalSystemIssue ticket = new Issue.ExternalSystemIssue();
+		ticket.setTicketId("TICKET-1");
+		ticket.setSubmitDate(TIME.toEpochMilli());
+		ticket.setBtsUrl("https://bts.example.com");
+		ticket.setBtsProject("project");
+		ticket.setUrl("https://bts.example.com/TICKET-1");
+		Issue issue = new Issue();
+		issue.setIssueType("pb001");
+		issue.setComment("issue comment");
+		issue.setAutoAnalyzed(true);
+		issue.setIgnoreAnalyzer(true);
+		issue.setExternalSystemIssues(Collections.singleton(ticket));
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(TIME);
+		rq.setStatus(ItemStatus.FAILED.name());
+		rq.setDescription("finish description");
+		rq.setAttributes(attributes());
+		rq.setTestCaseId("test-case-id");
+		rq.setRetry(false);
+		rq.setRetryOf("retry-of");
+		rq.setIssue(issue);
+
+		FinishTestItemRQ result = roundTrip(ReportingEvent.finishItem("item-id", rq));
+
+		assertThat(result.getEndTime(), equalTo(TIME));
+		assertThat(result.getStatus(), equalTo(ItemStatus.FAILED.name()));
+		assertThat(result.getDescription(), equalTo("finish description"));
+		assertAttributes(result.getAttributes());
+		assertThat(result.getTestCaseId(), equalTo("test-case-id"));
+		assertThat(result.isRetry(), equalTo(Boolean.FALSE));
+		assertThat(result.getRetryOf(), equalTo("retry-of"));
+		Issue resultIssue = result.getIssue();
+		assertThat(resultIssue, notNullValue());
+		assertThat(resultIssue.getIssueType(), equalTo("pb001"));
+		assertThat(resultIssue.getComment(), equalTo("issue comment"));
+		assertThat(resultIssue.getAutoAnalyzed(), equalTo(true));
+		assertThat(resultIssue.getIgnoreAnalyzer(), equalTo(true));
+		assertThat(resultIssue.getExternalSystemIssues(), hasSize(1));
+		Issue.ExternalSystemIssue resultTicket = resultIssue.getExternalSystemIssues().iterator().next();
+		assertThat(resultTicket.getTicketId(), equalTo("TICKET-1"));
+		assertThat(resultTicket.getSubmitDate(), equalTo(TIME.toEpochMilli()));
+		assertThat(resultTicket.getBtsUrl(), equalTo("https://bts.example.com"));
+		assertThat(resultTicket.getBtsProject(), equalTo("project"));
+		assertThat(resultTicket.getUrl(), equalTo("https://bts.example.com/TICKET-1"));
+	}
+
+	@Test
+	public void verify_finish_launch_request_round_trip() throws IOException {
+		FinishExecutionRQ rq = new FinishExecutionRQ();
+		rq.setEndTime(TIME);
+		rq.setStatus(ItemStatus.PASSED.name());
+		rq.setDescription("launch description");
+		rq.setAttributes(attributes());
+
+		FinishExecutionRQ result = roundTrip(ReportingEvent.finishLaunch(rq));
+
+		assertThat(result, not(instanceOf(FinishTestItemRQ.class)));
+		assertThat(result.getEndTime(), equalTo(TIME));
+		assertThat(result.getStatus(), equalTo(ItemStatus.PASSED.name()));
+		assertThat(result.getDescription(), equalTo("launch description"));
+		assertAttributes(result.getAttributes());
+	}
+
+	@Test
+	public void verify_log_request_round_trip() throws IOException {
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName("file.txt");
+		file.setContentType("text/plain");
+		file.setContent("content".getBytes(StandardCharsets.UTF_8));
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage("message");
+		rq.setLevel("ERROR");
+		rq.setLogTime(TIME);
+		rq.setFile(file);
+
+		SaveLogRQ result = roundTrip(ReportingEvent.log("item-id", rq));
+
+		assertThat(result.getMessage(), equalTo("message"));
+		assertThat(result.getLevel(), equalTo("ERROR"));
+		assertThat(result.getLogTime(), equalTo(TIME));
+		assertThat(result.getFile(), notNullValue());
+		assertThat(result.getFile().getName(), equalTo("file.txt"));
+		assertThat(result.getFile().getContentType(), equalTo("text/plain"));
+		assertThat(result.getFile().getContent(), equalTo("content".getBytes(StandardCharsets.UTF_8)));
+	}
+}
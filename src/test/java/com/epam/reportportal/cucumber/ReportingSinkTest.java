@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.sink.BatchingReportingSink;
+import com.epam.reportportal.cucumber.sink.JournalReader;
+import com.epam.reportportal.cucumber.sink.JournalReportingSink;
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.cucumber.sink.ReportingEventReplayer;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterEvents;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.startItemRequests;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ReportingSinkTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class SinkScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final List<ReportingEvent.Type> EXPECTED_EVENTS = Arrays.asList(
+			START_LAUNCH,
+			START_ITEM,
+			START_ITEM,
+			START_ITEM,
+			START_ITEM,
+			FINISH_ITEM,
+			START_ITEM,
+			FINISH_ITEM,
+			FINISH_ITEM,
+			FINISH_ITEM,
+			FINISH_ITEM,
+			FINISH_LAUNCH
+	);
+
+	private static final List<String> EXPECTED_ITEMS = Arrays.asList(
+			"Root User Story",
+			"Feature: Test dummy scenario",
+			"Scenario: The scenario",
+			"Given I have empty step",
+			"Then I have another empty step"
+	);
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	private static void verifyEvents(List<ReportingEvent> events) {
+		assertThat(events.stream().map(ReportingEvent::getType).collect(Collectors.toList()), equalTo(EXPECTED_EVENTS));
+		List<ReportingEvent> starts = filterEvents(events, START_ITEM);
+		List<String> names = startItemRequests(events).stream().map(StartTestItemRQ::getName).collect(Collectors.toList());
+		assertThat(names, equalTo(EXPECTED_ITEMS));
+
+		Set<String> started = new HashSet<>();
+		for (ReportingEvent event : events) {
+			if (event.getType() == START_ITEM) {
+				if (event.getParentId() != null) {
+					assertThat(started, hasItem(event.getParentId()));
+				}
+				started.add(event.getItemId());
+			} else if (event.getType() == FINISH_ITEM) {
+				assertThat(started, hasItem(event.getItemId()));
+			}
+		}
+		assertThat(starts.get(0).getParentId(), nullValue());
+	}
+
+	@Test
+	public void verify_reporter_writes_all_operations_into_sink() {
+		MemoryReportingSink sink = new MemoryReportingSink();
+		TestSinkScenarioReporter.run(client, sink, null, SinkScenarioReporterTest.class);
+
+		verifyEvents(sink.getEvents());
+		verify(client, never()).startLaunch(any());
+		verify(client, never()).startTestItem(any());
+		verify(client, never()).startTestItem(any(), any());
+	}
+
+	@Test
+	public void verify_batching_sink_delivers_operations_in_order() {
+		MemoryReportingSink delegate = new MemoryReportingSink();
+		TestSinkScenarioReporter.run(new BatchingReportingSink(delegate, 5), null, SinkScenarioReporterTest.class);
+
+		verifyEvents(delegate.getEvents());
+	}
+
+	@Test
+	public void verify_journal_sink_replays_operations_with_original_times(@TempDir Path tempDir) throws IOException {
+		Path journal = tempDir.resolve("journal");
+		TestSinkScenarioReporter.run(client, new JournalReportingSink(journal, 256), null, SinkScenarioReporterTest.class);
+
+		JournalReader reader = new JournalReader(journal);
+		assertThat(reader.getSegments(), hasSize(greaterThan(1)));
+		List<ReportingEvent> recorded = new ArrayList<>();
+		assertThat(reader.read(recorded::add), equalTo(EXPECTED_EVENTS.size()));
+		verifyEvents(recorded);
+
+		MemoryReportingSink target = new MemoryReportingSink();
+		ReportingEventReplayer replayer = new ReportingEventReplayer(target);
+		recorded.forEach(replayer::replay);
+		List<ReportingEvent> replayed = target.getEvents();
+		verifyEvents(replayed);
+		for (int i = 0; i < recorded.size(); i++) {
+			if (recorded.get(i).getType() == START_ITEM) {
+				assertThat(
+						((StartTestItemRQ) replayed.get(i).getRequest()).getStartTime(),
+						equalTo(((StartTestItemRQ) recorded.get(i).getRequest()).getStartTime())
+				);
+			}
+		}
+		verify(client, never()).startLaunch(any());
+	}
+
+	@Test
+	public void verify_journal_replay_continues_after_last_read_segment(@TempDir Path tempDir) throws IOException {
+		Path journal = tempDir.resolve("journal");
+		TestSinkScenarioReporter.run(client, new JournalReportingSink(journal, 256), null, SinkScenarioReporterTest.class);
+
+		JournalReader reader = new JournalReader(journal);
+		List<Integer> offsets = new ArrayList<>();
+		assertThat(reader.read(0, e -> true, offsets::add), equalTo(EXPECTED_EVENTS.size()));
+		assertThat(offsets, hasSize(reader.getSegments().size()));
+		assertThat(offsets.get(offsets.size() - 1), equalTo(EXPECTED_EVENTS.size()));
+
+		int checkpoint = offsets.get(0);
+		MemoryReportingSink target = new MemoryReportingSink();
+		ReportingEventReplayer interrupted = new ReportingEventReplayer(target);
+		int[] index = { 0 };
+		reader.read(
+				0, e -> {
+					if (index[0]++ >= checkpoint) {
+						return false;
+					}
+					interrupted.replay(e);
+					return true;
+				}
+		);
+
+		ReportingEventReplayer resumed = new ReportingEventReplayer(target);
+		resumed.resume(interrupted.getLaunchId(), interrupted.getOpenItems());
+		int count = reader.read(
+				checkpoint, e -> {
+					resumed.replay(e);
+					return true;
+				}
+		);
+		assertThat(count, equalTo(EXPECTED_EVENTS.size() - checkpoint));
+		verifyEvents(target.getEvents());
+	}
+}
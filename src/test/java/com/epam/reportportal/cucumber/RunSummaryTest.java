@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.integration.feature.FailedSteps;
+import com.epam.reportportal.cucumber.summary.FailureSummary;
+import com.epam.reportportal.cucumber.summary.RunSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RunSummaryTest {
+
+	@CucumberOptions(features = { "src/test/resources/features/FailedScenario.feature",
+			"src/test/resources/features/TwoScenarioInOne.feature" }, glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class SummaryScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final String FAILED_FEATURE = "src/test/resources/features/FailedScenario.feature";
+	private static final String PASSED_FEATURE = "src/test/resources/features/TwoScenarioInOne.feature";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void verify_failures_with_different_numbers_have_the_same_fingerprint() {
+		RunSummary summary = new RunSummary();
+		summary.recordScenario("a.feature", 3, Status.PASSED, 10, null);
+		summary.recordScenario("a.feature", 7, Status.FAILED, 20, new AssertionError("Expected 5 items, but was 6"));
+		summary.recordScenario("b.feature", 3, Status.FAILED, 30, new AssertionError("Expected 10 items, but was 2"));
+		summary.recordScenario("b.feature", 9, Status.FAILED, 40, new IllegalStateException("Expected 10 items, but was 2"));
+
+		List<FailureSummary> failures = summary.getFailures();
+		assertThat(failures, hasSize(2));
+		assertThat(failures.get(0).getCount(), equalTo(2L));
+		assertThat(failures.get(0).getMessage(), equalTo("Expected 5 items, but was 6"));
+		assertThat(failures.get(0).getScenarios(), containsInAnyOrder("a.feature:7", "b.feature:3"));
+		assertThat(failures.get(1).getType(), equalTo(IllegalStateException.class.getName()));
+		assertThat(summary.getScenarios().getTotal(), equalTo(4L));
+		assertThat(summary.isSuccessful(), equalTo(false));
+	}
+
+	@Test
+	public void verify_summary_is_written_atomically() throws Exception {
+		RunSummary summary = new RunSummary();
+		summary.recordScenario("a.feature", 3, Status.PASSED, 10, null);
+		summary.recordScenario("a.feature", 7, Status.SKIPPED, 0, null);
+		Path file = tempDir.resolve("build").resolve("summary.json");
+		summary.write(file, Instant.now());
+
+		try (Stream<Path> files = Files.list(file.getParent())) {
+			assertThat(files.count(), equalTo(1L));
+		}
+		JsonNode root = new ObjectMapper().readTree(file.toFile());
+		assertThat(root.path("successful").asBoolean(), equalTo(true));
+		assertThat(root.path("scenarios").path("skipped").asLong(), equalTo(1L));
+	}
+
+	@Test
+	public void verify_summary_file_is_written_at_the_end_of_the_run() throws Exception {
+		Path file = tempDir.resolve("summary.json");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setSummaryFile(file);
+		TestSinkScenarioReporter.run(reporterParameters, SummaryScenarioReporterTest.class);
+
+		JsonNode root = new ObjectMapper().readTree(file.toFile());
+		assertThat(root.path("successful").asBoolean(), equalTo(false));
+		assertThat(root.path("scenarios").path("total").asLong(), equalTo(3L));
+		assertThat(root.path("scenarios").path("passed").asLong(), equalTo(2L));
+		assertThat(root.path("scenarios").path("failed").asLong(), equalTo(1L));
+		assertThat(root.path("steps").path("passed").asLong(), equalTo(4L));
+		assertThat(root.path("steps").path("failed").asLong(), equalTo(1L));
+		assertThat(root.path("features").size(), equalTo(2));
+		assertThat(root.path("features").get(0).path("path").asText(), equalTo(FAILED_FEATURE));
+		assertThat(root.path("features").get(1).path("path").asText(), equalTo(PASSED_FEATURE));
+
+		JsonNode failures = root.path("failures");
+		assertThat(failures.size(), equalTo(1));
+		assertThat(failures.get(0).path("type").asText(), equalTo(IllegalStateException.class.getName()));
+		assertThat(failures.get(0).path("message").asText(), equalTo(FailedSteps.ERROR_MESSAGE));
+		assertThat(failures.get(0).path("location").asText(), equalTo(FailedSteps.class.getName() + ".i_have_a_failed_step"));
+		assertThat(failures.get(0).path("scenarios").get(0).asText(), equalTo(FAILED_FEATURE + ":3"));
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.shard.Shard;
+import com.epam.reportportal.cucumber.shard.ShardDurations;
+import com.epam.reportportal.cucumber.shard.ShardPlanner;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ShardPlannerTest {
+
+	@CucumberOptions(features = "src/test/resources/features/TwoScenarioInOne.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class ShardScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private static final String FEATURE = "src/test/resources/features/TwoScenarioInOne.feature";
+
+	@TempDir
+	Path tempDir;
+
+	private static ShardDurations durations() {
+		ShardDurations durations = new ShardDurations();
+		durations.record("a.feature", Collections.emptySet(), 3, 70);
+		durations.record("a.feature", Collections.emptySet(), 8, 50);
+		durations.record("b.feature", Collections.emptySet(), 3, 40);
+		durations.record("b.feature", Collections.emptySet(), 6, 30);
+		durations.record("c.feature", Collections.singleton("@serial"), 3, 20);
+		durations.record("c.feature", Collections.singleton("@serial"), 9, 20);
+		return durations;
+	}
+
+	@Test
+	public void verify_shards_are_balanced_by_duration() {
+		List<Shard> shards = new ShardPlanner(durations(), Collections.emptySet(), false).plan(2);
+
+		assertThat(shards.stream().map(Shard::getDurationNanos).collect(Collectors.toList()), contains(120L, 110L));
+		assertThat(shards.get(0).toFeatureLines(), contains("a.feature:3", "b.feature:6", "c.feature:9"));
+		assertThat(shards.get(1).toFeatureLines(), contains("a.feature:8", "b.feature:3", "c.feature:3"));
+	}
+
+	@Test
+	public void verify_together_features_are_not_split() {
+		List<Shard> shards = new ShardPlanner(durations(), Set.of("@serial"), false).plan(3);
+
+		List<String> serial = shards.stream()
+				.flatMap(s -> s.toFeatureLines().stream())
+				.filter(l -> l.startsWith("c.feature"))
+				.collect(Collectors.toList());
+		assertThat(serial, contains("c.feature:3:9"));
+		assertThat(shards.stream().mapToLong(Shard::getDurationNanos).sum(), equalTo(230L));
+	}
+
+	@Test
+	public void verify_whole_features_mode() {
+		List<Shard> shards = new ShardPlanner(durations(), Collections.emptySet(), true).plan(2);
+
+		assertThat(shards.get(0).toFeatureLines(), contains("a.feature:3:8"));
+		assertThat(shards.get(1).toFeatureLines(), contains("b.feature:3:6", "c.feature:3:9"));
+	}
+
+	@Test
+	public void verify_scenario_durations_are_merged_into_shard_file() throws Exception {
+		Path file = tempDir.resolve("durations.json");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setShardFile(file);
+		TestSinkScenarioReporter.run(reporterParameters, ShardScenarioReporterTest.class);
+		TestSinkScenarioReporter.run(reporterParameters, ShardScenarioReporterTest.class);
+
+		List<ShardDurations.FeatureDurations> features = List.copyOf(ShardDurations.read(file).getFeatures());
+		assertThat(features, hasSize(1));
+		assertThat(features.get(0).getPath(), equalTo(FEATURE));
+		assertThat(features.get(0).getScenarios().keySet(), hasSize(2));
+
+		List<Shard> shards = new ShardPlanner(ShardDurations.read(file), Collections.emptySet(), false).plan(2);
+		assertThat(shards.get(0).getScenarios().get(FEATURE), hasSize(1));
+		assertThat(shards.get(1).getScenarios().get(FEATURE), hasSize(1));
+	}
+
+	@Test
+	public void verify_unrecorded_scenarios_are_spread_by_count() {
+		ShardPlanner planner = new ShardPlanner(durations(), Collections.emptySet(), false);
+		planner.addFeature("a.feature", Collections.emptySet(), List.of(3, 8, 12));
+		planner.addFeature("b.feature", Collections.emptySet(), List.of(3, 6));
+		planner.addFeature("d.feature", Collections.emptySet(), List.of(3, 5, 7));
+
+		List<Shard> shards = planner.plan(2);
+
+		List<String> planned = shards.stream()
+				.flatMap(s -> s.getScenarios().entrySet().stream())
+				.flatMap(e -> e.getValue().stream().map(l -> e.getKey() + ":" + l))
+				.collect(Collectors.toList());
+		assertThat(
+				planned,
+				containsInAnyOrder(
+						"a.feature:3",
+						"a.feature:8",
+						"a.feature:12",
+						"b.feature:3",
+						"b.feature:6",
+						"d.feature:3",
+						"d.feature:5",
+						"d.feature:7"
+				)
+		);
+		assertThat(shards.stream().mapToLong(Shard::getDurationNanos).sum(), equalTo(190L));
+		assertThat(shards.stream().map(Shard::getScenarioCount).collect(Collectors.toList()), containsInAnyOrder(4, 4));
+	}
+
+	@Test
+	public void verify_moved_and_removed_scenarios_are_dropped_on_merge() {
+		ShardDurations accumulated = durations();
+		ShardDurations run = new ShardDurations();
+		run.parsed("a.feature", Collections.emptySet(), List.of(3, 10));
+		run.record("a.feature", Collections.emptySet(), 10, 60);
+		run.parsed("b.feature", Collections.emptySet(), Collections.emptySet());
+
+		accumulated.merge(run);
+
+		assertThat(accumulated.getFeature("a.feature").getScenarios().keySet(), contains(3, 10));
+		assertThat(accumulated.getFeature("a.feature").getScenarios().get(3), equalTo(70L));
+		assertThat(accumulated.getFeature("b.feature"), nullValue());
+		assertThat(accumulated.getFeature("c.feature").getScenarios().keySet(), contains(3, 9));
+	}
+
+	@Test
+	public void verify_planner_plans_feature_files_and_returns_exit_codes() throws Exception {
+		Path output = tempDir.resolve("shards");
+		String durationsFile = tempDir.resolve("durations.json").toString();
+
+		assertThat(ShardPlanner.run(), equalTo(ShardPlanner.EXIT_USAGE));
+		assertThat(ShardPlanner.run(durationsFile, "2", output.toString()), equalTo(ShardPlanner.EXIT_USAGE));
+		assertThat(ShardPlanner.run(durationsFile, "two", output.toString(), FEATURE), equalTo(ShardPlanner.EXIT_USAGE));
+		assertThat(
+				ShardPlanner.run(durationsFile, "2", output.toString(), tempDir.resolve("missing").toString()),
+				equalTo(ShardPlanner.EXIT_FAILURE)
+		);
+
+		assertThat(ShardPlanner.run(durationsFile, "2", output.toString(), FEATURE), equalTo(ShardPlanner.EXIT_SUCCESS));
+		assertThat(Files.readAllLines(output.resolve("shard-1.txt")), contains(FEATURE + ":3"));
+		assertThat(Files.readAllLines(output.resolve("shard-2.txt")), contains(FEATURE + ":7"));
+	}
+}
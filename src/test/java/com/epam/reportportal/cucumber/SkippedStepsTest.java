@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.integration.TestStepReporter;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.finishItemRequest;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.startItemRequests;
+import static com.epam.reportportal.cucumber.sink.ReportingEvent.Type.START_ITEM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SkippedStepsTest {
+
+	@CucumberOptions(features = "src/test/resources/features/SkippedStepsScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class SkippedStepsScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private List<ReportingEvent> run(boolean collapse) {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setCollapseSkippedSteps(collapse);
+		return TestSinkScenarioReporter.run(reporterParameters, SkippedStepsScenarioReporterTest.class);
+	}
+
+	@Test
+	public void verify_skipped_steps_are_reported_one_by_one_by_default() {
+		List<ReportingEvent> events = run(false);
+
+		List<String> names = startItemRequests(events).stream().map(StartTestItemRQ::getName).collect(Collectors.toList());
+		assertThat(names, hasSize(7));
+		assertThat(names, hasItems("When I have one more empty step", "Then I have another empty step"));
+	}
+
+	@Test
+	public void verify_skipped_steps_are_collapsed_into_a_summary_item() {
+		List<ReportingEvent> events = run(true);
+
+		List<StartTestItemRQ> items = startItemRequests(events);
+		List<String> names = items.stream().map(StartTestItemRQ::getName).collect(Collectors.toList());
+		assertThat(names, hasSize(6));
+		assertThat(names, hasItems("Given I have empty step", "Then I have a failed step", "2 steps skipped"));
+		assertThat(names, not(hasItem("When I have one more empty step")));
+
+		StartTestItemRQ summary = items.get(names.indexOf("2 steps skipped"));
+		assertThat(summary.isHasStats(), equalTo(Boolean.FALSE));
+		assertThat(summary.getDescription(), equalTo("- When I have one more empty step\n- Then I have another empty step"));
+
+		ReportingEvent summaryEvent = events.stream()
+				.filter(e -> e.getType() == START_ITEM && e.getRequest() == summary)
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Summary item is not reported"));
+		FinishTestItemRQ summaryFinish = finishItemRequest(events, summaryEvent.getItemId());
+		assertThat(summaryFinish.getStatus(), equalTo("SKIPPED"));
+	}
+
+	@Test
+	public void verify_skipped_steps_summary_item_has_statistics_in_step_reporter() {
+		StartTestItemRQ summary = new TestStepReporter().buildSkippedStepsRequest(Arrays.asList("When I have one more empty step",
+				"Then I have another empty step"
+		));
+
+		assertThat(summary.getName(), equalTo("2 steps skipped"));
+		assertThat(summary.isHasStats(), equalTo(Boolean.TRUE));
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.metrics.StepDefinitionStatistics;
+import com.epam.reportportal.cucumber.metrics.StepDefinitionSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StepDefinitionStatisticsTest {
+
+	@CucumberOptions(features = "src/test/resources/features/TwoScenarioInOne.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class StatisticsScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void verify_statistics_are_aggregated_per_code_reference() throws Exception {
+		Path file = tempDir.resolve("slowest-steps.json");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setStepStatisticsEnabled(true);
+		reporterParameters.setStepStatisticsFile(file);
+		TestSinkScenarioReporter.run(reporterParameters, StatisticsScenarioReporterTest.class);
+
+		StepDefinitionStatistics statistics = AbstractReporter.getCurrent()
+				.getStepStatistics()
+				.orElseThrow(() -> new AssertionError("Step statistics are not enabled"));
+		List<StepDefinitionSummary> slowest = statistics.getSlowest(10);
+		assertThat(slowest, hasSize(2));
+		assertThat(
+				slowest.stream().map(StepDefinitionSummary::getCodeRef).collect(Collectors.toList()), containsInAnyOrder(
+						"com.epam.reportportal.cucumber.integration.feature.EmptySteps.i_have_empty_step",
+						"com.epam.reportportal.cucumber.integration.feature.EmptySteps.i_have_another_empty_step"
+				)
+		);
+		slowest.forEach(s -> {
+			assertThat(s.getCount(), equalTo(2L));
+			assertThat(s.getMinNanos(), lessThanOrEqualTo(s.getMaxNanos()));
+			assertThat(s.getP99Nanos(), lessThanOrEqualTo(s.getMaxNanos()));
+		});
+		assertThat(slowest.get(0).getTotalNanos(), greaterThanOrEqualTo(slowest.get(1).getTotalNanos()));
+
+		JsonNode json = new ObjectMapper().readTree(file.toFile());
+		assertThat(json.size(), equalTo(2));
+		assertThat(json.get(0).path("codeRef").asText(), equalTo(slowest.get(0).getCodeRef()));
+		assertThat(json.get(0).path("count").asLong(), equalTo(2L));
+	}
+
+	@Test
+	public void verify_number_of_definitions_is_bounded() {
+		StepDefinitionStatistics statistics = new StepDefinitionStatistics();
+		int definitions = StepDefinitionStatistics.MAX_DEFINITIONS + 10;
+		for (int i = 0; i < definitions; i++) {
+			String codeRef = "step" + i;
+			statistics.record(codeRef, () -> codeRef, 1_000L);
+		}
+
+		List<StepDefinitionSummary> summaries = statistics.getSlowest(Integer.MAX_VALUE);
+		assertThat(summaries, hasSize(StepDefinitionStatistics.MAX_DEFINITIONS + 1));
+		StepDefinitionSummary other = summaries.get(0);
+		assertThat(other.getCodeRef(), equalTo(StepDefinitionStatistics.OTHER_DEFINITIONS));
+		assertThat(other.getCount(), equalTo(10L));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter;
+import com.epam.reportportal.cucumber.trace.TraceEventRecorder;
+import com.epam.reportportal.cucumber.trace.TraceEventWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TraceEventExportTest {
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestSinkScenarioReporter" })
+	public static class TraceScenarioReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@TempDir
+	Path tempDir;
+
+	private static List<JsonNode> filter(List<JsonNode> events, String category, String phase) {
+		return events.stream()
+				.filter(e -> category.equals(e.path("cat").asText()) && phase.equals(e.path("ph").asText()))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_trace_events_of_scenarios_and_steps_are_written() throws Exception {
+		Path traceFile = tempDir.resolve("trace").resolve("timeline.json");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setTraceFile(traceFile);
+		TestSinkScenarioReporter.run(reporterParameters, TraceScenarioReporterTest.class);
+
+		JsonNode trace = new ObjectMapper().readTree(traceFile.toFile());
+		assertThat(trace.isArray(), equalTo(true));
+		List<JsonNode> events = StreamSupport.stream(trace.spliterator(), false).collect(Collectors.toList());
+
+		List<JsonNode> scenarioStarts = filter(events, TraceEventRecorder.SCENARIO, "B");
+		List<JsonNode> scenarioEnds = filter(events, TraceEventRecorder.SCENARIO, "E");
+		assertThat(scenarioStarts, hasSize(1));
+		assertThat(scenarioEnds, hasSize(1));
+		assertThat(scenarioStarts.get(0).path("name").asText(), equalTo("The scenario"));
+		assertThat(scenarioStarts.get(0).path("args").path("location").asText(), endsWith("DummyScenario.feature:3"));
+		assertThat(scenarioEnds.get(0).path("args").path("status").asText(), equalTo("PASSED"));
+		assertThat(scenarioEnds.get(0).path("ts").asLong(), greaterThanOrEqualTo(scenarioStarts.get(0).path("ts").asLong()));
+
+		assertThat(filter(events, TraceEventRecorder.STEP, "B"), hasSize(2));
+		assertThat(filter(events, TraceEventRecorder.STEP, "E"), hasSize(2));
+
+		long threadId = scenarioStarts.get(0).path("tid").asLong();
+		List<JsonNode> threadNames = events.stream().filter(e -> "M".equals(e.path("ph").asText())).collect(Collectors.toList());
+		assertThat(threadNames, hasSize(1));
+		assertThat(threadNames.get(0).path("tid").asLong(), equalTo(threadId));
+		assertThat(threadNames.get(0).path("args").path("name").asText(), not(emptyString()));
+	}
+
+	@Test
+	public void verify_trace_is_compressed_within_attachment_limit() throws Exception {
+		Path traceFile = tempDir.resolve("timeline.json");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setTraceFile(traceFile);
+		TestSinkScenarioReporter.run(reporterParameters, TraceScenarioReporterTest.class);
+
+		byte[] compressed = TraceEventWriter.compress(traceFile, Integer.MAX_VALUE);
+		assertThat(compressed, notNullValue());
+		try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			assertThat(input.readAllBytes(), equalTo(Files.readAllBytes(traceFile)));
+		}
+		assertThat(TraceEventWriter.compress(traceFile, 16), nullValue());
+	}
+}
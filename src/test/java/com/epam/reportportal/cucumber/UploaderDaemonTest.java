@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.cucumber.sink.ReportingEventReplayer;
+import com.epam.reportportal.cucumber.sink.UploaderDaemon;
+import com.epam.reportportal.cucumber.sink.UploaderReportingSink;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class UploaderDaemonTest {
+
+	private static void reportFork(int port, String name, Instant endTime) throws Exception {
+		UploaderReportingSink sink = new UploaderReportingSink(port);
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName("Uploader launch");
+		launchRq.setStartTime(Instant.now());
+		sink.startLaunch(launchRq);
+		StartTestItemRQ itemRq = new StartTestItemRQ();
+		itemRq.setName(name);
+		itemRq.setStartTime(Instant.now());
+		Maybe<String> itemId = sink.startTestItem(null, itemRq);
+		sink.log(itemId, name + " log", "INFO", Instant.now());
+		FinishTestItemRQ finishItemRq = new FinishTestItemRQ();
+		finishItemRq.setEndTime(Instant.now());
+		sink.finishTestItem(itemId, finishItemRq);
+		FinishExecutionRQ finishLaunchRq = new FinishExecutionRQ();
+		finishLaunchRq.setEndTime(endTime);
+		sink.finishLaunch(finishLaunchRq);
+	}
+
+	@Test
+	public void verify_uploader_reports_all_processes_into_one_launch() throws Exception {
+		MemoryReportingSink target = new MemoryReportingSink();
+		UploaderDaemon daemon = new UploaderDaemon(() -> target, 0, Duration.ofSeconds(5));
+		daemon.start();
+
+		Instant lastEndTime = Instant.now().plusSeconds(60);
+		reportFork(daemon.getPort(), "first fork", Instant.now());
+		reportFork(daemon.getPort(), "second fork", lastEndTime);
+		daemon.close();
+
+		List<ReportingEvent> events = target.getEvents();
+		List<ReportingEvent.Type> types = events.stream().map(ReportingEvent::getType).collect(Collectors.toList());
+		assertThat(types.stream().filter(t -> t == ReportingEvent.Type.START_LAUNCH).count(), equalTo(1L));
+		assertThat(types.get(0), equalTo(ReportingEvent.Type.START_LAUNCH));
+		assertThat(types.get(types.size() - 1), equalTo(ReportingEvent.Type.FINISH_LAUNCH));
+		assertThat(types.stream().filter(t -> t == ReportingEvent.Type.FINISH_LAUNCH).count(), equalTo(1L));
+
+		List<String> items = events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.START_ITEM)
+				.map(e -> ((StartTestItemRQ) e.getRequest()).getName())
+				.collect(Collectors.toList());
+		assertThat(items, containsInAnyOrder("first fork", "second fork"));
+		List<String> logs = events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.LOG)
+				.map(e -> ((SaveLogRQ) e.getRequest()).getMessage())
+				.collect(Collectors.toList());
+		assertThat(logs, containsInAnyOrder("first fork log", "second fork log"));
+		assertThat(events.stream().filter(e -> e.getType() == ReportingEvent.Type.FINISH_ITEM).count(), equalTo(2L));
+
+		FinishExecutionRQ finishRq = (FinishExecutionRQ) events.get(events.size() - 1).getRequest();
+		assertThat(ReportingEventReplayer.toInstant(finishRq.getEndTime()), equalTo(lastEndTime));
+	}
+
+	@Test
+	public void verify_uploader_delivers_all_operations_with_single_queue_slot() throws Exception {
+		MemoryReportingSink target = new MemoryReportingSink() {
+			@Override
+			protected void write(@Nonnull ReportingEvent event) {
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.write(event);
+			}
+		};
+		UploaderDaemon daemon = new UploaderDaemon(() -> target, 0, Duration.ofSeconds(5), 1);
+		daemon.start();
+
+		reportFork(daemon.getPort(), "first fork", Instant.now());
+		reportFork(daemon.getPort(), "second fork", Instant.now());
+		daemon.close();
+
+		List<ReportingEvent.Type> types = target.getEvents().stream().map(ReportingEvent::getType).collect(Collectors.toList());
+		assertThat(types, hasSize(8));
+		assertThat(types.get(0), equalTo(ReportingEvent.Type.START_LAUNCH));
+		assertThat(types.get(types.size() - 1), equalTo(ReportingEvent.Type.FINISH_LAUNCH));
+	}
+}
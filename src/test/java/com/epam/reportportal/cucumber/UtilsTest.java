@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.cucumber;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+public class UtilsTest {
+
+	@Test
+	public void verify_multiple_tags_on_one_line() {
+		String source = "@smoke @regression\t@ui\n@slow\nFeature: Tags\n\n  Scenario: One\n    Given a step\n";
+
+		assertThat(Utils.getTags(source, "Feature"), containsInAnyOrder("@smoke", "@regression", "@ui", "@slow"));
+	}
+
+	@Test
+	public void verify_comments_are_not_tags() {
+		String source = "# language: en\n# @commented\n@smoke # @not_a_tag comment\n  @indented\r\nFeature: Tags\n";
+
+		assertThat(Utils.getTags(source, "Feature"), containsInAnyOrder("@smoke", "@indented"));
+	}
+
+	@Test
+	public void verify_tags_of_other_keywords_are_not_collected() {
+		String source = "@feature\nFeature: Tags\n\n  @rule\n  Rule: A rule\n\n    @scenario\n    Scenario: One\n      Given a step\n";
+
+		assertThat(Utils.getTags(source, "Feature"), containsInAnyOrder("@feature"));
+	}
+
+	@Test
+	public void verify_tags_before_the_requested_keyword_only() {
+		String source = "@first\n@second\nFonctionnalité: Étiquettes\n";
+
+		assertThat(Utils.getTags(source, "Fonctionnalité"), containsInAnyOrder("@first", "@second"));
+	}
+
+	@Test
+	public void verify_source_without_tags() {
+		assertThat(Utils.getTags("Feature: No tags\n\n  Scenario: One\n    Given a step\n", "Feature"), empty());
+		assertThat(Utils.getTags("", "Feature"), empty());
+	}
+}
@@ -16,11 +16,11 @@
 
 package com.epam.reportportal.cucumber.integration;
 
+import com.epam.reportportal.cucumber.FeatureContext;
 import com.epam.reportportal.cucumber.ScenarioReporter;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.util.test.CommonUtils;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
-import io.cucumber.core.gherkin.Feature;
 import jakarta.annotation.Nonnull;
 
 import java.net.URI;
@@ -35,7 +35,7 @@ public class TestScenarioReporterWithPause extends ScenarioReporter {
 
 	@Override
 	@Nonnull
-	protected StartTestItemRQ buildStartFeatureRequest(@Nonnull Feature feature, @Nonnull URI uri) {
+	protected StartTestItemRQ buildStartFeatureRequest(@Nonnull FeatureContext feature, @Nonnull URI uri) {
 		StartTestItemRQ result = super.buildStartFeatureRequest(feature, uri);
 		try {
 			Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE);
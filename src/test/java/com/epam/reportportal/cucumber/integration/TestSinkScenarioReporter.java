@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration;
+
+import com.epam.reportportal.cucumber.ReporterParameters;
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.sink.MemoryReportingSink;
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
+import com.epam.reportportal.cucumber.sink.ReportingSink;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.mock;
+
+public class TestSinkScenarioReporter extends ScenarioReporter {
+	public static final ThreadLocal<ReportPortal> RP = new ThreadLocal<>();
+	public static final ThreadLocal<ReportingSink> SINK = new ThreadLocal<>();
+	public static final ThreadLocal<ReporterParameters> PARAMETERS = new ThreadLocal<>();
+
+	/**
+	 * Runs Cucumber test classes, which use this reporter, on the current thread.
+	 *
+	 * @param client     client of the reporter's ReportPortal instance
+	 * @param sink       sink to report into
+	 * @param parameters reporter parameters, or null for the parameters from the properties file
+	 * @param tests      Cucumber test classes
+	 */
+	public static void run(@Nonnull ReportPortalClient client, @Nonnull ReportingSink sink, @Nullable ReporterParameters parameters,
+			@Nonnull Class<?>... tests) {
+		ExecutorService executorService = init(client, sink, parameters);
+		try {
+			TestUtils.runTests(tests);
+		} finally {
+			reset(executorService);
+		}
+	}
+
+	/**
+	 * Calls an action, which creates this reporter on the current thread, e.g. to replay recorded events.
+	 *
+	 * @param client     client of the reporter's ReportPortal instance
+	 * @param sink       sink to report into
+	 * @param parameters reporter parameters, or null for the parameters from the properties file
+	 * @param action     action to call
+	 * @param <T>        action result type
+	 * @return action result
+	 * @throws Exception if the action fails
+	 */
+	public static <T> T call(@Nonnull ReportPortalClient client, @Nonnull ReportingSink sink, @Nullable ReporterParameters parameters,
+			@Nonnull Callable<T> action) throws Exception {
+		ExecutorService executorService = init(client, sink, parameters);
+		try {
+			return action.call();
+		} finally {
+			reset(executorService);
+		}
+	}
+
+	private static ExecutorService init(ReportPortalClient client, ReportingSink sink, ReporterParameters parameters) {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		RP.set(ReportPortal.create(client, TestUtils.standardParameters(), executorService));
+		SINK.set(sink);
+		PARAMETERS.set(parameters);
+		return executorService;
+	}
+
+	private static void reset(ExecutorService executorService) {
+		RP.remove();
+		SINK.remove();
+		PARAMETERS.remove();
+		executorService.shutdown();
+	}
+
+	/**
+	 * Runs Cucumber test classes, which use this reporter, with a mock client.
+	 *
+	 * @param sink       sink to report into
+	 * @param parameters reporter parameters, or null for the parameters from the properties file
+	 * @param tests      Cucumber test classes
+	 */
+	public static void run(@Nonnull ReportingSink sink, @Nullable ReporterParameters parameters, @Nonnull Class<?>... tests) {
+		run(mock(ReportPortalClient.class), sink, parameters, tests);
+	}
+
+	/**
+	 * Runs Cucumber test classes, which use this reporter, with a mock client and an in-memory sink.
+	 *
+	 * @param parameters reporter parameters, or null for the parameters from the properties file
+	 * @param tests      Cucumber test classes
+	 * @return reported operations
+	 */
+	@Nonnull
+	public static List<ReportingEvent> run(@Nullable ReporterParameters parameters, @Nonnull Class<?>... tests) {
+		MemoryReportingSink sink = new MemoryReportingSink();
+		run(sink, parameters, tests);
+		return sink.getEvents();
+	}
+
+	@Override
+	protected ReportPortal buildReportPortal() {
+		return RP.get();
+	}
+
+	@Override
+	@Nonnull
+	protected ReportingSink buildReportingSink() {
+		return SINK.get();
+	}
+
+	@Override
+	@Nonnull
+	protected ReporterParameters buildReporterParameters() {
+		ReporterParameters parameters = PARAMETERS.get();
+		return parameters == null ? super.buildReporterParameters() : parameters;
+	}
+}
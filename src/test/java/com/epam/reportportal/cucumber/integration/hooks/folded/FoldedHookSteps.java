@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.hooks.folded;
+
+import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class FoldedHookSteps {
+
+	@Before(order = 1)
+	public void my_empty_before_hook() {
+	}
+
+	@Before(order = 2)
+	public void my_before_hook_with_output(Scenario scenario) {
+		scenario.log("Inside 'my_before_hook_with_output'");
+	}
+
+	@BeforeStep
+	public void my_before_step_hook(Scenario scenario) {
+		scenario.log("Inside 'my_before_step_hook'");
+	}
+
+	@AfterStep
+	public void my_empty_after_step_hook() {
+	}
+
+	@After
+	public void my_empty_after_hook() {
+	}
+
+	@Given("I have empty step")
+	public void i_have_empty_step() {
+	}
+
+	@Then("I have another empty step")
+	public void i_have_another_empty_step() {
+	}
+}
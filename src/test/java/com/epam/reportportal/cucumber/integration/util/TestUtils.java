@@ -16,12 +16,16 @@
 
 package com.epam.reportportal.cucumber.integration.util;
 
+import com.epam.reportportal.cucumber.sink.ReportingEvent;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.utils.http.HttpRequestUtils;
 import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
 import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
@@ -36,6 +40,7 @@ import org.testng.TestNG;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -176,4 +181,45 @@ public class TestUtils {
 	public static List<SaveLogRQ> filterLogs(ArgumentCaptor<List<MultipartBody.Part>> logCaptor, Predicate<SaveLogRQ> filter) {
 		return logCaptor.getAllValues().stream().flatMap(l -> extractJsonParts(l).stream()).filter(filter).collect(Collectors.toList());
 	}
+
+	public static List<ReportingEvent> filterEvents(List<ReportingEvent> events, ReportingEvent.Type type) {
+		return events.stream().filter(e -> e.getType() == type).collect(Collectors.toList());
+	}
+
+	public static <T> List<T> extractEvents(List<ReportingEvent> events, ReportingEvent.Type type, Function<ReportingEvent, T> mapper) {
+		return events.stream().filter(e -> e.getType() == type).map(mapper).collect(Collectors.toList());
+	}
+
+	public static List<StartTestItemRQ> startItemRequests(List<ReportingEvent> events) {
+		return filterEvents(events, ReportingEvent.Type.START_ITEM).stream()
+				.map(e -> (StartTestItemRQ) e.getRequest())
+				.collect(Collectors.toList());
+	}
+
+	public static FinishTestItemRQ finishItemRequest(List<ReportingEvent> events, String itemId) {
+		return events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.FINISH_ITEM && itemId.equals(e.getItemId()))
+				.map(e -> (FinishTestItemRQ) e.getRequest())
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Item is not finished: " + itemId));
+	}
+
+	public static FinishExecutionRQ finishLaunchRequest(List<ReportingEvent> events) {
+		return events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.FINISH_LAUNCH)
+				.map(e -> (FinishExecutionRQ) e.getRequest())
+				.findAny()
+				.orElseThrow(() -> new AssertionError("Launch is not finished"));
+	}
+
+	public static List<SaveLogRQ> logRequests(List<ReportingEvent> events, String itemId) {
+		return events.stream()
+				.filter(e -> e.getType() == ReportingEvent.Type.LOG && itemId.equals(e.getItemId()))
+				.map(e -> (SaveLogRQ) e.getRequest())
+				.collect(Collectors.toList());
+	}
+
+	public static List<String> logMessages(List<ReportingEvent> events, String itemId) {
+		return logRequests(events, itemId).stream().map(SaveLogRQ::getMessage).collect(Collectors.toList());
+	}
 }
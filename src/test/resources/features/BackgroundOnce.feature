@@ -0,0 +1,13 @@
+Feature: Test background reported once per feature
+
+  Background: Init our scenario
+    Given I have empty step
+
+  Scenario: The first scenario
+    Then I have another empty step
+
+  Scenario: The second scenario
+    Then I have one more empty step
+
+  Scenario: The third scenario
+    Then I have another empty step
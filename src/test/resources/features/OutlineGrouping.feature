@@ -0,0 +1,13 @@
+Feature: Test grouping of scenario outline examples
+
+  Scenario Outline: Outline with a failed example
+    Given <step>
+
+    Examples: First block
+      | step                 |
+      | I have empty step    |
+      | I have a failed step |
+
+    Examples: Second block
+      | step              |
+      | I have empty step |
@@ -0,0 +1,33 @@
+Feature: Test grouping of scenario outline examples which run in parallel
+
+  Scenario Outline: First parallel outline
+    Given <step>
+    When I have one more empty step
+    Then I have another empty step
+
+    Examples:
+      | step                 |
+      | I have empty step    |
+      | I have a failed step |
+      | I have empty step    |
+      | I have empty step    |
+      | I have empty step    |
+      | I have a failed step |
+      | I have empty step    |
+      | I have empty step    |
+
+  Scenario Outline: Second parallel outline
+    Given <step>
+    Then I have another empty step
+
+    Examples: First block
+      | step                 |
+      | I have empty step    |
+      | I have a failed step |
+      | I have empty step    |
+
+    Examples: Second block
+      | step              |
+      | I have empty step |
+      | I have empty step |
+      | I have empty step |
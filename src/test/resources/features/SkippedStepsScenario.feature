@@ -0,0 +1,7 @@
+Feature: Test steps skipped after a failure
+
+  Scenario: The scenario with skipped steps
+    Given I have empty step
+    Then I have a failed step
+    When I have one more empty step
+    Then I have another empty step